@@ -1,12 +1,25 @@
 package com.github.stefvanschie.inventoryframework;
 
+import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.io.BukkitObjectInputStream;
+import org.bukkit.util.io.BukkitObjectOutputStream;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * A class for containing players and their inventory state for later use
@@ -16,11 +29,28 @@ import java.util.Map;
 public class HumanEntityCache {
 
     /**
-     * A map containing the player's and their inventory contents. The ItemStack[] contains only the hotbar and
-     * inventory contents. 0-8 is the hotbar, with 9-35 being the inventory both starting in the top-left corner and
-     * continuing in reading order.
+     * The amount of slots in the storage contents of a player inventory: the hotbar and the main inventory
      */
-    private final Map<HumanEntity, ItemStack[]> inventories = new HashMap<>();
+    private static final int STORAGE_SIZE = 36;
+
+    /**
+     * A map containing the cached inventories by the unique id of the human entity they belong to.
+     */
+    @NotNull
+    private final Map<UUID, CachedInventory> inventories = new HashMap<>();
+
+    /**
+     * The journal recording stashed inventories, or null if inventories are only kept in memory
+     */
+    @Nullable
+    private static volatile InventoryJournal journal;
+
+    /**
+     * The unique ids of the human entities whose inventory in the journal was stashed by this cache. When a human
+     * entity's inventory is stored by multiple caches, only the first one is recorded, since that's the real inventory.
+     */
+    @NotNull
+    private final Set<UUID> journaled = new HashSet<>();
 
     /**
      * Stores this player's inventory in the cache. If the player was already stored, their cache will be overwritten.
@@ -31,10 +61,7 @@ public class HumanEntityCache {
     public void storeAndClear(@NotNull HumanEntity humanEntity) {
         store(humanEntity);
 
-        Inventory inventory = humanEntity.getInventory();
-        for (int i = 0; i < 36; i++) {
-            inventory.clear(i);
-        }
+        humanEntity.getInventory().setStorageContents(new ItemStack[STORAGE_SIZE]);
     }
 
     /**
@@ -75,56 +102,47 @@ public class HumanEntityCache {
      * @since 0.6.1
      */
     public int add(@NotNull HumanEntity humanEntity, @NotNull ItemStack item) {
-        ItemStack[] items = inventories.get(humanEntity);
+        CachedInventory cachedInventory = inventories.get(humanEntity.getUniqueId());
 
-        if (items == null) {
+        if (cachedInventory == null) {
             throw new IllegalStateException("The human entity '" + humanEntity.getUniqueId().toString() +
                 "' does not have a cached inventory");
         }
 
-        int amountPutIn = 0;
-
-        for (int i = 0; i < items.length; i++) {
-            ItemStack itemStack = items[i];
-
-            if (itemStack == null) {
-                items[i] = item.clone();
-                items[i].setAmount(item.getAmount() - amountPutIn);
-                amountPutIn = item.getAmount();
-                break;
-            }
-
-            if (!itemStack.isSimilar(item)) {
-                continue;
-            }
-
-            int additionalAmount = Math.min(itemStack.getMaxStackSize() - itemStack.getAmount(), item.getAmount());
+        int leftOver = cachedInventory.add(item);
 
-            itemStack.setAmount(itemStack.getAmount() + additionalAmount);
-            amountPutIn += additionalAmount;
-
-            if (amountPutIn == item.getAmount()) {
-                break;
-            }
+        if (leftOver < item.getAmount()) {
+            journal(humanEntity.getUniqueId(), cachedInventory);
         }
 
-        return item.getAmount() - amountPutIn;
+        return leftOver;
     }
 
     /**
      * Stores this player's inventory in the cache. If the player was already stored, their cache will be overwritten.
+     * The hotbar and main inventory are read in a single operation.
      *
      * @param humanEntity the human entity to keep in the cache
      * @since 0.4.0
      */
     public void store(@NotNull HumanEntity humanEntity) {
-        ItemStack[] items = new ItemStack[36];
+        ItemStack[] storageContents = humanEntity.getInventory().getStorageContents();
+        ItemStack[] items = new ItemStack[STORAGE_SIZE];
 
-        for (int i = 0 ; i < 36; i++) {
-            items[i] = humanEntity.getInventory().getItem(i);
-        }
+        System.arraycopy(storageContents, 0, items, 0, Math.min(storageContents.length, STORAGE_SIZE));
+
+        CachedInventory cachedInventory = new CachedInventory(humanEntity, items);
+
+        inventories.put(humanEntity.getUniqueId(), cachedInventory);
+
+        InventoryJournal journal = HumanEntityCache.journal;
+        UUID uniqueId = humanEntity.getUniqueId();
+
+        if (journal != null && (this.journaled.contains(uniqueId) || !journal.contains(uniqueId))) {
+            this.journaled.add(uniqueId);
 
-        inventories.put(humanEntity, items);
+            journal(uniqueId, cachedInventory);
+        }
     }
 
     /**
@@ -135,15 +153,13 @@ public class HumanEntityCache {
      * @since 0.4.0
      */
     private void restore(@NotNull HumanEntity humanEntity) {
-        ItemStack[] items = inventories.get(humanEntity);
+        CachedInventory cachedInventory = inventories.get(humanEntity.getUniqueId());
 
-        if (items == null) {
+        if (cachedInventory == null) {
             return;
         }
 
-        for (int i = 0; i < items.length; i++) {
-            humanEntity.getInventory().setItem(i, items[i]);
-        }
+        humanEntity.getInventory().setStorageContents(cachedInventory.items);
     }
 
     /**
@@ -152,7 +168,9 @@ public class HumanEntityCache {
      * @since 0.4.0
      */
     private void restoreAll() {
-        inventories.keySet().forEach(this::restore);
+        for (CachedInventory cachedInventory : inventories.values()) {
+            cachedInventory.humanEntity.getInventory().setStorageContents(cachedInventory.items);
+        }
     }
 
     /**
@@ -163,7 +181,7 @@ public class HumanEntityCache {
      * @since 0.10.7
      */
     public boolean contains(@NotNull HumanEntity humanEntity) {
-        return this.inventories.containsKey(humanEntity);
+        return this.inventories.containsKey(humanEntity.getUniqueId());
     }
 
     /**
@@ -173,7 +191,15 @@ public class HumanEntityCache {
      * @since 0.4.0
      */
     public void clearCache(@NotNull HumanEntity humanEntity) {
-        inventories.remove(humanEntity);
+        UUID uniqueId = humanEntity.getUniqueId();
+
+        inventories.remove(uniqueId);
+
+        InventoryJournal journal = HumanEntityCache.journal;
+
+        if (this.journaled.remove(uniqueId) && journal != null) {
+            journal.recordRestore(uniqueId);
+        }
     }
 
     /**
@@ -183,5 +209,366 @@ public class HumanEntityCache {
      */
     private void clearCache() {
         inventories.clear();
+
+        InventoryJournal journal = HumanEntityCache.journal;
+
+        if (journal != null) {
+            for (UUID uniqueId : this.journaled) {
+                journal.recordRestore(uniqueId);
+            }
+        }
+
+        this.journaled.clear();
+    }
+
+    /**
+     * Records the specified inventory as the stashed inventory of the specified human entity, if this cache is
+     * responsible for the human entity's inventory in the journal.
+     *
+     * @param uniqueId the unique id of the human entity
+     * @param cachedInventory the inventory to record
+     * @since 0.11.3
+     */
+    private void journal(@NotNull UUID uniqueId, @NotNull CachedInventory cachedInventory) {
+        InventoryJournal journal = HumanEntityCache.journal;
+
+        if (journal == null || !this.journaled.contains(uniqueId)) {
+            return;
+        }
+
+        journal.recordStash(uniqueId, cachedInventory.serialize());
+    }
+
+    /**
+     * Sets the journal in which all human entity caches record the inventories they store, so the inventories can be
+     * restored after the server crashes. When the server starts again, inventories that were stored but never restored
+     * are given back to their owner once they join via {@link #restoreFromJournal(HumanEntity)}. By default, no journal
+     * is used and inventories are only kept in memory. The journal is not closed by IF; the plugin owning it should
+     * close it when disabling.
+     *
+     * @param journal the journal to use, or null to stop using a journal
+     * @since 0.11.3
+     */
+    public static void setJournal(@Nullable InventoryJournal journal) {
+        HumanEntityCache.journal = journal;
+    }
+
+    /**
+     * Gets the journal in which stored inventories are recorded, or null if no journal is used.
+     *
+     * @return the journal or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static InventoryJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Restores the inventory of the specified human entity from the journal, if the journal has a stored inventory for
+     * this human entity. This is the case when the server stopped before the inventory could be restored, for example
+     * because it crashed. The human entity's hotbar and main inventory are replaced by the stored items.
+     *
+     * @param humanEntity the human entity to restore the inventory of
+     * @return true if an inventory was restored, false otherwise
+     * @throws UncheckedIOException if the stored items can't be read
+     * @since 0.11.3
+     */
+    public static boolean restoreFromJournal(@NotNull HumanEntity humanEntity) {
+        InventoryJournal journal = HumanEntityCache.journal;
+
+        if (journal == null) {
+            return false;
+        }
+
+        UUID uniqueId = humanEntity.getUniqueId();
+        byte[] items = journal.getStash(uniqueId);
+
+        if (items == null) {
+            return false;
+        }
+
+        humanEntity.getInventory().setStorageContents(deserialize(items));
+
+        journal.recordRestore(uniqueId);
+
+        return true;
+    }
+
+    /**
+     * Serializes a single item for storing it in the journal. Every slot is serialized on its own, so a slot only has
+     * to be serialized again when it changes. An empty slot is serialized as zero bytes.
+     *
+     * @param item the item to serialize, or null for an empty slot
+     * @return the serialized item
+     * @throws UncheckedIOException if the item can't be serialized
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static byte[] serialize(@Nullable ItemStack item) {
+        if (item == null) {
+            return new byte[0];
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (BukkitObjectOutputStream objectOutputStream = new BukkitObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(item);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Deserializes items previously serialized by {@link CachedInventory#serialize()}: the amount of slots, followed
+     * by the length and bytes of every slot as serialized by {@link #serialize(ItemStack)}.
+     *
+     * @param bytes the serialized items
+     * @return the items
+     * @throws UncheckedIOException if the items can't be deserialized
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static ItemStack[] deserialize(@NotNull byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int slots = buffer.getInt();
+        ItemStack[] items = new ItemStack[Math.min(slots, STORAGE_SIZE)];
+
+        for (int index = 0; index < items.length; index++) {
+            int length = buffer.getInt();
+
+            if (length == 0) {
+                continue;
+            }
+
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(bytes, buffer.position(), length);
+
+            try (BukkitObjectInputStream objectInputStream = new BukkitObjectInputStream(inputStream)) {
+                items[index] = (ItemStack) objectInputStream.readObject();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            } catch (ClassNotFoundException exception) {
+                throw new UncheckedIOException(new IOException(exception));
+            }
+
+            buffer.position(buffer.position() + length);
+        }
+
+        return items;
+    }
+
+    /**
+     * The cached inventory of a single human entity. The items contain only the hotbar and inventory contents. 0-8 is
+     * the hotbar, with 9-35 being the inventory both starting in the top-left corner and continuing in reading order.
+     *
+     * @since 0.11.3
+     */
+    private static final class CachedInventory {
+
+        /**
+         * The human entity this inventory belongs to
+         */
+        @NotNull
+        private final HumanEntity humanEntity;
+
+        /**
+         * The cached items
+         */
+        @NotNull
+        private final ItemStack[] items;
+
+        /**
+         * The slots containing stacks which aren't full yet by the type of the stack, or null if this index hasn't been
+         * built yet. The index is only built once items are added, since most cached inventories never have items
+         * added to them.
+         */
+        @Nullable
+        private Map<Material, BitSet> partialSlots;
+
+        /**
+         * The first slot without an item, or the amount of slots if every slot has an item. Only valid once the index
+         * of partial slots has been built.
+         */
+        private int firstEmptySlot;
+
+        /**
+         * The serialized item of every slot, or null if this inventory hasn't been serialized yet
+         */
+        @Nullable
+        private byte[][] serializedSlots;
+
+        /**
+         * The slots that changed since this inventory was last serialized
+         */
+        @NotNull
+        private final BitSet changedSlots = new BitSet();
+
+        /**
+         * Creates a new cached inventory.
+         *
+         * @param humanEntity the human entity the inventory belongs to
+         * @param items the cached items
+         * @since 0.11.3
+         */
+        private CachedInventory(@NotNull HumanEntity humanEntity, @NotNull ItemStack[] items) {
+            this.humanEntity = humanEntity;
+            this.items = items;
+        }
+
+        /**
+         * Adds the given item stack to this inventory. The item is first added to existing stacks which are similar to
+         * the item, in the order of their slots. Whatever remains is put into the first empty slot. Only stacks before
+         * the first empty slot are considered, so the item ends up in the same slots as when it would have been added
+         * to the inventory slot by slot.
+         *
+         * @param item the item to add
+         * @return the amount of items that couldn't be added
+         * @since 0.11.3
+         */
+        private int add(@NotNull ItemStack item) {
+            Map<Material, BitSet> partialSlots = this.partialSlots;
+
+            if (partialSlots == null) {
+                partialSlots = buildIndex();
+            }
+
+            Material type = item.getType();
+            BitSet slots = partialSlots.get(type);
+            int remaining = item.getAmount();
+
+            if (slots != null) {
+                int slot = slots.nextSetBit(0);
+
+                while (slot >= 0 && slot < this.firstEmptySlot && remaining > 0) {
+                    ItemStack itemStack = this.items[slot];
+
+                    if (itemStack.isSimilar(item)) {
+                        int additionalAmount = Math.min(itemStack.getMaxStackSize() - itemStack.getAmount(), remaining);
+
+                        itemStack.setAmount(itemStack.getAmount() + additionalAmount);
+                        remaining -= additionalAmount;
+
+                        if (additionalAmount > 0) {
+                            this.changedSlots.set(slot);
+                        }
+
+                        if (itemStack.getAmount() >= itemStack.getMaxStackSize()) {
+                            slots.clear(slot);
+                        }
+                    }
+
+                    slot = slots.nextSetBit(slot + 1);
+                }
+            }
+
+            if (remaining == 0 || this.firstEmptySlot >= this.items.length) {
+                return remaining;
+            }
+
+            ItemStack itemStack = item.clone();
+            itemStack.setAmount(remaining);
+
+            this.items[this.firstEmptySlot] = itemStack;
+            this.changedSlots.set(this.firstEmptySlot);
+
+            if (itemStack.getAmount() < itemStack.getMaxStackSize()) {
+                partialSlots.computeIfAbsent(type, key -> new BitSet(this.items.length)).set(this.firstEmptySlot);
+            }
+
+            this.firstEmptySlot = findEmptySlot(this.firstEmptySlot + 1);
+
+            return 0;
+        }
+
+        /**
+         * Serializes this inventory for storing it in the journal. Only the slots that changed since the last time
+         * this inventory was serialized are serialized again; the other slots reuse their previously serialized bytes.
+         *
+         * @return the serialized items
+         * @throws UncheckedIOException if the items can't be serialized
+         * @since 0.11.3
+         */
+        @NotNull
+        private byte[] serialize() {
+            byte[][] serializedSlots = this.serializedSlots;
+
+            if (serializedSlots == null) {
+                serializedSlots = new byte[this.items.length][];
+
+                this.serializedSlots = serializedSlots;
+                this.changedSlots.set(0, this.items.length);
+            }
+
+            for (int slot = this.changedSlots.nextSetBit(0); slot >= 0; slot = this.changedSlots.nextSetBit(slot + 1)) {
+                serializedSlots[slot] = HumanEntityCache.serialize(this.items[slot]);
+            }
+
+            this.changedSlots.clear();
+
+            int size = Integer.BYTES;
+
+            for (byte[] serializedSlot : serializedSlots) {
+                size += Integer.BYTES + serializedSlot.length;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            buffer.putInt(serializedSlots.length);
+
+            for (byte[] serializedSlot : serializedSlots) {
+                buffer.putInt(serializedSlot.length);
+                buffer.put(serializedSlot);
+            }
+
+            return buffer.array();
+        }
+
+        /**
+         * Builds the index of the slots containing stacks which aren't full yet and finds the first empty slot.
+         *
+         * @return the index of partial slots
+         * @since 0.11.3
+         */
+        @NotNull
+        private Map<Material, BitSet> buildIndex() {
+            Map<Material, BitSet> partialSlots = new HashMap<>();
+
+            for (int slot = 0; slot < this.items.length; slot++) {
+                ItemStack itemStack = this.items[slot];
+
+                if (itemStack == null || itemStack.getAmount() >= itemStack.getMaxStackSize()) {
+                    continue;
+                }
+
+                partialSlots.computeIfAbsent(itemStack.getType(), key -> new BitSet(this.items.length)).set(slot);
+            }
+
+            this.partialSlots = partialSlots;
+            this.firstEmptySlot = findEmptySlot(0);
+
+            return partialSlots;
+        }
+
+        /**
+         * Finds the first slot without an item, starting from the specified slot.
+         *
+         * @param from the slot to start searching from
+         * @return the first empty slot, or the amount of slots if there is no empty slot
+         * @since 0.11.3
+         */
+        @Contract(pure = true)
+        private int findEmptySlot(int from) {
+            for (int slot = from; slot < this.items.length; slot++) {
+                if (this.items[slot] == null) {
+                    return slot;
+                }
+            }
+
+            return this.items.length;
+        }
     }
 }
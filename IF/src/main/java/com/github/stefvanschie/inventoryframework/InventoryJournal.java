@@ -0,0 +1,670 @@
+package com.github.stefvanschie.inventoryframework;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal of stashed player inventories, backed by a memory-mapped file. Every time an inventory is
+ * stashed or restored, a record is appended to the journal. Records are written to the mapped file directly, so they
+ * survive the server process crashing. When the journal is opened, the records are replayed in a single sequential
+ * pass, after which the inventories that were stashed but never restored are available via {@link #getStash(UUID)}.
+ * <p>
+ * The content of a stash is opaque to the journal; it's up to the caller to serialize and deserialize the items. Once
+ * no inventories are stashed anymore the journal starts over from the beginning of the file, and when the journal
+ * mostly consists of records that are no longer relevant it's rewritten in place with only the current stashes, so the
+ * file stops growing.
+ *
+ * @since 0.11.3
+ */
+public final class InventoryJournal implements Closeable {
+
+    /**
+     * The value identifying a journal file, the characters "IFJ1"
+     */
+    private static final int MAGIC = 0x49464A31;
+
+    /**
+     * The size of the file header in bytes: the magic value and the generation
+     */
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    /**
+     * The offset of the generation in the file header. The generation is increased every time the journal is compacted.
+     */
+    private static final int GENERATION_OFFSET = Integer.BYTES;
+
+    /**
+     * The size of everything in a record except for its payload in bytes: the length, type, unique id and checksum
+     */
+    private static final int RECORD_OVERHEAD = Integer.BYTES + Byte.BYTES + Long.BYTES * 2 + Integer.BYTES;
+
+    /**
+     * The amount of bytes the file is initially mapped with
+     */
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /**
+     * The size the journal should have before it is considered for compaction
+     */
+    private static final int COMPACTION_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The record type indicating an inventory was stashed
+     */
+    private static final byte STASH = 1;
+
+    /**
+     * The record type indicating an inventory was restored
+     */
+    private static final byte RESTORE = 2;
+
+    /**
+     * The file backing this journal
+     */
+    @NotNull
+    private final Path file;
+
+    /**
+     * The logger to report failed compactions to
+     */
+    @NotNull
+    private final Logger logger;
+
+    /**
+     * The current stashes by the unique id of the human entity they belong to
+     */
+    @NotNull
+    private final Map<UUID, byte[]> stashes = new LinkedHashMap<>();
+
+    /**
+     * The checksum used for writing records
+     */
+    @NotNull
+    private final CRC32 checksum = new CRC32();
+
+    /**
+     * The channel of the file, or null once this journal is closed
+     */
+    @Nullable
+    private FileChannel channel;
+
+    /**
+     * The mapped region of the file
+     */
+    @NotNull
+    private MappedByteBuffer buffer;
+
+    /**
+     * The total size of the payloads of the current stashes in bytes
+     */
+    private long stashedBytes;
+
+    /**
+     * The size the journal has to reach before compacting it is attempted again, after compacting it failed
+     */
+    private long nextCompaction;
+
+    /**
+     * Creates a new journal, replaying the records already in the file.
+     *
+     * @param file the file backing this journal
+     * @param logger the logger to report failed compactions to
+     * @throws IOException if the file can't be read or written
+     * @since 0.11.3
+     */
+    private InventoryJournal(@NotNull Path file, @NotNull Logger logger) throws IOException {
+        this.file = file;
+        this.logger = logger;
+        this.channel = openChannel(file);
+
+        long size = this.channel.size();
+
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_CAPACITY));
+
+        Path compactedFile = getCompactedFile();
+
+        if (size < HEADER_SIZE || this.buffer.getInt(0) != MAGIC) {
+            Files.deleteIfExists(compactedFile);
+
+            this.buffer.putInt(0, MAGIC);
+            this.buffer.putInt(GENERATION_OFFSET, 0);
+            this.buffer.position(HEADER_SIZE);
+            clear(HEADER_SIZE, this.buffer.capacity());
+            return;
+        }
+
+        if (Files.exists(compactedFile)) {
+            ByteBuffer compacted = ByteBuffer.wrap(Files.readAllBytes(compactedFile));
+            int generation = this.buffer.getInt(GENERATION_OFFSET) + 1;
+
+            if (compacted.remaining() >= HEADER_SIZE && compacted.getInt(0) == MAGIC &&
+                compacted.getInt(GENERATION_OFFSET) == generation) {
+                install(compacted, this.buffer.capacity());
+            }
+
+            Files.delete(compactedFile);
+        }
+
+        this.buffer.position(HEADER_SIZE);
+
+        replay();
+    }
+
+    /**
+     * Opens the journal backed by the specified file. If the file doesn't exist or isn't a journal, a new journal is
+     * created. Otherwise, the existing records are replayed. A partially written record at the end of the file, for
+     * example because the server crashed while writing it, is discarded along with everything after it. Failed
+     * compactions are reported to the logger of this class.
+     *
+     * @param file the file backing the journal
+     * @return the journal
+     * @throws IOException if the file can't be read or written
+     * @see #open(Path, Logger)
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static InventoryJournal open(@NotNull Path file) throws IOException {
+        return open(file, Logger.getLogger(InventoryJournal.class.getName()));
+    }
+
+    /**
+     * Opens the journal backed by the specified file, like {@link #open(Path)}. When compacting the journal fails while
+     * recording a stash or restore, the failure is reported to the specified logger, typically the logger of the plugin
+     * owning the journal, and the record is appended anyway.
+     *
+     * @param file the file backing the journal
+     * @param logger the logger to report failed compactions to
+     * @return the journal
+     * @throws IOException if the file can't be read or written
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static InventoryJournal open(@NotNull Path file, @NotNull Logger logger) throws IOException {
+        return new InventoryJournal(file, logger);
+    }
+
+    /**
+     * Records that the inventory of the specified human entity was stashed. Any previous stash of this human entity is
+     * replaced.
+     *
+     * @param uniqueId the unique id of the human entity
+     * @param items the serialized items
+     * @throws UncheckedIOException if the journal can't be written
+     * @throws IllegalStateException if this journal is closed
+     * @since 0.11.3
+     */
+    public synchronized void recordStash(@NotNull UUID uniqueId, @NotNull byte[] items) {
+        ensureOpen();
+
+        byte[] previous = this.stashes.put(uniqueId, items.clone());
+
+        if (previous != null) {
+            this.stashedBytes -= previous.length;
+        }
+
+        this.stashedBytes += items.length;
+
+        append(STASH, uniqueId, items);
+    }
+
+    /**
+     * Records that the inventory of the specified human entity was restored. If the inventory of this human entity
+     * isn't stashed, this does nothing.
+     *
+     * @param uniqueId the unique id of the human entity
+     * @throws UncheckedIOException if the journal can't be written
+     * @throws IllegalStateException if this journal is closed
+     * @since 0.11.3
+     */
+    public synchronized void recordRestore(@NotNull UUID uniqueId) {
+        ensureOpen();
+
+        byte[] previous = this.stashes.remove(uniqueId);
+
+        if (previous == null) {
+            return;
+        }
+
+        this.stashedBytes -= previous.length;
+
+        if (this.stashes.isEmpty()) {
+            int end = this.buffer.position();
+
+            this.buffer.position(HEADER_SIZE);
+            clear(HEADER_SIZE, end);
+            return;
+        }
+
+        append(RESTORE, uniqueId, new byte[0]);
+    }
+
+    /**
+     * Gets the stashed inventory of the specified human entity, or null if its inventory isn't stashed.
+     *
+     * @param uniqueId the unique id of the human entity
+     * @return the serialized items or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public synchronized byte[] getStash(@NotNull UUID uniqueId) {
+        byte[] items = this.stashes.get(uniqueId);
+
+        return items == null ? null : items.clone();
+    }
+
+    /**
+     * Checks whether the inventory of the specified human entity is stashed.
+     *
+     * @param uniqueId the unique id of the human entity
+     * @return true if the inventory is stashed, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public synchronized boolean contains(@NotNull UUID uniqueId) {
+        return this.stashes.containsKey(uniqueId);
+    }
+
+    /**
+     * Gets all stashed inventories. The returned map is a snapshot; it doesn't reflect later changes to this journal.
+     *
+     * @return the serialized items by the unique id of the human entity they belong to
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public synchronized Map<UUID, byte[]> getStashes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.stashes));
+    }
+
+    /**
+     * Gets the amount of bytes currently used in the file backing this journal.
+     *
+     * @return the used size in bytes
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public synchronized int getSize() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Rewrites the journal so it only contains the current stashes. The mapped file stays in use: the compacted journal
+     * is first written to a separate file, which is then copied over the existing records. If the server crashes while
+     * copying, the copy is completed when the journal is opened again. If writing the separate file fails, nothing is
+     * changed and the journal continues to append to the existing records.
+     *
+     * @throws IOException if the journal can't be written
+     * @throws IllegalStateException if this journal is closed
+     * @since 0.11.3
+     */
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+
+        Path temporaryFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        Path compactedFile = getCompactedFile();
+        ByteBuffer compacted = createCompacted(this.buffer.getInt(GENERATION_OFFSET) + 1);
+
+        try {
+            write(temporaryFile, compacted);
+
+            try {
+                Files.move(temporaryFile, compactedFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporaryFile, compactedFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException exception) {
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException suppressed) {
+                exception.addSuppressed(suppressed);
+            }
+
+            throw exception;
+        }
+
+        install(compacted, this.buffer.position());
+
+        try {
+            Files.delete(compactedFile);
+        } catch (IOException exception) {
+            //the file has the generation of the journal now, so it's ignored when the journal is opened again
+        }
+    }
+
+    /**
+     * Writes all changes to the storage device and closes this journal. The file is kept, so the stashes can be
+     * replayed when the journal is opened again.
+     *
+     * @throws IOException if the file can't be closed
+     * @since 0.11.3
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel == null) {
+            return;
+        }
+
+        this.buffer.force();
+        this.channel.close();
+        this.channel = null;
+    }
+
+    /**
+     * Creates a journal containing only the current stashes, with the specified generation.
+     *
+     * @param generation the generation of the compacted journal
+     * @return the compacted journal, from its start up to the end of its last record
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private ByteBuffer createCompacted(int generation) {
+        int capacity = HEADER_SIZE;
+
+        for (byte[] items : this.stashes.values()) {
+            capacity += RECORD_OVERHEAD + items.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        buffer.putInt(MAGIC);
+        buffer.putInt(generation);
+
+        for (Map.Entry<UUID, byte[]> entry : this.stashes.entrySet()) {
+            writeRecord(buffer, STASH, entry.getKey(), entry.getValue());
+        }
+
+        buffer.flip();
+
+        return buffer;
+    }
+
+    /**
+     * Copies the specified compacted journal over the records in the mapped file. The records are copied before the
+     * header, so the generation in the header only changes once all records have been copied. The position is left
+     * after the last copied record.
+     *
+     * @param compacted the compacted journal
+     * @param end the end of the region that may contain records, everything from the last copied record up to here is
+     *            cleared
+     * @throws IOException if the file can't be mapped
+     * @since 0.11.3
+     */
+    private void install(@NotNull ByteBuffer compacted, int end) throws IOException {
+        int length = compacted.remaining();
+
+        if (this.buffer.capacity() < length) {
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+
+        ByteBuffer records = compacted.duplicate();
+        records.position(HEADER_SIZE);
+
+        this.buffer.position(HEADER_SIZE);
+        this.buffer.put(records);
+        clear(length, end);
+        this.buffer.force();
+
+        this.buffer.putInt(GENERATION_OFFSET, compacted.getInt(GENERATION_OFFSET));
+        this.buffer.force();
+
+        this.buffer.position(length);
+    }
+
+    /**
+     * Writes the specified bytes to the specified file, replacing its contents, and forces them to the storage device.
+     *
+     * @param file the file to write to
+     * @param bytes the bytes to write
+     * @throws IOException if the file can't be written
+     * @since 0.11.3
+     */
+    private static void write(@NotNull Path file, @NotNull ByteBuffer bytes) throws IOException {
+        try (FileChannel fileChannel = openChannel(file)) {
+            fileChannel.truncate(0);
+
+            ByteBuffer buffer = bytes.duplicate();
+
+            while (buffer.hasRemaining()) {
+                fileChannel.write(buffer);
+            }
+
+            fileChannel.force(true);
+        }
+    }
+
+    /**
+     * Gets the file a compacted journal is written to before it's copied over the records of this journal.
+     *
+     * @return the file
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private Path getCompactedFile() {
+        return this.file.resolveSibling(this.file.getFileName() + ".compacted");
+    }
+
+    /**
+     * Replays all valid records from the current position onwards, leaving the position after the last valid record.
+     * Everything after the last valid record is cleared.
+     *
+     * @since 0.11.3
+     */
+    private void replay() {
+        ByteBuffer buffer = this.buffer;
+        CRC32 checksum = new CRC32();
+
+        while (buffer.remaining() >= RECORD_OVERHEAD) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+
+            if (length < RECORD_OVERHEAD || length > buffer.remaining()) {
+                break;
+            }
+
+            ByteBuffer record = buffer.duplicate();
+            record.position(start + Integer.BYTES);
+            record.limit(start + length - Integer.BYTES);
+
+            checksum.reset();
+            checksum.update(record);
+
+            if ((int) checksum.getValue() != buffer.getInt(start + length - Integer.BYTES)) {
+                break;
+            }
+
+            byte type = buffer.get(start + Integer.BYTES);
+            UUID uniqueId = new UUID(buffer.getLong(start + Integer.BYTES + Byte.BYTES),
+                buffer.getLong(start + Integer.BYTES + Byte.BYTES + Long.BYTES));
+
+            if (type == STASH) {
+                byte[] items = new byte[length - RECORD_OVERHEAD];
+
+                record.position(start + Integer.BYTES + Byte.BYTES + Long.BYTES * 2);
+                record.get(items);
+
+                byte[] previous = this.stashes.put(uniqueId, items);
+
+                if (previous != null) {
+                    this.stashedBytes -= previous.length;
+                }
+
+                this.stashedBytes += items.length;
+            } else if (type == RESTORE) {
+                byte[] previous = this.stashes.remove(uniqueId);
+
+                if (previous != null) {
+                    this.stashedBytes -= previous.length;
+                }
+            } else {
+                break;
+            }
+
+            buffer.position(start + length);
+        }
+
+        clear(buffer.position(), buffer.capacity());
+    }
+
+    /**
+     * Appends a record to the journal, growing the file if needed. The journal is compacted first if it has grown
+     * large while most of its records are no longer relevant. If compacting fails, the failure is logged and the record
+     * is appended anyway; compacting is then only attempted again once the journal has doubled in size.
+     *
+     * @param type the type of the record
+     * @param uniqueId the unique id of the human entity
+     * @param items the serialized items
+     * @throws UncheckedIOException if the journal can't be written
+     * @since 0.11.3
+     */
+    private void append(byte type, @NotNull UUID uniqueId, @NotNull byte[] items) {
+        try {
+            int position = this.buffer.position();
+
+            boolean wasteful = position > COMPACTION_THRESHOLD && position > this.stashedBytes * 4;
+
+            if (wasteful && position >= this.nextCompaction) {
+                try {
+                    compact();
+
+                    this.nextCompaction = 0;
+                } catch (IOException exception) {
+                    this.nextCompaction = position * 2L;
+
+                    this.logger.log(Level.WARNING, "Unable to compact inventory journal " + this.file +
+                        ", retrying once it has doubled in size", exception);
+                }
+            }
+
+            int length = RECORD_OVERHEAD + items.length;
+
+            if (this.buffer.remaining() < length + Integer.BYTES) {
+                grow(length + Integer.BYTES);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        writeRecord(this.buffer, type, uniqueId, items);
+    }
+
+    /**
+     * Writes a single record to the specified buffer at its current position. The length is written last, so a record
+     * is never considered valid until it's written completely.
+     *
+     * @param buffer the buffer to write to
+     * @param type the type of the record
+     * @param uniqueId the unique id of the human entity
+     * @param items the serialized items
+     * @since 0.11.3
+     */
+    private void writeRecord(@NotNull ByteBuffer buffer, byte type, @NotNull UUID uniqueId, @NotNull byte[] items) {
+        int start = buffer.position();
+        int length = RECORD_OVERHEAD + items.length;
+
+        buffer.position(start + Integer.BYTES);
+        buffer.put(type);
+        buffer.putLong(uniqueId.getMostSignificantBits());
+        buffer.putLong(uniqueId.getLeastSignificantBits());
+        buffer.put(items);
+
+        ByteBuffer record = buffer.duplicate();
+        record.position(start + Integer.BYTES);
+        record.limit(start + length - Integer.BYTES);
+
+        this.checksum.reset();
+        this.checksum.update(record);
+
+        buffer.putInt((int) this.checksum.getValue());
+        buffer.putInt(start, length);
+    }
+
+    /**
+     * Maps a larger region of the file, so at least the specified amount of bytes can be written after the current
+     * position.
+     *
+     * @param required the amount of bytes required
+     * @throws IOException if the file can't be mapped
+     * @since 0.11.3
+     */
+    private void grow(int required) throws IOException {
+        int position = this.buffer.position();
+        long capacity = this.buffer.capacity();
+
+        while (capacity - position < required) {
+            capacity *= 2;
+        }
+
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Journal exceeds the maximum size");
+        }
+
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.buffer.position(position);
+    }
+
+    /**
+     * Fills the specified region of the mapped file with zeros.
+     *
+     * @param from the start of the region, inclusive
+     * @param to the end of the region, exclusive
+     * @since 0.11.3
+     */
+    private void clear(int from, int to) {
+        for (int index = from; index < to; index++) {
+            if (this.buffer.get(index) != 0) {
+                this.buffer.put(index, (byte) 0);
+            }
+        }
+    }
+
+    /**
+     * Ensures this journal hasn't been closed yet.
+     *
+     * @throws IllegalStateException if this journal is closed
+     * @since 0.11.3
+     */
+    private void ensureOpen() {
+        if (this.channel == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+    }
+
+    /**
+     * Opens a channel for reading and writing the specified file, creating it if it doesn't exist.
+     *
+     * @param file the file to open
+     * @return the channel
+     * @throws IOException if the file can't be opened
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract("_ -> new")
+    private static FileChannel openChannel(@NotNull Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
@@ -11,6 +11,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -22,9 +23,16 @@ import java.util.stream.Collectors;
 public class CSVFont extends Font {
 
     /**
-     * A map with all the items and their dedicated characters
+     * A map with all the skull textures and their dedicated characters
      */
-    private final Map<Character, ItemStack> characterMappings;
+    private final Map<Character, String> characterMappings;
+
+    /**
+     * The items of the characters that have been requested so far. Items are created on first use, since creating
+     * skulls is expensive and most fonts only ever have a few of their characters displayed.
+     */
+    @NotNull
+    private final Map<Character, ItemStack> items = new ConcurrentHashMap<>();
 
     /**
      * The default character to use when a requested character cannot be found
@@ -43,7 +51,7 @@ public class CSVFont extends Font {
 
         try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
             characterMappings = CSVUtil.readAll(inputStream).stream()
-                    .collect(Collectors.toMap(v -> v[0].charAt(0), v -> SkullUtil.getSkull(v[1])));
+                    .collect(Collectors.toMap(v -> v[0].charAt(0), v -> v[1]));
         } catch (IOException e) {
             throw new RuntimeException("Error loading CSV-based font: " + filePath, e);
         }
@@ -53,13 +61,19 @@ public class CSVFont extends Font {
     @Contract(pure = true)
     @Override
     public ItemStack getDefaultItem() {
-        return characterMappings.get(defaultCharacter);
+        return toItem(defaultCharacter);
     }
 
     @Nullable
     @Contract(pure = true)
     @Override
     public ItemStack toItem(char character) {
-        return characterMappings.get(character);
+        String texture = characterMappings.get(character);
+
+        if (texture == null) {
+            return null;
+        }
+
+        return items.computeIfAbsent(character, key -> SkullUtil.getSkull(texture));
     }
 }
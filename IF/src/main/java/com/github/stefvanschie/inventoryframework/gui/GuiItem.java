@@ -1,5 +1,10 @@
 package com.github.stefvanschie.inventoryframework.gui;
 
+import com.github.stefvanschie.inventoryframework.gui.type.util.ActiveGui;
+import com.github.stefvanschie.inventoryframework.jfr.GuiEvents;
+import com.github.stefvanschie.inventoryframework.metrics.CallbackWatchdog;
+import com.github.stefvanschie.inventoryframework.metrics.GuiMetrics;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
 import org.bukkit.NamespacedKey;
@@ -68,6 +73,12 @@ public class GuiItem {
     @NotNull
     private UUID uuid = UUID.randomUUID();
 
+    /**
+     * The template for the display name and lore of the item, or null if the item doesn't use one
+     */
+    @Nullable
+    private ItemTextTemplate textTemplate;
+
     /**
      * Creates a new gui item based on the item stack and action
      *
@@ -151,6 +162,7 @@ public class GuiItem {
         guiItem.visible = visible;
         guiItem.uuid = uuid;
         guiItem.properties = new ArrayList<>(properties);
+        guiItem.textTemplate = textTemplate == null ? null : textTemplate.copy();
         ItemMeta meta = guiItem.item.getItemMeta();
 
         if (meta != null) {
@@ -170,10 +182,29 @@ public class GuiItem {
      * @since 0.6.0
      */
     public void callAction(@NotNull InventoryClickEvent event) {
+        callAction(event, null);
+    }
+
+    /**
+     * Calls the handler of the {@link InventoryClickEvent}
+     * if such a handler was specified in the constructor.
+     * Catches and logs all exceptions the handler might throw.
+     * The pane is only used to attribute the handler when it turns out to be slow, see {@link CallbackWatchdog}.
+     *
+     * @param event the event to handle
+     * @param pane the pane this item was clicked in, or null if unknown
+     * @since 0.11.3
+     */
+    public void callAction(@NotNull InventoryClickEvent event, @Nullable Pane pane) {
         if (action == null) {
             return;
         }
 
+        GuiMetrics metrics = GuiMetrics.getActive();
+        long start = metrics == null ? 0 : System.nanoTime();
+        Object flightEvent = GuiEvents.beginCallback();
+        long watchdogStart = CallbackWatchdog.begin();
+
         try {
             action.accept(event);
         } catch (Throwable t) {
@@ -181,6 +212,13 @@ public class GuiItem {
                     + InventoryViewUtil.getInstance().getTitle(event.getView()) + "', slot=" + event.getSlot() +
                     ", item=" + item.getType(), t);
         }
+
+        CallbackWatchdog.end(watchdogStart, this.logger, ActiveGui.get(), pane, event.getRawSlot(), "action", action);
+        GuiEvents.endCallback(flightEvent, "action", event.getRawSlot());
+
+        if (metrics != null) {
+            metrics.recordCallback(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -196,16 +234,76 @@ public class GuiItem {
             meta.getPersistentDataContainer().set(this.keyUUID, UUIDTagType.INSTANCE, uuid);
             item.setItemMeta(meta);
         }
+
+        if (textTemplate != null) {
+            textTemplate.invalidate();
+        }
     }
 
     /**
-     * Overwrites the current item with the provided item.
+     * Overwrites the current item with the provided item. If this item has a text template, the template is written to
+     * the new item.
      *
      * @param item the item to set
      * @since 0.10.8
      */
     public void setItem(@NotNull ItemStack item) {
         this.item = item;
+
+        if (textTemplate != null) {
+            textTemplate.invalidate();
+            textTemplate.apply(item);
+        }
+    }
+
+    /**
+     * Sets the template for the display name and lore of the item and writes it to the item. Passing null stops the
+     * item from using a template, but keeps the text that was last written.
+     *
+     * @param textTemplate the template to use
+     * @see #setPlaceholder(String, Object)
+     * @since 0.11.3
+     */
+    public void setTextTemplate(@Nullable ItemTextTemplate textTemplate) {
+        this.textTemplate = textTemplate;
+
+        if (textTemplate != null) {
+            textTemplate.invalidate();
+            textTemplate.apply(item);
+        }
+    }
+
+    /**
+     * Gets the template for the display name and lore of the item, or null if the item doesn't use one.
+     *
+     * @return the text template
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public ItemTextTemplate getTextTemplate() {
+        return textTemplate;
+    }
+
+    /**
+     * Sets the value of a placeholder in the text template of this item and updates the item. The item is only
+     * modified if the value differs from the previous value and the placeholder is used in the template. When
+     * changing multiple placeholders at once, prefer setting them on the template directly and calling
+     * {@link ItemTextTemplate#apply(ItemStack)} once afterwards.
+     *
+     * @param name the name of the placeholder
+     * @param value the value of the placeholder
+     * @throws IllegalStateException if this item doesn't have a text template
+     * @see #setTextTemplate(ItemTextTemplate)
+     * @since 0.11.3
+     */
+    public void setPlaceholder(@NotNull String name, @Nullable Object value) {
+        if (textTemplate == null) {
+            throw new IllegalStateException("Item does not have a text template");
+        }
+
+        textTemplate.setPlaceholder(name, value);
+        textTemplate.apply(item);
     }
 
     /**
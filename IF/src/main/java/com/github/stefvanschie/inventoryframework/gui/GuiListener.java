@@ -1,7 +1,13 @@
 package com.github.stefvanschie.inventoryframework.gui;
 
+import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import com.github.stefvanschie.inventoryframework.InventoryJournal;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
+import com.github.stefvanschie.inventoryframework.gui.type.util.ActiveGui;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.jfr.GuiEvents;
+import com.github.stefvanschie.inventoryframework.metrics.GuiMetrics;
+import com.github.stefvanschie.inventoryframework.util.ClickRateLimiter;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import com.github.stefvanschie.inventoryframework.util.FoliaScheduler;
 import org.bukkit.entity.HumanEntity;
@@ -11,6 +17,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.*;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.*;
 import org.bukkit.plugin.Plugin;
@@ -67,12 +74,62 @@ public class GuiListener implements Listener {
      */
     @EventHandler(ignoreCancelled = true)
     public void onInventoryClick(@NotNull InventoryClickEvent event) {
+        if (PacketClickInterception.isPassedOn(event)) {
+            return;
+        }
+
+        handleClick(event);
+    }
+
+    /**
+     * Handles a click in an inventory. Unlike {@link #onInventoryClick(InventoryClickEvent)}, this also handles clicks
+     * that were already handled when their packet was intercepted, so it's used for clicks that aren't fired as events.
+     *
+     * @param event the click
+     * @since 0.11.3
+     */
+    void handleClick(@NotNull InventoryClickEvent event) {
         Gui gui = getGui(event.getInventory());
 
         if (gui == null) {
             return;
         }
 
+        ClickRateLimiter clickRateLimiter = gui.getClickRateLimiter();
+
+        if (clickRateLimiter != null &&
+            !clickRateLimiter.tryAcquire(event.getWhoClicked(), event.getRawSlot(), event.getClick())) {
+            event.setCancelled(true);
+            return;
+        }
+
+        GuiMetrics metrics = gui.getMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
+        Object flightEvent = GuiEvents.beginClickDispatch();
+
+        ActiveGui.enter(gui);
+
+        try {
+            dispatchClick(gui, event);
+        } finally {
+            ActiveGui.exit();
+        }
+
+        GuiEvents.endClickDispatch(flightEvent, gui, event);
+
+        if (metrics != null) {
+            metrics.recordClick(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Passes a click in the specified gui to its callbacks and to the gui itself.
+     *
+     * @param gui the gui that was clicked in
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    private void dispatchClick(@NotNull Gui gui, @NotNull InventoryClickEvent event) {
         InventoryView view = event.getView();
         Inventory inventory = InventoryViewUtil.getInstance().getInventory(view, event.getRawSlot());
 
@@ -155,14 +212,14 @@ public class GuiListener implements Listener {
         Set<Integer> inventorySlots = event.getRawSlots();
 
         if (inventorySlots.size() > 1) {
+            //raw slots below the size of the top inventory are in the top inventory, the others in the bottom one
+            int topSize = InventoryViewUtil.getInstance().getTopInventory(view).getSize();
             boolean top = false, bottom = false;
 
             for (int inventorySlot : inventorySlots) {
-                Inventory inventory = InventoryViewUtil.getInstance().getInventory(view, inventorySlot);
-
-                if (InventoryViewUtil.getInstance().getTopInventory(view).equals(inventory)) {
+                if (inventorySlot < topSize) {
                     top = true;
-                } else if (InventoryViewUtil.getInstance().getBottomInventory(view).equals(inventory)) {
+                } else {
                     bottom = true;
                 }
 
@@ -181,7 +238,7 @@ public class GuiListener implements Listener {
                 gui.callOnBottomDrag(event);
             }
         } else {
-            int index = inventorySlots.toArray(new Integer[0])[0];
+            int index = inventorySlots.iterator().next();
             InventoryType.SlotType slotType = InventoryViewUtil.getInstance().getSlotType(view, index);
 
             boolean even = event.getType() == DragType.EVEN;
@@ -196,7 +253,7 @@ public class GuiListener implements Listener {
             InventoryClickEvent inventoryClickEvent = new InventoryClickEvent(view, slotType, index, clickType,
                 inventoryAction);
 
-            onInventoryClick(inventoryClickEvent);
+            handleClick(inventoryClickEvent);
             // Restore previous cursor only if someone has not changed it manually in onInventoryClick.
             if (Objects.equals(InventoryViewUtil.getInstance().getCursor(view), event.getOldCursor())) {
                 InventoryViewUtil.getInstance().setCursor(view, previousViewCursor);
@@ -237,12 +294,21 @@ public class GuiListener implements Listener {
         }
 
         HumanEntity humanEntity = event.getPlayer();
+
+        PacketClickInterception.closed(humanEntity, event.getView());
+
         PlayerInventory playerInventory = humanEntity.getInventory();
 
         //due to a client issue off-hand items appear as ghost items, this updates the off-hand correctly client-side
         playerInventory.setItemInOffHand(playerInventory.getItemInOffHand());
 
         if (!gui.isUpdating()) {
+            ClickRateLimiter clickRateLimiter = gui.getClickRateLimiter();
+
+            if (clickRateLimiter != null) {
+                clickRateLimiter.forget(humanEntity);
+            }
+
             gui.callOnClose(event);
 
             scheduler.runAtEntity(humanEntity, () -> {
@@ -273,6 +339,25 @@ public class GuiListener implements Listener {
         }
 
         activeGuiInstances.add(gui);
+        PacketClickInterception.opened(event.getPlayer(), event.getView());
+
+        GuiMetrics metrics = gui.getMetrics();
+
+        if (metrics != null) {
+            metrics.recordOpen();
+        }
+    }
+
+    /**
+     * Restores inventories that were stored, but never restored because the server stopped before that could happen.
+     * This only applies when a journal is used, see {@link HumanEntityCache#setJournal(InventoryJournal)}.
+     *
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        HumanEntityCache.restoreFromJournal(event.getPlayer());
     }
 
     /**
@@ -316,18 +401,6 @@ public class GuiListener implements Listener {
     @Nullable
     @Contract(pure = true)
     private Gui getGui(@NotNull Inventory inventory) {
-        Gui gui = Gui.getGui(inventory);
-
-        if (gui != null) {
-            return gui;
-        }
-
-        InventoryHolder holder = inventory.getHolder();
-
-        if (holder instanceof Gui) {
-            return (Gui) holder;
-        }
-
-        return null;
+        return Gui.getGui(inventory);
     }
 }
@@ -2,6 +2,8 @@ package com.github.stefvanschie.inventoryframework.gui;
 
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
+import com.github.stefvanschie.inventoryframework.jfr.GuiEvents;
+import com.github.stefvanschie.inventoryframework.metrics.GuiMetrics;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
@@ -167,6 +169,8 @@ public class InventoryComponent {
                 inventory.setItem(slot, getItem(x, y));
             }
         }
+
+        recordSlotsWritten();
     }
 
     /**
@@ -185,6 +189,19 @@ public class InventoryComponent {
                 inventory.setItem(y * getLength() + x + offset, getItem(x, y));
             }
         }
+
+        recordSlotsWritten();
+    }
+
+    /**
+     * Counts the slots of this component as written, if the gui being shown has metrics.
+     */
+    private void recordSlotsWritten() {
+        GuiMetrics metrics = GuiMetrics.getActive();
+
+        if (metrics != null) {
+            metrics.recordSlotsWritten(getSize());
+        }
     }
 
     /**
@@ -358,6 +375,9 @@ public class InventoryComponent {
      * @see #display(Inventory, int)
      */
     public void display() {
+        GuiMetrics metrics = GuiMetrics.getActive();
+        long start = metrics == null ? 0 : System.nanoTime();
+
         clearItems();
 
         for (Pane pane : getPanes()) {
@@ -365,7 +385,15 @@ public class InventoryComponent {
                 continue;
             }
 
+            Object flightEvent = GuiEvents.beginPaneDisplay();
+
             pane.display(this, 0, 0, getLength(), getHeight());
+
+            GuiEvents.endPaneDisplay(flightEvent, pane);
+        }
+
+        if (metrics != null) {
+            metrics.recordDisplay(System.nanoTime() - start);
         }
     }
 
@@ -0,0 +1,491 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.ComponentHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A template for the display name and lore of an item, containing placeholders in the form of {@code {name}}. The
+ * templates are parsed once, after which placeholder values can be changed. Only the lines containing a changed
+ * placeholder are rendered again and the item is only updated when the rendered text differs from the text last
+ * written to it.
+ * <p>
+ * Templates are written to items as the text holders they were set as, so component templates keep their components.
+ * Placeholder values are inserted as plain text: in component templates they take on the style of the surrounding
+ * text, in legacy templates they can contain formatting codes, but these aren't translated. Placeholders without a
+ * value are left untouched in the rendered text. When applied to an item, the template replaces the entire lore of
+ * that item.
+ * <p>
+ * The item meta is kept between applications to the same item, so {@link #invalidate()} should be called after the
+ * meta of that item was changed by other means.
+ *
+ * @since 0.11.3
+ */
+public class ItemTextTemplate {
+
+    /**
+     * The template of the display name, or null if this template doesn't change the display name
+     */
+    @Nullable
+    private Line displayName;
+
+    /**
+     * The templates of the lore lines
+     */
+    @NotNull
+    private Line[] lore = new Line[0];
+
+    /**
+     * The current values of the placeholders, by name
+     */
+    @NotNull
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * Whether the display name needs to be written to the item the next time this template is applied
+     */
+    private boolean displayNameChanged;
+
+    /**
+     * Whether the lore needs to be written to the item the next time this template is applied
+     */
+    private boolean loreChanged;
+
+    /**
+     * The display name last written to {@link #item}, or null if it's unknown
+     */
+    @Nullable
+    private TextHolder writtenDisplayName;
+
+    /**
+     * The lore last written to {@link #item}, or null if it's unknown
+     */
+    @Nullable
+    private TextHolder[] writtenLore;
+
+    /**
+     * The item this template was last applied to, or null if it should be treated as a new item
+     */
+    @Nullable
+    private ItemStack item;
+
+    /**
+     * The item meta last written to {@link #item}, reused for the next application to the same item
+     */
+    @Nullable
+    private ItemMeta meta;
+
+    /**
+     * Sets the template of the display name. Passing null will cause this template to leave the display name alone.
+     *
+     * @param displayName the display name template
+     * @since 0.11.3
+     */
+    public void setDisplayName(@Nullable TextHolder displayName) {
+        this.displayName = displayName == null ? null : Line.parse(displayName);
+        this.displayNameChanged = true;
+    }
+
+    /**
+     * Sets the template of the display name. Formatting codes using the {@code &} character are translated once.
+     *
+     * @param displayName the display name template
+     * @see #setDisplayName(TextHolder)
+     * @since 0.11.3
+     */
+    public void setDisplayName(@NotNull String displayName) {
+        setDisplayName(TextHolder.deserialize(displayName));
+    }
+
+    /**
+     * Sets the templates of the lore, one per line.
+     *
+     * @param lore the lore templates
+     * @since 0.11.3
+     */
+    public void setLore(@NotNull List<? extends TextHolder> lore) {
+        this.lore = new Line[lore.size()];
+
+        for (int index = 0; index < this.lore.length; index++) {
+            this.lore[index] = Line.parse(lore.get(index));
+        }
+
+        this.loreChanged = true;
+    }
+
+    /**
+     * Sets the value of the placeholder with the specified name. The value is converted to text via
+     * {@link String#valueOf(Object)}. Passing null removes the value, leaving the placeholder untouched when rendered.
+     * Lines containing this placeholder are only rendered again if the textual value differs from the previous one.
+     *
+     * @param name the name of the placeholder, without braces
+     * @param value the value of the placeholder
+     * @since 0.11.3
+     */
+    public void setPlaceholder(@NotNull String name, @Nullable Object value) {
+        String text = value == null ? null : String.valueOf(value);
+
+        if (Objects.equals(this.values.get(name), text)) {
+            return;
+        }
+
+        if (text == null) {
+            this.values.remove(name);
+        } else {
+            this.values.put(name, text);
+        }
+
+        if (this.displayName != null && this.displayName.invalidate(name)) {
+            this.displayNameChanged = true;
+        }
+
+        for (Line line : this.lore) {
+            if (line.invalidate(name)) {
+                this.loreChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Gets the current value of the placeholder with the specified name, or null if it doesn't have a value.
+     *
+     * @param name the name of the placeholder
+     * @return the value of the placeholder
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getPlaceholder(@NotNull String name) {
+        return this.values.get(name);
+    }
+
+    /**
+     * Gets the rendered display name, or null if this template doesn't have a display name.
+     *
+     * @return the rendered display name
+     * @since 0.11.3
+     */
+    @Nullable
+    public String getDisplayName() {
+        return this.displayName == null ? null : this.displayName.render(this.values).asLegacyString();
+    }
+
+    /**
+     * Gets the rendered lore.
+     *
+     * @return the rendered lore
+     * @since 0.11.3
+     */
+    @NotNull
+    public List<String> getLore() {
+        String[] lore = new String[this.lore.length];
+
+        for (int index = 0; index < lore.length; index++) {
+            lore[index] = this.lore[index].render(this.values).asLegacyString();
+        }
+
+        return Arrays.asList(lore);
+    }
+
+    /**
+     * Writes the display name and lore to the specified item, if they differ from the text last written to it. The
+     * item meta is only retrieved when applying to a different item than before, and isn't set if nothing changed.
+     *
+     * @param item the item to write to
+     * @return true if the item was modified, false otherwise
+     * @since 0.11.3
+     */
+    public boolean apply(@NotNull ItemStack item) {
+        if (item != this.item) {
+            invalidate();
+        }
+
+        if (!this.displayNameChanged && !this.loreChanged) {
+            return false;
+        }
+
+        TextHolder displayName = null;
+
+        if (this.displayNameChanged && this.displayName != null) {
+            displayName = this.displayName.render(this.values);
+
+            if (displayName.equals(this.writtenDisplayName)) {
+                displayName = null;
+            }
+        }
+
+        TextHolder[] lore = this.loreChanged ? renderLore() : null;
+
+        if (lore != null && Arrays.equals(lore, this.writtenLore)) {
+            lore = null;
+        }
+
+        this.displayNameChanged = false;
+        this.loreChanged = false;
+
+        if (displayName == null && lore == null) {
+            return false;
+        }
+
+        ItemMeta meta = this.meta == null ? item.getItemMeta() : this.meta;
+
+        if (meta == null) {
+            return false;
+        }
+
+        if (displayName != null) {
+            displayName.asItemDisplayName(meta);
+        }
+
+        if (lore != null) {
+            //noinspection deprecation
+            meta.setLore(null);
+
+            for (TextHolder line : lore) {
+                line.asItemLoreAtEnd(meta);
+            }
+        }
+
+        item.setItemMeta(meta);
+
+        this.item = item;
+        this.meta = meta;
+
+        if (displayName != null) {
+            this.writtenDisplayName = displayName;
+        }
+
+        if (lore != null) {
+            this.writtenLore = lore;
+        }
+
+        return true;
+    }
+
+    /**
+     * Renders every line of the lore. Lines whose placeholders didn't change are reused from the previous render.
+     *
+     * @return the rendered lore
+     * @since 0.11.3
+     */
+    @NotNull
+    private TextHolder[] renderLore() {
+        TextHolder[] lore = new TextHolder[this.lore.length];
+
+        for (int index = 0; index < lore.length; index++) {
+            lore[index] = this.lore[index].render(this.values);
+        }
+
+        return lore;
+    }
+
+    /**
+     * Marks the display name and lore as changed, so they are written the next time this template is applied, with a
+     * freshly retrieved item meta. This should be used when the meta of the item was changed by other means since
+     * this template was last applied to it.
+     *
+     * @since 0.11.3
+     */
+    public void invalidate() {
+        this.displayNameChanged = true;
+        this.loreChanged = true;
+        this.writtenDisplayName = null;
+        this.writtenLore = null;
+        this.item = null;
+        this.meta = null;
+    }
+
+    /**
+     * Makes a copy of this template. The copy has the same templates and placeholder values, but changing either of
+     * them doesn't affect the other. The copy isn't tied to the item this template was last applied to.
+     *
+     * @return a copy of this template
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ItemTextTemplate copy() {
+        ItemTextTemplate template = new ItemTextTemplate();
+
+        template.displayName = this.displayName == null ? null : this.displayName.copy();
+        template.lore = new Line[this.lore.length];
+
+        for (int index = 0; index < this.lore.length; index++) {
+            template.lore[index] = this.lore[index].copy();
+        }
+
+        template.values.putAll(this.values);
+        template.invalidate();
+
+        return template;
+    }
+
+    /**
+     * A single parsed line of text, consisting of literal text interleaved with placeholders. The rendered text is
+     * cached until one of its placeholders changes.
+     *
+     * @since 0.11.3
+     */
+    private static final class Line {
+
+        /**
+         * The text this line was parsed from
+         */
+        @NotNull
+        private final TextHolder template;
+
+        /**
+         * The literal parts of this line. There is always one more literal than there are placeholders; the
+         * placeholder at index i is placed between the literals at index i and i + 1.
+         */
+        @NotNull
+        private final String[] literals;
+
+        /**
+         * The names of the placeholders in this line
+         */
+        @NotNull
+        private final String[] placeholders;
+
+        /**
+         * The rendered text, or null if it needs to be rendered again
+         */
+        @Nullable
+        private TextHolder rendered;
+
+        /**
+         * Creates a new line from the provided parts.
+         *
+         * @param template the text this line was parsed from
+         * @param literals the literal parts
+         * @param placeholders the placeholder names
+         * @param rendered the rendered text, or null if it hasn't been rendered yet
+         * @since 0.11.3
+         */
+        private Line(@NotNull TextHolder template, @NotNull String[] literals, @NotNull String[] placeholders,
+                     @Nullable TextHolder rendered) {
+            this.template = template;
+            this.literals = literals;
+            this.placeholders = placeholders;
+            this.rendered = rendered;
+        }
+
+        /**
+         * Renders this line with the provided placeholder values, reusing the previously rendered text if possible.
+         * Component templates are rendered by replacing the placeholders in their components, so their styling is
+         * kept.
+         *
+         * @param values the placeholder values
+         * @return the rendered text
+         * @since 0.11.3
+         */
+        @NotNull
+        private TextHolder render(@NotNull Map<String, String> values) {
+            if (this.rendered != null) {
+                return this.rendered;
+            }
+
+            if (this.template instanceof ComponentHolder) {
+                this.rendered = ((ComponentHolder) this.template).replacePlaceholders(values::get);
+
+                return this.rendered;
+            }
+
+            StringBuilder builder = new StringBuilder(this.literals[0]);
+
+            for (int index = 0; index < this.placeholders.length; index++) {
+                String placeholder = this.placeholders[index];
+                String value = values.get(placeholder);
+
+                if (value == null) {
+                    builder.append('{').append(placeholder).append('}');
+                } else {
+                    builder.append(value);
+                }
+
+                builder.append(this.literals[index + 1]);
+            }
+
+            this.rendered = StringHolder.of(builder.toString());
+
+            return this.rendered;
+        }
+
+        /**
+         * Discards the rendered text if this line contains the placeholder with the specified name.
+         *
+         * @param name the name of the placeholder
+         * @return true if this line contains the placeholder, false otherwise
+         * @since 0.11.3
+         */
+        private boolean invalidate(@NotNull String name) {
+            for (String placeholder : this.placeholders) {
+                if (placeholder.equals(name)) {
+                    this.rendered = null;
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Makes a copy of this line.
+         *
+         * @return a copy of this line
+         * @since 0.11.3
+         */
+        @NotNull
+        @Contract(pure = true)
+        private Line copy() {
+            return new Line(this.template, this.literals, this.placeholders, this.rendered);
+        }
+
+        /**
+         * Parses the specified text into a line. A placeholder starts with an opening brace and ends with the first
+         * closing brace after it. Braces that don't enclose a non-empty name are treated as literal text.
+         *
+         * @param template the text to parse
+         * @return the parsed line
+         * @since 0.11.3
+         */
+        @NotNull
+        @Contract(pure = true)
+        private static Line parse(@NotNull TextHolder template) {
+            String text = template.asLegacyString();
+            List<String> literals = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+
+            while (index < text.length()) {
+                char character = text.charAt(index);
+                int end = character == '{' ? text.indexOf('}', index + 1) : -1;
+
+                if (end == -1 || end == index + 1 || text.lastIndexOf('{', end - 1) != index) {
+                    literal.append(character);
+                    index++;
+                    continue;
+                }
+
+                literals.add(literal.toString());
+                placeholders.add(text.substring(index + 1, end));
+                literal.setLength(0);
+                index = end + 1;
+            }
+
+            literals.add(literal.toString());
+
+            TextHolder rendered = placeholders.isEmpty() ? template : null;
+
+            return new Line(template, literals.toArray(new String[0]), placeholders.toArray(new String[0]), rendered);
+        }
+    }
+}
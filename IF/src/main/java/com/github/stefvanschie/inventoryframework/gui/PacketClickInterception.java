@@ -0,0 +1,465 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import com.github.stefvanschie.inventoryframework.abstraction.ClickInterceptor;
+import com.github.stefvanschie.inventoryframework.exception.UnsupportedVersionException;
+import com.github.stefvanschie.inventoryframework.util.FoliaScheduler;
+import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
+import com.github.stefvanschie.inventoryframework.util.version.Version;
+import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Handles clicks in guis straight from the packets players send, rather than through {@link InventoryClickEvent}s
+ * fired to every listener on the server. Clicks on a slot of the top inventory of a gui are taken off the network
+ * thread and handled on the thread owning the player, exactly like {@link GuiListener} handles them: the callbacks of
+ * the gui are called and the click is passed to the panes and items.
+ * <p>
+ * If the click is cancelled, the packet is dropped and the player's view is sent to them again, like the server does
+ * for cancelled clicks. Otherwise, the packet is passed on to the server unchanged, so the server and other plugins
+ * handle it as usual, but the gui doesn't handle it a second time. Clicks in the bottom inventory, outside the
+ * inventory, drags and double clicks are always handled through events.
+ * <p>
+ * The action of the {@link InventoryClickEvent} passed to the gui is derived from the click type, the cursor and the
+ * clicked item, like the server would, but doesn't account for stack sizes. Intercepting clicks is only supported on
+ * some versions; see {@link #enable(Plugin)}.
+ *
+ * @since 0.11.3
+ */
+public final class PacketClickInterception implements Listener {
+
+    /**
+     * The enabled interception, or null if clicks aren't intercepted
+     */
+    @Nullable
+    private static volatile PacketClickInterception instance;
+
+    /**
+     * The plugin that enabled the interception
+     */
+    @NotNull
+    private final Plugin plugin;
+
+    /**
+     * The interceptor of the packets
+     */
+    @NotNull
+    private final ClickInterceptor interceptor;
+
+    /**
+     * The listener handling the intercepted clicks
+     */
+    @NotNull
+    private final GuiListener guiListener;
+
+    /**
+     * The scheduler to hand the clicks over to the thread owning the player with
+     */
+    @NotNull
+    private final FoliaScheduler scheduler;
+
+    /**
+     * The guis players have open, by the unique id of the player
+     */
+    @NotNull
+    private final Map<UUID, OpenGui> openGuis = new ConcurrentHashMap<>();
+
+    /**
+     * The raw slot of the last click that was handled and passed on to the server, by the unique id of the player. The
+     * slot is removed again by the first click event the player causes afterwards.
+     */
+    @NotNull
+    private final Map<UUID, Integer> passedOn = new ConcurrentHashMap<>();
+
+    /**
+     * The click event fired for the last click that was handled and passed on to the server, by the unique id of the
+     * player
+     */
+    @NotNull
+    private final Map<UUID, InventoryClickEvent> passedOnEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new interception.
+     *
+     * @param plugin the plugin enabling the interception
+     * @param interceptor the interceptor of the packets
+     * @since 0.11.3
+     */
+    private PacketClickInterception(@NotNull Plugin plugin, @NotNull ClickInterceptor interceptor) {
+        this.plugin = plugin;
+        this.interceptor = interceptor;
+        this.guiListener = new GuiListener(plugin);
+        this.scheduler = new FoliaScheduler(plugin);
+    }
+
+    /**
+     * Starts intercepting the clicks of all players. The interception stops when the specified plugin is disabled.
+     * Enabling the interception while it's already enabled does nothing.
+     *
+     * @param plugin the plugin enabling the interception
+     * @throws UnsupportedVersionException if intercepting clicks isn't supported on this version
+     * @since 0.11.3
+     */
+    public static synchronized void enable(@NotNull Plugin plugin) {
+        if (instance != null) {
+            return;
+        }
+
+        PacketClickInterception interception = new PacketClickInterception(plugin,
+            VersionMatcher.newClickInterceptor(Version.getVersion()));
+
+        instance = interception;
+
+        Bukkit.getPluginManager().registerEvents(interception, plugin);
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            interception.inject(player);
+        }
+    }
+
+    /**
+     * Stops intercepting clicks. Disabling the interception while it isn't enabled does nothing.
+     *
+     * @since 0.11.3
+     */
+    public static synchronized void disable() {
+        PacketClickInterception interception = instance;
+
+        if (interception == null) {
+            return;
+        }
+
+        instance = null;
+
+        HandlerList.unregisterAll(interception);
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            interception.interceptor.eject(player);
+        }
+    }
+
+    /**
+     * Gets whether clicks are intercepted.
+     *
+     * @return true if clicks are intercepted, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public static boolean isEnabled() {
+        return instance != null;
+    }
+
+    /**
+     * Starts intercepting the clicks of players joining the server.
+     *
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
+        inject(event.getPlayer());
+    }
+
+    /**
+     * Forgets the players leaving the server.
+     *
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        UUID uniqueId = event.getPlayer().getUniqueId();
+
+        this.openGuis.remove(uniqueId);
+        this.passedOn.remove(uniqueId);
+        this.passedOnEvents.remove(uniqueId);
+    }
+
+    /**
+     * Matches click events to the clicks that were handled and passed on to the server. Every click event consumes the
+     * slot recorded for the player, even if it's cancelled, so the slot can't be matched to a later click.
+     *
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onInventoryClick(@NotNull InventoryClickEvent event) {
+        UUID uniqueId = event.getWhoClicked().getUniqueId();
+        Integer rawSlot = this.passedOn.remove(uniqueId);
+
+        if (rawSlot != null && rawSlot == event.getRawSlot()) {
+            this.passedOnEvents.put(uniqueId, event);
+        } else {
+            this.passedOnEvents.remove(uniqueId);
+        }
+    }
+
+    /**
+     * Stops intercepting clicks when the plugin that enabled the interception is disabled.
+     *
+     * @param event the event fired
+     * @since 0.11.3
+     */
+    @EventHandler
+    public void onPluginDisable(@NotNull PluginDisableEvent event) {
+        if (event.getPlugin() == this.plugin) {
+            disable();
+        }
+    }
+
+    /**
+     * Marks the specified view as a gui opened by the specified human entity, so their clicks in it are intercepted.
+     *
+     * @param humanEntity the human entity opening the gui
+     * @param view the view of the gui
+     * @since 0.11.3
+     */
+    static void opened(@NotNull HumanEntity humanEntity, @NotNull InventoryView view) {
+        PacketClickInterception interception = instance;
+
+        if (interception == null) {
+            return;
+        }
+
+        int containerId = interception.interceptor.getContainerId(view);
+
+        if (containerId == -1) {
+            return;
+        }
+
+        int topSize = InventoryViewUtil.getInstance().getTopInventory(view).getSize();
+
+        interception.openGuis.put(humanEntity.getUniqueId(), new OpenGui(containerId, topSize));
+    }
+
+    /**
+     * Stops intercepting the clicks of the specified human entity in the specified view of a gui.
+     *
+     * @param humanEntity the human entity closing the gui
+     * @param view the view of the gui
+     * @since 0.11.3
+     */
+    static void closed(@NotNull HumanEntity humanEntity, @NotNull InventoryView view) {
+        PacketClickInterception interception = instance;
+
+        if (interception == null) {
+            return;
+        }
+
+        int containerId = interception.interceptor.getContainerId(view);
+        UUID uniqueId = humanEntity.getUniqueId();
+
+        interception.openGuis.computeIfPresent(uniqueId, (key, open) -> open.containerId == containerId ? null : open);
+        interception.passedOn.remove(uniqueId);
+        interception.passedOnEvents.remove(uniqueId);
+    }
+
+    /**
+     * Checks whether the specified click was already handled when its packet was intercepted, and was then passed on
+     * to the server. Such clicks shouldn't be handled again.
+     *
+     * @param event the click
+     * @return true if the click was already handled, false otherwise
+     * @since 0.11.3
+     */
+    static boolean isPassedOn(@NotNull InventoryClickEvent event) {
+        PacketClickInterception interception = instance;
+
+        if (interception == null) {
+            return false;
+        }
+
+        return interception.passedOnEvents.remove(event.getWhoClicked().getUniqueId(), event);
+    }
+
+    /**
+     * Starts intercepting the clicks of the specified player.
+     *
+     * @param player the player
+     * @since 0.11.3
+     */
+    private void inject(@NotNull Player player) {
+        this.interceptor.inject(player, this::intercept);
+    }
+
+    /**
+     * Decides whether to intercept the specified click. This is called on the network thread of the player.
+     *
+     * @param player the clicking player
+     * @param containerId the id of the container clicked in
+     * @param rawSlot the raw slot that was clicked
+     * @param clickType the type of click
+     * @param hotbarButton the hotbar button pressed, or -1
+     * @return a future completing with whether to drop the click, or null to not intercept it
+     * @since 0.11.3
+     */
+    @Nullable
+    private CompletableFuture<Boolean> intercept(@NotNull Player player, int containerId, int rawSlot,
+                                                 @NotNull ClickType clickType, int hotbarButton) {
+        OpenGui openGui = this.openGuis.get(player.getUniqueId());
+
+        if (openGui == null || openGui.containerId != containerId || rawSlot >= openGui.topSize) {
+            return null;
+        }
+
+        CompletableFuture<Boolean> decision = new CompletableFuture<>();
+
+        this.scheduler.runAtEntity(player, () -> {
+            try {
+                decision.complete(handle(player, containerId, rawSlot, clickType, hotbarButton));
+            } catch (Throwable throwable) {
+                this.plugin.getLogger().log(Level.SEVERE, "Exception while handling an intercepted click", throwable);
+
+                decision.complete(false);
+            }
+        });
+
+        return decision;
+    }
+
+    /**
+     * Handles an intercepted click on the thread owning the player.
+     *
+     * @param player the clicking player
+     * @param containerId the id of the container clicked in
+     * @param rawSlot the raw slot that was clicked
+     * @param clickType the type of click
+     * @param hotbarButton the hotbar button pressed, or -1
+     * @return true if the click was cancelled and should be dropped, false if it should be passed on to the server
+     * @since 0.11.3
+     */
+    private boolean handle(@NotNull Player player, int containerId, int rawSlot, @NotNull ClickType clickType,
+                           int hotbarButton) {
+        //a click event fired since the previous click was passed on may not have consumed its slot yet
+        this.passedOn.remove(player.getUniqueId());
+
+        InventoryView view = player.getOpenInventory();
+
+        //the view was closed in the meantime, so the server will discard this click
+        if (this.interceptor.getContainerId(view) != containerId) {
+            return false;
+        }
+
+        Inventory topInventory = InventoryViewUtil.getInstance().getTopInventory(view);
+        ItemStack cursor = InventoryViewUtil.getInstance().getCursor(view);
+        InventoryAction action = getAction(player, clickType, cursor, topInventory.getItem(rawSlot));
+        InventoryType.SlotType slotType = InventoryViewUtil.getInstance().getSlotType(view, rawSlot);
+        InventoryClickEvent event = new InventoryClickEvent(view, slotType, rawSlot, clickType, action, hotbarButton);
+
+        this.guiListener.handleClick(event);
+
+        if (event.isCancelled()) {
+            player.updateInventory();
+            return true;
+        }
+
+        this.passedOn.put(player.getUniqueId(), rawSlot);
+        return false;
+    }
+
+    /**
+     * Gets the action the server would take for the specified click, without accounting for stack sizes.
+     *
+     * @param player the clicking player
+     * @param clickType the type of click
+     * @param cursor the item on the cursor
+     * @param current the clicked item
+     * @return the action
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static InventoryAction getAction(@NotNull Player player, @NotNull ClickType clickType,
+                                             @Nullable ItemStack cursor, @Nullable ItemStack current) {
+        boolean cursorEmpty = cursor == null || cursor.getType().isAir();
+        boolean currentEmpty = current == null || current.getType().isAir();
+
+        switch (clickType) {
+            case LEFT:
+                if (cursorEmpty) {
+                    return currentEmpty ? InventoryAction.NOTHING : InventoryAction.PICKUP_ALL;
+                }
+
+                return currentEmpty || current.isSimilar(cursor) ? InventoryAction.PLACE_ALL :
+                    InventoryAction.SWAP_WITH_CURSOR;
+            case RIGHT:
+                if (cursorEmpty) {
+                    return currentEmpty ? InventoryAction.NOTHING : InventoryAction.PICKUP_HALF;
+                }
+
+                return currentEmpty || current.isSimilar(cursor) ? InventoryAction.PLACE_ONE :
+                    InventoryAction.SWAP_WITH_CURSOR;
+            case SHIFT_LEFT:
+            case SHIFT_RIGHT:
+                return currentEmpty ? InventoryAction.NOTHING : InventoryAction.MOVE_TO_OTHER_INVENTORY;
+            case NUMBER_KEY:
+            case SWAP_OFFHAND:
+                return InventoryAction.HOTBAR_SWAP;
+            case MIDDLE:
+                return player.getGameMode() == GameMode.CREATIVE && cursorEmpty && !currentEmpty ?
+                    InventoryAction.CLONE_STACK : InventoryAction.NOTHING;
+            case DROP:
+                return cursorEmpty && !currentEmpty ? InventoryAction.DROP_ONE_SLOT : InventoryAction.NOTHING;
+            case CONTROL_DROP:
+                return cursorEmpty && !currentEmpty ? InventoryAction.DROP_ALL_SLOT : InventoryAction.NOTHING;
+            default:
+                return InventoryAction.UNKNOWN;
+        }
+    }
+
+    /**
+     * A gui a player has open
+     *
+     * @since 0.11.3
+     */
+    private static final class OpenGui {
+
+        /**
+         * The id of the container of the gui
+         */
+        private final int containerId;
+
+        /**
+         * The size of the top inventory of the gui
+         */
+        private final int topSize;
+
+        /**
+         * Creates a new open gui.
+         *
+         * @param containerId the id of the container of the gui
+         * @param topSize the size of the top inventory of the gui
+         * @since 0.11.3
+         */
+        private OpenGui(int containerId, int topSize) {
+            this.containerId = containerId;
+            this.topSize = topSize;
+        }
+    }
+}
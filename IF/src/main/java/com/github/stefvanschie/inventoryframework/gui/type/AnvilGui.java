@@ -7,11 +7,13 @@ import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import com.github.stefvanschie.inventoryframework.util.InputDebouncer;
 import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -31,7 +33,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 /**
@@ -47,6 +54,33 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     @NotNull
     private Consumer<? super String> onNameInputChanged = (name) -> {};
 
+    /**
+     * Called whenever the name input is changed, to start the asynchronous handler, or null if there is no
+     * asynchronous handler.
+     */
+    @Nullable
+    private Consumer<? super String> onNameInputChangedAsync;
+
+    /**
+     * Limits how often the handlers are called when the name input changes, or null if every change is handled
+     */
+    @Nullable
+    private InputDebouncer<String> renameDebouncer;
+
+    /**
+     * The amount of times the name input has been handled. Asynchronous results are only applied if no newer input
+     * has been handled in the meantime.
+     */
+    @NotNull
+    private final AtomicLong renameGeneration = new AtomicLong();
+
+    /**
+     * The player viewing this gui when the name input last changed, on whose thread debounced and asynchronous results
+     * are applied, or null if there was no single viewer
+     */
+    @Nullable
+    private volatile HumanEntity renamingPlayer;
+
     /**
      * Represents the inventory component for the first item
      */
@@ -86,7 +120,7 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     public AnvilGui(@NotNull String title) {
         super(title);
 
-        this.anvilInventory.subscribeToNameInputChanges(this::callOnRename);
+        this.anvilInventory.subscribeToNameInputChanges(this::handleRename);
     }
 
     /**
@@ -98,7 +132,7 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     public AnvilGui(@NotNull TextHolder title) {
         super(title);
 
-        this.anvilInventory.subscribeToNameInputChanges(this::callOnRename);
+        this.anvilInventory.subscribeToNameInputChanges(this::handleRename);
     }
 
     /**
@@ -112,7 +146,7 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     public AnvilGui(@NotNull String title, @NotNull Plugin plugin) {
         super(title, plugin);
 
-        this.anvilInventory.subscribeToNameInputChanges(this::callOnRename);
+        this.anvilInventory.subscribeToNameInputChanges(this::handleRename);
     }
 
     /**
@@ -126,43 +160,58 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     public AnvilGui(@NotNull TextHolder title, @NotNull Plugin plugin) {
         super(title, plugin);
 
-        this.anvilInventory.subscribeToNameInputChanges(this::callOnRename);
+        this.anvilInventory.subscribeToNameInputChanges(this::handleRename);
     }
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Anvils can only be opened by players");
-        }
+        long start = startShow();
 
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Anvils can only be opened by players");
+            }
+
+            if (requiresSingleViewer()) {
+                for (HumanEntity viewer : getInventory().getViewers()) {
+                    if (!viewer.equals(humanEntity)) {
+                        throw new IllegalStateException("Anvil guis with an asynchronous, debounced or throttled " +
+                            "rename handler can only be shown to a single player at a time");
+                    }
+                }
+            }
+
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
+
+            getInventory().clear();
 
-        getInventory().clear();
+            getFirstItemComponent().display(getInventory(), 0);
+            getSecondItemComponent().display(getInventory(), 1);
+            getResultComponent().display(getInventory(), 2);
 
-        getFirstItemComponent().display(getInventory(), 0);
-        getSecondItemComponent().display(getInventory(), 1);
-        getResultComponent().display(getInventory(), 2);
+            getPlayerInventoryComponent().display();
 
-        getPlayerInventoryComponent().display();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            Player player = (Player) humanEntity;
+            getFoliaScheduler().runAtEntity(player, () -> {
+                player.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        Player player = (Player) humanEntity;
-        getFoliaScheduler().runAtEntity(player, () -> {
-            player.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -181,6 +230,8 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -270,10 +321,32 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         return new ArrayList<>(getInventory().getViewers());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When the player that last changed the name input closes this gui, pending changes of the name input are dropped
+     * and results of asynchronous handlers that are still running are no longer applied.
+     */
+    @Override
+    public void callOnClose(@NotNull InventoryCloseEvent event) {
+        if (event.getPlayer().equals(this.renamingPlayer)) {
+            InputDebouncer<String> renameDebouncer = this.renameDebouncer;
+
+            if (renameDebouncer != null) {
+                renameDebouncer.cancel();
+            }
+
+            this.renameGeneration.incrementAndGet();
+            this.renamingPlayer = null;
+        }
+
+        super.callOnClose(event);
+    }
+
     /**
      * Sets the consumer that should be called whenever the name input is changed. The argument is the new input. When
      * this consumer is invoked, the value as returned by {@link #getRenameText()} will not have updated yet, hence
-     * allowing you to see the old value via that.
+     * allowing you to see the old value via that. This does not hold when the changes are debounced or throttled.
      *
      * @param onNameInputChanged the consumer to call when the rename input is changed
      * @since 0.10.10
@@ -282,6 +355,193 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         this.onNameInputChanged = onNameInputChanged;
     }
 
+    /**
+     * Sets a handler that should be called whenever the name input is changed, which runs asynchronously. The handler
+     * receives the new input and runs on the specified executor, so it can perform slow work, like querying a
+     * database. The executor is typically backed by the asynchronous scheduler of the plugin or a dedicated thread
+     * pool. The result of the handler is passed to the result consumer on the thread of the player that changed the
+     * input. If the input changes again before the result is applied, or the player closes this gui, the result is
+     * dropped, so the result consumer only ever sees the result of the latest input. This handler is called in
+     * addition to the handler specified via {@link #setOnNameInputChanged(Consumer)}.
+     * <p>
+     * The name input doesn't tell which player changed it, so a gui with an asynchronous handler can only be shown to a
+     * single player at a time: {@link #show(HumanEntity)} throws an {@link IllegalStateException} when another player
+     * is already viewing it.
+     *
+     * @param handler the handler to run asynchronously for the new input
+     * @param onResult the consumer to apply the result of the handler
+     * @param executor the executor to run the handler on
+     * @param <T> the type of result
+     * @see #setRenameDebounce(long, TimeUnit)
+     * @since 0.11.3
+     */
+    public <T> void setOnNameInputChangedAsync(@NotNull Function<? super String, ? extends T> handler,
+                                               @NotNull Consumer<? super T> onResult, @NotNull Executor executor) {
+        this.onNameInputChangedAsync = newInput -> {
+            long generation = this.renameGeneration.get();
+
+            CompletableFuture.supplyAsync(() -> handler.apply(newInput), executor).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    String message = "Exception while handling onRename asynchronously, newInput='" + newInput + "'";
+
+                    this.plugin.getLogger().log(Level.SEVERE, message, throwable);
+                    return;
+                }
+
+                runAsRenamingPlayer(() -> {
+                    if (this.renameGeneration.get() != generation) {
+                        return;
+                    }
+
+                    try {
+                        onResult.accept(result);
+                    } catch (Throwable resultThrowable) {
+                        String message = "Exception while applying onRename result, newInput='" + newInput + "'";
+
+                        this.plugin.getLogger().log(Level.SEVERE, message, resultThrowable);
+                    }
+                });
+            });
+        };
+    }
+
+    /**
+     * Debounces changes of the name input: the handlers are only called once the input hasn't changed for the
+     * specified delay, with the latest input. The handler specified via {@link #setOnNameInputChanged(Consumer)} is
+     * then called on the thread of the player that changed the input; at that point, {@link #getRenameText()} already
+     * returns the new input. This replaces a previously set debounce or throttle. A delay of zero calls the handlers on
+     * every change again. Like with {@link #setOnNameInputChangedAsync(Function, Consumer, Executor)}, a debounced gui
+     * can only be shown to a single player at a time.
+     *
+     * @param delay the delay
+     * @param unit the unit of the delay
+     * @throws IllegalArgumentException if the delay is negative
+     * @since 0.11.3
+     */
+    public void setRenameDebounce(long delay, @NotNull TimeUnit unit) {
+        setRenameDebouncer(delay, delay == 0 ? null : InputDebouncer.debounce(delay, unit, this::dispatchRename));
+    }
+
+    /**
+     * Throttles changes of the name input: the handlers are called at most once per the specified interval, with the
+     * latest input. Unlike debouncing, the handlers are also called while the player is still typing. The handler
+     * specified via {@link #setOnNameInputChanged(Consumer)} is called on the thread of the player that changed the
+     * input; at that point, {@link #getRenameText()} already returns the new input. This replaces a previously set
+     * debounce or throttle. An interval of zero calls the handlers on every change again. Like with
+     * {@link #setOnNameInputChangedAsync(Function, Consumer, Executor)}, a throttled gui can only be shown to a single
+     * player at a time.
+     *
+     * @param interval the interval
+     * @param unit the unit of the interval
+     * @throws IllegalArgumentException if the interval is negative
+     * @since 0.11.3
+     */
+    public void setRenameThrottle(long interval, @NotNull TimeUnit unit) {
+        setRenameDebouncer(interval, interval == 0 ? null :
+            InputDebouncer.throttle(interval, unit, this::dispatchRename));
+    }
+
+    /**
+     * Replaces the debouncer for the name input, dropping input that the previous debouncer didn't pass on yet.
+     *
+     * @param delay the delay of the debouncer
+     * @param renameDebouncer the new debouncer, or null to handle every change
+     * @throws IllegalArgumentException if the delay is negative
+     * @since 0.11.3
+     */
+    private void setRenameDebouncer(long delay, @Nullable InputDebouncer<String> renameDebouncer) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("Delay must be non-negative");
+        }
+
+        if (this.renameDebouncer != null) {
+            this.renameDebouncer.cancel();
+        }
+
+        this.renameDebouncer = renameDebouncer;
+    }
+
+    /**
+     * Handles a change of the name input, by either calling the handlers directly or passing the input to the
+     * debouncer.
+     *
+     * @param newInput the new rename input
+     * @since 0.11.3
+     */
+    private void handleRename(@NotNull String newInput) {
+        List<HumanEntity> viewers = getInventory().getViewers();
+
+        //with more viewers, the player that changed the input is unknown, so their results are dropped
+        this.renamingPlayer = viewers.size() == 1 ? viewers.get(0) : null;
+
+        this.renameGeneration.incrementAndGet();
+
+        InputDebouncer<String> renameDebouncer = this.renameDebouncer;
+
+        if (renameDebouncer == null) {
+            callOnRename(newInput);
+            startOnRenameAsync(newInput);
+            return;
+        }
+
+        renameDebouncer.submit(newInput);
+    }
+
+    /**
+     * Calls the handlers for input passed on by the debouncer. This may be called from any thread.
+     *
+     * @param newInput the new rename input
+     * @since 0.11.3
+     */
+    private void dispatchRename(@NotNull String newInput) {
+        runAsRenamingPlayer(() -> callOnRename(newInput));
+        startOnRenameAsync(newInput);
+    }
+
+    /**
+     * Gets whether the rename handlers require this gui to have a single viewer, because their results are applied on
+     * the thread of the player that changed the name input.
+     *
+     * @return true if there is an asynchronous rename handler or the name input is debounced or throttled
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    private boolean requiresSingleViewer() {
+        return this.onNameInputChangedAsync != null || this.renameDebouncer != null;
+    }
+
+    /**
+     * Runs the specified task on the thread of the player that last changed the name input. If no such player is
+     * known, the task is not run.
+     *
+     * @param task the task to run
+     * @since 0.11.3
+     */
+    private void runAsRenamingPlayer(@NotNull Runnable task) {
+        HumanEntity renamingPlayer = this.renamingPlayer;
+
+        if (renamingPlayer == null) {
+            return;
+        }
+
+        getFoliaScheduler().runAtEntity(renamingPlayer, task);
+    }
+
+    /**
+     * Starts the asynchronous handler specified via
+     * {@link #setOnNameInputChangedAsync(Function, Consumer, Executor)}, if any.
+     *
+     * @param newInput the new rename input
+     * @since 0.11.3
+     */
+    private void startOnRenameAsync(@NotNull String newInput) {
+        Consumer<? super String> onNameInputChangedAsync = this.onNameInputChangedAsync;
+
+        if (onNameInputChangedAsync != null) {
+            onNameInputChangedAsync.accept(newInput);
+        }
+    }
+
     /**
      * Calls the consumer that was specified using {@link #setOnNameInputChanged(Consumer)}, so the consumer that should
      * be called whenever the rename input is changed. Catches and logs all exceptions the consumer might throw.
@@ -77,30 +77,36 @@ public class BeaconGui extends Gui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Beacons can only be opened by players");
-        }
+        long start = startShow();
+
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Beacons can only be opened by players");
+            }
+
+            getInventory().clear();
 
-        getInventory().clear();
+            getPaymentItemComponent().display(getInventory(), 0);
+            getPlayerInventoryComponent().display();
 
-        getPaymentItemComponent().display(getInventory(), 0);
-        getPlayerInventoryComponent().display();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            Player player = (Player) humanEntity;
+            getFoliaScheduler().runAtEntity(player, () -> {
+                player.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        Player player = (Player) humanEntity;
-        getFoliaScheduler().runAtEntity(player, () -> {
-            player.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -117,6 +123,8 @@ public class BeaconGui extends Gui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -105,32 +105,38 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        long start = startShow();
+
+        try {
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getInventory().clear();
+            getInventory().clear();
 
-        getIngredientComponent().display(getInventory(), 0);
-        getFuelComponent().display(getInventory(), 1);
-        getOutputComponent().display(getInventory(), 2);
-        getPlayerInventoryComponent().display();
+            getIngredientComponent().display(getInventory(), 0);
+            getFuelComponent().display(getInventory(), 1);
+            getOutputComponent().display(getInventory(), 2);
+            getPlayerInventoryComponent().display();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            getFoliaScheduler().runAtEntity(humanEntity, () -> {
+                humanEntity.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        getFoliaScheduler().runAtEntity(humanEntity, () -> {
-            humanEntity.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -149,6 +155,8 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -188,7 +196,11 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
     @Contract(pure = true)
     @Override
     public Inventory createInventory() {
-        return getTitleHolder().asInventoryTitle(this, InventoryType.BLAST_FURNACE);
+        Inventory inventory = getTitleHolder().asInventoryTitle(this, InventoryType.BLAST_FURNACE);
+
+        addInventory(inventory, this);
+
+        return inventory;
     }
 
     @Contract(pure = true)
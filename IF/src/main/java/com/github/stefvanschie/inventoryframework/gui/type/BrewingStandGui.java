@@ -117,31 +117,37 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        long start = startShow();
 
-        getInventory().clear();
+        try {
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getFirstBottleComponent().display(getInventory(), 0);
-        getSecondBottleComponent().display(getInventory(), 1);
-        getThirdBottleComponent().display(getInventory(), 2);
-        getPotionIngredientComponent().display(getInventory(), 3);
-        getBlazePowderComponent().display(getInventory(), 4);
-        getPlayerInventoryComponent().display();
+            getInventory().clear();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            getFirstBottleComponent().display(getInventory(), 0);
+            getSecondBottleComponent().display(getInventory(), 1);
+            getThirdBottleComponent().display(getInventory(), 2);
+            getPotionIngredientComponent().display(getInventory(), 3);
+            getBlazePowderComponent().display(getInventory(), 4);
+            getPlayerInventoryComponent().display();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
+
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            humanEntity.openInventory(getInventory());
+        } finally {
+            finishShow(start);
         }
-
-        humanEntity.openInventory(getInventory());
     }
 
     @NotNull
@@ -162,6 +168,8 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -116,38 +116,44 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Cartography tables can only be opened by players");
-        }
+        long start = startShow();
 
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Cartography tables can only be opened by players");
+            }
 
-        getInventory().clear();
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
+
+            getInventory().clear();
 
-        getMapComponent().display(getInventory(), 0);
-        getPaperComponent().display(getInventory(), 1);
-        getOutputComponent().display(getInventory(), 2);
-        getPlayerInventoryComponent().display();
+            getMapComponent().display(getInventory(), 0);
+            getPaperComponent().display(getInventory(), 1);
+            getOutputComponent().display(getInventory(), 2);
+            getPlayerInventoryComponent().display();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            //also let Bukkit know that we opened an inventory
+            // Use Folia-compatible scheduling for inventory opening
+            Player player = (Player) humanEntity;
+            getFoliaScheduler().runAtEntity(player, () -> {
+                player.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        //also let Bukkit know that we opened an inventory
-        // Use Folia-compatible scheduling for inventory opening
-        Player player = (Player) humanEntity;
-        getFoliaScheduler().runAtEntity(player, () -> {
-            player.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -166,6 +172,8 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -108,42 +108,48 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty() || dirtyRows) {
-            this.inventory = createInventory();
-            this.dirtyRows = false;
+        long start = startShow();
 
-            markChanges();
-        }
+        try {
+            if (isDirty() || dirtyRows) {
+                this.inventory = createInventory();
+                this.dirtyRows = false;
 
-        getInventory().clear();
+                markChanges();
+            }
 
-        int height = getInventoryComponent().getHeight();
+            getInventory().clear();
 
-        getInventoryComponent().display();
+            int height = getInventoryComponent().getHeight();
 
-        InventoryComponent topComponent = getInventoryComponent().excludeRows(height - 4, height - 1);
-        InventoryComponent bottomComponent = getInventoryComponent().excludeRows(0, height - 5);
+            getInventoryComponent().display();
 
-        topComponent.placeItems(getInventory(), 0);
+            InventoryComponent topComponent = getInventoryComponent().excludeRows(height - 4, height - 1);
+            InventoryComponent bottomComponent = getInventoryComponent().excludeRows(0, height - 5);
 
-        if (bottomComponent.hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            topComponent.placeItems(getInventory(), 0);
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
-            }
+            if (bottomComponent.hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            bottomComponent.placeItems(humanEntity.getInventory(), 0);
-        }
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
 
-        // Use Folia-compatible scheduling for inventory opening
-        if (humanEntity instanceof org.bukkit.entity.Player) {
-            org.bukkit.entity.Player player = (org.bukkit.entity.Player) humanEntity;
-            getFoliaScheduler().runAtEntity(player, () -> {
-                player.openInventory(getInventory());
-            });
-        } else {
-            humanEntity.openInventory(getInventory());
+                bottomComponent.placeItems(humanEntity.getInventory(), 0);
+            }
+
+            // Use Folia-compatible scheduling for inventory opening
+            if (humanEntity instanceof org.bukkit.entity.Player) {
+                org.bukkit.entity.Player player = (org.bukkit.entity.Player) humanEntity;
+                getFoliaScheduler().runAtEntity(player, () -> {
+                    player.openInventory(getInventory());
+                });
+            } else {
+                humanEntity.openInventory(getInventory());
+            }
+        } finally {
+            finishShow(start);
         }
     }
 
@@ -160,6 +166,8 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -231,7 +239,11 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
     @Contract(pure = true)
     @Override
     public Inventory createInventory() {
-        return getTitleHolder().asInventoryTitle(this, getRows() * 9);
+        Inventory inventory = getTitleHolder().asInventoryTitle(this, getRows() * 9);
+
+        addInventory(inventory, this);
+
+        return inventory;
     }
 
     /**
@@ -93,30 +93,36 @@ public class CrafterGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        long start = startShow();
 
-        getInventory().clear();
+        try {
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getInputComponent().display(getInventory(), 0);
-        getPlayerInventoryComponent().display();
+            getInventory().clear();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            getInputComponent().display(getInventory(), 0);
+            getPlayerInventoryComponent().display();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
+
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            getFoliaScheduler().runAtEntity(humanEntity, () -> {
+                humanEntity.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        getFoliaScheduler().runAtEntity(humanEntity, () -> {
-            humanEntity.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -133,6 +139,8 @@ public class CrafterGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
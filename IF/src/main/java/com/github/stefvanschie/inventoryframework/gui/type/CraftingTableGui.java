@@ -99,31 +99,37 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        long start = startShow();
+
+        try {
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getInventory().clear();
+            getInventory().clear();
 
-        getOutputComponent().display(getInventory(), 0);
-        getInputComponent().display(getInventory(), 1);
-        getPlayerInventoryComponent().display();
+            getOutputComponent().display(getInventory(), 0);
+            getInputComponent().display(getInventory(), 1);
+            getPlayerInventoryComponent().display();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            getFoliaScheduler().runAtEntity(humanEntity, () -> {
+                humanEntity.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        getFoliaScheduler().runAtEntity(humanEntity, () -> {
-            humanEntity.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -141,6 +147,8 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -178,7 +186,11 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
     @Contract(pure = true)
     @Override
     public Inventory createInventory() {
-        return getTitleHolder().asInventoryTitle(this, InventoryType.WORKBENCH);
+        Inventory inventory = getTitleHolder().asInventoryTitle(this, InventoryType.WORKBENCH);
+
+        addInventory(inventory, this);
+
+        return inventory;
     }
 
     @Contract(pure = true)
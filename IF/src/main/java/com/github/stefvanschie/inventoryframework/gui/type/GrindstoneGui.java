@@ -108,36 +108,42 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Grindstones can only be opened by players");
-        }
+        long start = startShow();
 
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Grindstones can only be opened by players");
+            }
 
-        getInventory().clear();
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
+
+            getInventory().clear();
 
-        getItemsComponent().display(getInventory(), 0);
-        getResultComponent().display(getInventory(), 2);
-        getPlayerInventoryComponent().display();
+            getItemsComponent().display(getInventory(), 0);
+            getResultComponent().display(getInventory(), 2);
+            getPlayerInventoryComponent().display();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            Player player = (Player) humanEntity;
+            getFoliaScheduler().runAtEntity(player, () -> {
+                player.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        Player player = (Player) humanEntity;
-        getFoliaScheduler().runAtEntity(player, () -> {
-            player.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -155,6 +161,8 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -166,39 +166,45 @@ public class MerchantGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Merchants can only be opened by players");
-        }
+        long start = startShow();
 
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Merchants can only be opened by players");
+            }
 
-        getInventory().clear();
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getInputComponent().display(getInventory(), 0);
-        getPlayerInventoryComponent().display();
+            getInventory().clear();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            getInputComponent().display(getInventory(), 0);
+            getPlayerInventoryComponent().display();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
-            }
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
-        }
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
 
-        // Use Folia-compatible scheduling for inventory opening
-        Player player = (Player) humanEntity;
-        getFoliaScheduler().runAtEntity(player, () -> {
-            player.openInventory(getInventory());
-            
-            if (this.experience >= 0 || this.level > 0 || !this.trades.isEmpty()) {
-                this.merchantInventory.sendMerchantOffers(player, this.trades, this.level, this.experience);
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
-        });
+
+            // Use Folia-compatible scheduling for inventory opening
+            Player player = (Player) humanEntity;
+            getFoliaScheduler().runAtEntity(player, () -> {
+                player.openInventory(getInventory());
+
+                if (this.experience >= 0 || this.level > 0 || !this.trades.isEmpty()) {
+                    this.merchantInventory.sendMerchantOffers(player, this.trades, this.level, this.experience);
+                }
+            });
+        } finally {
+            finishShow(start);
+        }
     }
 
     @NotNull
@@ -239,6 +245,8 @@ public class MerchantGui extends NamedGui implements InventoryBased {
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnTradeSelect(this.onTradeSelect);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -285,6 +293,40 @@ public class MerchantGui extends NamedGui implements InventoryBased {
      */
     public void addTrade(@NotNull MerchantRecipe recipe, int discount) {
         this.trades.add(new AbstractMap.SimpleImmutableEntry<>(recipe, -discount));
+        this.merchantInventory.clearMerchantOffers();
+    }
+
+    /**
+     * Updates the uses and the maximum uses of the trade at the specified index. Trades are indexed in the order in
+     * which they were added. Only this trade is converted again, instead of all trades of this gui, and the updated
+     * trades are sent to the players currently viewing this gui.
+     *
+     * @param index the index of the trade
+     * @param uses the amount of times the trade has been used
+     * @param maxUses the maximum amount of times the trade can be used
+     * @throws IndexOutOfBoundsException if no trade exists at the specified index
+     * @since 0.11.3
+     */
+    public void updateTrade(int index, int uses, int maxUses) {
+        Map.Entry<MerchantRecipe, Integer> trade = this.trades.get(index);
+        MerchantRecipe recipe = trade.getKey();
+
+        recipe.setMaxUses(maxUses);
+        recipe.setUses(uses);
+
+        this.merchantInventory.updateMerchantOffer(index, trade);
+
+        for (HumanEntity viewer : getViewers()) {
+            if (!(viewer instanceof Player)) {
+                continue;
+            }
+
+            Player player = (Player) viewer;
+
+            getFoliaScheduler().runAtEntity(player, () -> {
+                this.merchantInventory.sendMerchantOffers(player, this.trades, this.level, this.experience);
+            });
+        }
     }
 
     /**
@@ -92,35 +92,41 @@ public class ShulkerBoxGui extends NamedGui implements MergedGui, InventoryBased
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        long start = startShow();
+
+        try {
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
 
-        getInventory().clear();
-        int height = getInventoryComponent().getHeight();
+            getInventory().clear();
+            int height = getInventoryComponent().getHeight();
 
-        getInventoryComponent().display();
+            getInventoryComponent().display();
 
-        InventoryComponent topComponent = getInventoryComponent().excludeRows(height - 4, height - 1);
-        InventoryComponent bottomComponent = getInventoryComponent().excludeRows(0, height - 5);
+            InventoryComponent topComponent = getInventoryComponent().excludeRows(height - 4, height - 1);
+            InventoryComponent bottomComponent = getInventoryComponent().excludeRows(0, height - 5);
 
-        topComponent.placeItems(getInventory(), 0);
+            topComponent.placeItems(getInventory(), 0);
 
-        if (bottomComponent.hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (bottomComponent.hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                bottomComponent.placeItems(humanEntity.getInventory(), 0);
             }
 
-            bottomComponent.placeItems(humanEntity.getInventory(), 0);
+            // Use Folia-compatible scheduling for inventory opening
+            getFoliaScheduler().runAtEntity(humanEntity, () -> {
+                humanEntity.openInventory(getInventory());
+            });
+        } finally {
+            finishShow(start);
         }
-
-        // Use Folia-compatible scheduling for inventory opening
-        getFoliaScheduler().runAtEntity(humanEntity, () -> {
-            humanEntity.openInventory(getInventory());
-        });
     }
 
     @NotNull
@@ -136,6 +142,8 @@ public class ShulkerBoxGui extends NamedGui implements MergedGui, InventoryBased
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
@@ -184,7 +192,11 @@ public class ShulkerBoxGui extends NamedGui implements MergedGui, InventoryBased
     @Contract(pure = true)
     @Override
     public Inventory createInventory() {
-        return getTitleHolder().asInventoryTitle(this, InventoryType.SHULKER_BOX);
+        Inventory inventory = getTitleHolder().asInventoryTitle(this, InventoryType.SHULKER_BOX);
+
+        addInventory(inventory, this);
+
+        return inventory;
     }
 
     @Contract(pure = true)
@@ -118,34 +118,40 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
 
     @Override
     public void show(@NotNull HumanEntity humanEntity) {
-        if (!(humanEntity instanceof Player)) {
-            throw new IllegalArgumentException("Smithing tables can only be opened by players");
-        }
+        long start = startShow();
 
-        if (isDirty()) {
-            this.inventory = createInventory();
-            markChanges();
-        }
+        try {
+            if (!(humanEntity instanceof Player)) {
+                throw new IllegalArgumentException("Smithing tables can only be opened by players");
+            }
 
-        getInventory().clear();
+            if (isDirty()) {
+                this.inventory = createInventory();
+                markChanges();
+            }
+
+            getInventory().clear();
 
-        getFirstItemComponent().display(getInventory(), 0);
-        getSecondItemComponent().display(getInventory(), 1);
-        getResultComponent().display(getInventory(), 2);
-        getPlayerInventoryComponent().display();
+            getFirstItemComponent().display(getInventory(), 0);
+            getSecondItemComponent().display(getInventory(), 1);
+            getResultComponent().display(getInventory(), 2);
+            getPlayerInventoryComponent().display();
 
-        if (getPlayerInventoryComponent().hasItem()) {
-            HumanEntityCache humanEntityCache = getHumanEntityCache();
+            if (getPlayerInventoryComponent().hasItem()) {
+                HumanEntityCache humanEntityCache = getHumanEntityCache();
 
-            if (!humanEntityCache.contains(humanEntity)) {
-                humanEntityCache.storeAndClear(humanEntity);
+                if (!humanEntityCache.contains(humanEntity)) {
+                    humanEntityCache.storeAndClear(humanEntity);
+                }
+
+                getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
             }
 
-            getPlayerInventoryComponent().placeItems(humanEntity.getInventory(), 0);
+            //also let Bukkit know that we opened an inventory
+            humanEntity.openInventory(getInventory());
+        } finally {
+            finishShow(start);
         }
-
-        //also let Bukkit know that we opened an inventory
-        humanEntity.openInventory(getInventory());
     }
 
     @NotNull
@@ -164,6 +170,8 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
         gui.setOnGlobalClick(this.onGlobalClick);
         gui.setOnOutsideClick(this.onOutsideClick);
         gui.setOnClose(this.onClose);
+        gui.setMetrics(getMetrics());
+        gui.setClickRateLimiter(getClickRateLimiter());
 
         return gui;
     }
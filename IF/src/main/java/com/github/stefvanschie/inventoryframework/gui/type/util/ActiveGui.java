@@ -0,0 +1,72 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of the guis being shown or clicked on the current thread. This allows code that doesn't know which gui
+ * it belongs to, like {@link InventoryComponent}s and {@link GuiItem}s, to attribute its work to the right gui, for
+ * metrics and profiling.
+ *
+ * @since 0.11.3
+ */
+public final class ActiveGui {
+
+    /**
+     * The guis being shown or clicked on the current thread, with the innermost one last
+     */
+    @NotNull
+    private static final ThreadLocal<List<Gui>> ACTIVE = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * A private constructor to ensure this utility class is never instantiated
+     */
+    private ActiveGui() {}
+
+    /**
+     * Marks the given gui as being shown or clicked on the current thread, until {@link #exit()} is called. Every call
+     * must be followed by a call to {@link #exit()} in a finally block.
+     *
+     * @param gui the gui
+     * @since 0.11.3
+     */
+    public static void enter(@NotNull Gui gui) {
+        ACTIVE.get().add(gui);
+    }
+
+    /**
+     * Ends the innermost call to {@link #enter(Gui)} on the current thread.
+     *
+     * @throws IllegalStateException if there is no such call
+     * @since 0.11.3
+     */
+    public static void exit() {
+        List<Gui> active = ACTIVE.get();
+
+        if (active.isEmpty()) {
+            throw new IllegalStateException("No gui was entered on this thread");
+        }
+
+        active.remove(active.size() - 1);
+    }
+
+    /**
+     * Gets the gui being shown or clicked on the current thread, or null if there is none.
+     *
+     * @return the active gui or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static Gui get() {
+        List<Gui> active = ACTIVE.get();
+
+        return active.isEmpty() ? null : active.get(active.size() - 1);
+    }
+}
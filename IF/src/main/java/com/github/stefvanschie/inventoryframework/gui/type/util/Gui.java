@@ -4,8 +4,13 @@ import com.github.stefvanschie.inventoryframework.HumanEntityCache;
 import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
 import com.github.stefvanschie.inventoryframework.gui.GuiListener;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
+import com.github.stefvanschie.inventoryframework.jfr.GuiEvents;
+import com.github.stefvanschie.inventoryframework.metrics.CallbackWatchdog;
+import com.github.stefvanschie.inventoryframework.metrics.GuiMetrics;
+import com.github.stefvanschie.inventoryframework.metrics.MetricsRegistry;
 import com.github.stefvanschie.inventoryframework.pane.*;
 import com.github.stefvanschie.inventoryframework.pane.component.*;
+import com.github.stefvanschie.inventoryframework.util.ClickRateLimiter;
 import com.github.stefvanschie.inventoryframework.util.FoliaScheduler;
 import com.github.stefvanschie.inventoryframework.util.TriFunction;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
@@ -17,6 +22,7 @@ import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.inventory.InventoryEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -127,6 +133,18 @@ public abstract class Gui {
     @Nullable
     private Gui parent;
 
+    /**
+     * The metrics this gui records into, or null if metrics are disabled for this gui
+     */
+    @Nullable
+    private volatile GuiMetrics metrics;
+
+    /**
+     * The limiter of the clicks in this gui, or null if clicks aren't limited
+     */
+    @Nullable
+    private volatile ClickRateLimiter clickRateLimiter;
+
     /**
      * The pane mapping which will allow users to register their own panes to be used in XML files
      */
@@ -142,12 +160,48 @@ public abstract class Gui {
         GUI_MAPPINGS = new HashMap<>();
 
     /**
-     * A map containing the relations between inventories and their respective gui. This is needed because Bukkit and
-     * Spigot ignore inventory holders for beacons, brewing stands, dispensers, droppers, furnaces and hoppers. The
-     * inventory holder for beacons is already being set properly via NMS, but this contains the other inventory types.
+     * A map containing the relations between inventories and their respective gui. Bukkit and Spigot ignore inventory
+     * holders for beacons, brewing stands, dispensers, droppers, furnaces and hoppers, and asking any other inventory
+     * for its holder may take a snapshot of the block holding it. Therefore, every gui type of this library adds its
+     * inventories to this map, so an inventory that isn't in here doesn't belong to any of these gui types. A gui
+     * references its inventory, so the guis are only weakly referenced; otherwise no entry would ever be removed. Guis
+     * that are being viewed are kept alive by the {@link GuiListener}. Looking an inventory up takes no lock, since this
+     * happens for every inventory event on every region thread.
+     */
+    @NotNull
+    private static final GuiInventories GUI_INVENTORIES = new GuiInventories();
+
+    /**
+     * Whether each gui class adds its inventories to {@link #GUI_INVENTORIES}. This is the case for the gui types of
+     * this library and for classes extending them, unless such a class overrides
+     * {@link InventoryBased#createInventory()}, since it may then no longer add its inventories.
      */
     @NotNull
-    private static final Map<Inventory, Gui> GUI_INVENTORIES = new WeakHashMap<>();
+    private static final ClassValue<Boolean> REGISTERING_TYPES = new ClassValue<Boolean>() {
+        @NotNull
+        @Override
+        protected Boolean computeValue(@NotNull Class<?> type) {
+            Package builtInPackage = ChestGui.class.getPackage();
+
+            for (Class<?> superclass = type; superclass != null; superclass = superclass.getSuperclass()) {
+                if (builtInPackage.equals(superclass.getPackage())) {
+                    return true;
+                }
+
+                if (declaresCreateInventory(superclass)) {
+                    return false;
+                }
+            }
+
+            return false;
+        }
+    };
+
+    /**
+     * Whether a gui of a type that may not add its inventories to {@link #GUI_INVENTORIES} has been created. The
+     * inventories of such guis can only be found via the inventory holder.
+     */
+    private static volatile boolean hasOtherTypes;
 
     /**
      * Whether listeners have ben registered by some gui
@@ -164,6 +218,10 @@ public abstract class Gui {
         this.plugin = plugin;
         this.foliaScheduler = new FoliaScheduler(plugin);
 
+        if (!addsInventories(getClass())) {
+            hasOtherTypes = true;
+        }
+
         if (!hasRegisteredListeners) {
             Bukkit.getPluginManager().registerEvents(new GuiListener(plugin), plugin);
 
@@ -235,6 +293,10 @@ public abstract class Gui {
      * Update the gui for everyone
      */
     public void update() {
+        GuiMetrics metrics = this.metrics;
+        long start = metrics == null ? 0 : System.nanoTime();
+        Object flightEvent = GuiEvents.beginUpdate();
+
         updating = true;
 
         for (HumanEntity viewer : getViewers()) {
@@ -250,6 +312,12 @@ public abstract class Gui {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
 
         updating = false;
+
+        GuiEvents.endUpdate(flightEvent, this);
+
+        if (metrics != null) {
+            metrics.recordUpdate(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -264,8 +332,41 @@ public abstract class Gui {
     }
 
     /**
-     * Gets a gui from the specified inventory. Only guis of type beacon, brewing stand, dispenser, dropper, furnace and
-     * hopper can be retrieved.
+     * Gets whether guis of the specified class add their inventories via {@link #addInventory(Inventory, Gui)}.
+     *
+     * @param type the gui class
+     * @return true if the inventories are added, false if they may not be
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    static boolean addsInventories(@NotNull Class<? extends Gui> type) {
+        return REGISTERING_TYPES.get(type);
+    }
+
+    /**
+     * Gets whether the specified class itself declares a {@link InventoryBased#createInventory()} method.
+     *
+     * @param type the class
+     * @return true if the method is declared, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    private static boolean declaresCreateInventory(@NotNull Class<?> type) {
+        try {
+            type.getDeclaredMethod("createInventory");
+
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets a gui from the specified inventory. As long as only the gui types of this library, and classes extending
+     * them without overriding {@link InventoryBased#createInventory()}, are used, this never asks the inventory for its
+     * holder, so looking up an inventory that doesn't belong to a gui is cheap. Once a gui of another type has been
+     * created, inventories that weren't added via {@link #addInventory(Inventory, Gui)} are looked up via their holder
+     * instead.
      *
      * @param inventory the inventory to get the gui from
      * @return the gui or null if the inventory doesn't have an accompanying gui
@@ -274,7 +375,19 @@ public abstract class Gui {
     @Nullable
     @Contract(pure = true)
     public static Gui getGui(@NotNull Inventory inventory) {
-        return GUI_INVENTORIES.get(inventory);
+        Gui gui = GUI_INVENTORIES.get(inventory);
+
+        if (gui != null || !hasOtherTypes) {
+            return gui;
+        }
+
+        InventoryHolder holder = inventory.getHolder();
+
+        if (holder instanceof Gui) {
+            return (Gui) holder;
+        }
+
+        return null;
     }
 
     /**
@@ -597,6 +710,11 @@ public abstract class Gui {
             return;
         }
 
+        GuiMetrics metrics = this.metrics;
+        long start = metrics == null ? 0 : System.nanoTime();
+        Object flightEvent = GuiEvents.beginCallback();
+        long watchdogStart = CallbackWatchdog.begin();
+
         try {
             callback.accept(event);
         } catch (Throwable t) {
@@ -608,6 +726,15 @@ public abstract class Gui {
 
             this.plugin.getLogger().log(Level.SEVERE, message, t);
         }
+
+        int slot = event instanceof InventoryClickEvent ? ((InventoryClickEvent) event).getRawSlot() : -1;
+
+        CallbackWatchdog.end(watchdogStart, this.plugin.getLogger(), this, null, slot, callbackName, callback);
+        GuiEvents.endCallback(flightEvent, callbackName, slot);
+
+        if (metrics != null) {
+            metrics.recordCallback(System.nanoTime() - start);
+        }
     }
 
     /**
@@ -637,6 +764,95 @@ public abstract class Gui {
         this.parent = gui;
     }
 
+    /**
+     * Enables metrics for this gui, recording into the metrics registered under the given name in
+     * {@link MetricsRegistry}. Guis enabled with the same name share their metrics. Copies of this gui made afterwards
+     * record into the same metrics.
+     *
+     * @param name the name of the metrics
+     * @since 0.11.3
+     */
+    public void enableMetrics(@NotNull String name) {
+        setMetrics(MetricsRegistry.getMetrics(name));
+    }
+
+    /**
+     * Sets the metrics this gui records into. If the metrics are null, metrics are disabled for this gui.
+     *
+     * @param metrics the metrics or null
+     * @since 0.11.3
+     */
+    public void setMetrics(@Nullable GuiMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the metrics this gui records into, or null if metrics are disabled for this gui.
+     *
+     * @return the metrics or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public GuiMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the limiter of the clicks in this gui. Clicks rejected by the limiter are cancelled and not passed on to
+     * any callback or pane. Copies of this gui made afterwards share the limiter. If the limiter is null, clicks aren't
+     * limited.
+     *
+     * @param clickRateLimiter the limiter or null
+     * @since 0.11.3
+     */
+    public void setClickRateLimiter(@Nullable ClickRateLimiter clickRateLimiter) {
+        this.clickRateLimiter = clickRateLimiter;
+    }
+
+    /**
+     * Gets the limiter of the clicks in this gui, or null if clicks aren't limited.
+     *
+     * @return the limiter or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public ClickRateLimiter getClickRateLimiter() {
+        return clickRateLimiter;
+    }
+
+    /**
+     * Marks the start of {@link #show(HumanEntity)}. Every call must be followed by a call to {@link #finishShow(long)}
+     * in a finally block.
+     *
+     * @return the start time to pass to {@link #finishShow(long)}
+     * @since 0.11.3
+     */
+    protected long startShow() {
+        ActiveGui.enter(this);
+        GuiEvents.beginShow();
+
+        return this.metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Marks the end of {@link #show(HumanEntity)}, recording its duration if metrics are enabled.
+     *
+     * @param start the start time returned by {@link #startShow()}
+     * @since 0.11.3
+     */
+    protected void finishShow(long start) {
+        GuiEvents.endShow(this);
+        ActiveGui.exit();
+
+        GuiMetrics metrics = this.metrics;
+
+        if (metrics != null) {
+            metrics.recordShow(System.nanoTime() - start);
+        }
+    }
+
     /**
      * Gets whether this gui is being updated, as invoked by {@link #update()}. This returns true if this is the case
      * and false otherwise.
@@ -0,0 +1,166 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The relations between inventories and their respective gui. Both are weakly referenced, like the keys of a
+ * {@link java.util.WeakHashMap}, and inventories are compared by equality like there. Unlike a synchronized weak hash
+ * map, looking an inventory up takes no lock, so inventory events on different threads don't wait for each other.
+ * Entries of collected inventories are removed when another inventory is added.
+ *
+ * @since 0.11.3
+ */
+final class GuiInventories {
+
+    /**
+     * The guis by the keys of their inventories. Entries are stored under a {@link WeakKey} and looked up with a
+     * {@link LookupKey}, which are equal when their inventories are.
+     */
+    @NotNull
+    private final ConcurrentMap<Object, WeakReference<Gui>> guis = new ConcurrentHashMap<>();
+
+    /**
+     * The keys whose inventories have been collected
+     */
+    @NotNull
+    private final ReferenceQueue<Inventory> collected = new ReferenceQueue<>();
+
+    /**
+     * Adds the specified inventory and its gui, replacing the gui of an equal inventory.
+     *
+     * @param inventory the inventory
+     * @param gui the gui belonging to the inventory
+     * @since 0.11.3
+     */
+    void put(@NotNull Inventory inventory, @NotNull Gui gui) {
+        expunge();
+
+        this.guis.put(new WeakKey(inventory, this.collected), new WeakReference<>(gui));
+    }
+
+    /**
+     * Gets the gui of the specified inventory, or null if the inventory doesn't belong to a gui that's still alive.
+     *
+     * @param inventory the inventory
+     * @return the gui or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    Gui get(@NotNull Inventory inventory) {
+        WeakReference<Gui> reference = this.guis.get(new LookupKey(inventory));
+
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Removes the entries of inventories that have been collected. A cleared key is only equal to itself, so it
+     * removes exactly its own entry.
+     *
+     * @since 0.11.3
+     */
+    private void expunge() {
+        Reference<? extends Inventory> key;
+
+        while ((key = this.collected.poll()) != null) {
+            this.guis.remove(key);
+        }
+    }
+
+    /**
+     * A key weakly referencing its inventory, under which entries are stored
+     *
+     * @since 0.11.3
+     */
+    private static final class WeakKey extends WeakReference<Inventory> {
+
+        /**
+         * The hash code of the inventory, which is kept after the inventory has been collected
+         */
+        private final int hash;
+
+        /**
+         * Creates a new key for the specified inventory.
+         *
+         * @param inventory the inventory
+         * @param queue the queue to add this key to once the inventory has been collected
+         * @since 0.11.3
+         */
+        private WeakKey(@NotNull Inventory inventory, @NotNull ReferenceQueue<Inventory> queue) {
+            super(inventory, queue);
+
+            this.hash = inventory.hashCode();
+        }
+
+        @Contract(pure = true)
+        @Override
+        public boolean equals(@Nullable Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            Inventory inventory = get();
+
+            if (inventory == null) {
+                return false;
+            }
+
+            if (object instanceof WeakKey) {
+                return inventory.equals(((WeakKey) object).get());
+            }
+
+            return object instanceof LookupKey && inventory.equals(((LookupKey) object).inventory);
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * A short-lived key strongly referencing its inventory, with which entries are looked up
+     *
+     * @since 0.11.3
+     */
+    private static final class LookupKey {
+
+        /**
+         * The inventory to look up
+         */
+        @NotNull
+        private final Inventory inventory;
+
+        /**
+         * Creates a new key for the specified inventory.
+         *
+         * @param inventory the inventory
+         * @since 0.11.3
+         */
+        private LookupKey(@NotNull Inventory inventory) {
+            this.inventory = inventory;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public boolean equals(@Nullable Object object) {
+            return object instanceof WeakKey && this.inventory.equals(((WeakKey) object).get());
+        }
+
+        @Contract(pure = true)
+        @Override
+        public int hashCode() {
+            return this.inventory.hashCode();
+        }
+    }
+}
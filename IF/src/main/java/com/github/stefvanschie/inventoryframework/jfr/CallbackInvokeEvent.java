@@ -0,0 +1,28 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a callback set on a gui or gui item is called.
+ *
+ * @since 0.11.3
+ */
+@Name("inventoryframework.CallbackInvoke")
+@Label("Callback Invoke")
+@Description("A callback set on a gui or gui item being called")
+final class CallbackInvokeEvent extends GuiEvent {
+
+    /**
+     * The name of the callback
+     */
+    @Label("Callback")
+    String callback;
+
+    /**
+     * The slot that was clicked, or -1 if the callback isn't for a click
+     */
+    @Label("Slot")
+    int slot;
+}
@@ -0,0 +1,28 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a click in a gui is dispatched to its callbacks and panes.
+ *
+ * @since 0.11.3
+ */
+@Name("inventoryframework.ClickDispatch")
+@Label("Click Dispatch")
+@Description("A click being dispatched to the callbacks and panes of a gui")
+final class ClickDispatchEvent extends GuiEvent {
+
+    /**
+     * The raw slot that was clicked
+     */
+    @Label("Slot")
+    int slot;
+
+    /**
+     * The type of click
+     */
+    @Label("Click Type")
+    String clickType;
+}
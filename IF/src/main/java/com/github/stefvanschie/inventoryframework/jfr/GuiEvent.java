@@ -0,0 +1,53 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The base of all flight recorder events about a gui.
+ *
+ * @since 0.11.3
+ */
+@Category({"Inventory Framework", "GUI"})
+abstract class GuiEvent extends Event {
+
+    /**
+     * The class of the gui
+     */
+    @Label("GUI Type")
+    String guiType;
+
+    /**
+     * The title of the gui, if it has one
+     */
+    @Label("Title")
+    String title;
+
+    /**
+     * The amount of viewers of the gui
+     */
+    @Label("Viewers")
+    int viewerCount;
+
+    /**
+     * Sets the fields describing the gui. If the gui is null, the fields are left empty.
+     *
+     * @param gui the gui or null
+     */
+    void setGui(@Nullable Gui gui) {
+        if (gui == null) {
+            return;
+        }
+
+        this.guiType = gui.getClass().getSimpleName();
+        this.viewerCount = gui.getViewerCount();
+
+        if (gui instanceof NamedGui) {
+            this.title = ((NamedGui) gui).getTitle();
+        }
+    }
+}
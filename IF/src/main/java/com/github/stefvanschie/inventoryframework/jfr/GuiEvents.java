@@ -0,0 +1,172 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Emits JDK Flight Recorder events for showing and updating guis, rendering panes, dispatching clicks and calling
+ * callbacks. The events are in the "Inventory Framework" category and are named
+ * {@code inventoryframework.GuiShow}, {@code inventoryframework.GuiUpdate}, {@code inventoryframework.PaneDisplay},
+ * {@code inventoryframework.ClickDispatch} and {@code inventoryframework.CallbackInvoke}. When no recording has them
+ * enabled, the cost is a check per call. On runtimes without a flight recorder, nothing is emitted.
+ * <p>
+ * Each {@code begin} method returns an event, or null if the event is disabled, which should be passed to the matching
+ * {@code end} method.
+ *
+ * @since 0.11.3
+ */
+public final class GuiEvents {
+
+    /**
+     * Whether the flight recorder API is available on this runtime
+     */
+    private static final boolean SUPPORTED = isSupported();
+
+    /**
+     * A private constructor to ensure this utility class is never instantiated
+     */
+    private GuiEvents() {}
+
+    /**
+     * Begins the show event for a gui. Every call must be followed by a call to {@link #endShow(Gui)} on the same
+     * thread in a finally block.
+     *
+     * @since 0.11.3
+     */
+    public static void beginShow() {
+        if (SUPPORTED) {
+            JfrSupport.beginShow();
+        }
+    }
+
+    /**
+     * Ends the show event begun by the innermost call to {@link #beginShow()} on this thread.
+     *
+     * @param gui the gui that was shown
+     * @since 0.11.3
+     */
+    public static void endShow(@NotNull Gui gui) {
+        if (SUPPORTED) {
+            JfrSupport.endShow(gui);
+        }
+    }
+
+    /**
+     * Begins the update event for a gui.
+     *
+     * @return the event or null
+     * @since 0.11.3
+     */
+    @Nullable
+    public static Object beginUpdate() {
+        return SUPPORTED ? JfrSupport.beginUpdate() : null;
+    }
+
+    /**
+     * Ends the update event for a gui.
+     *
+     * @param event the event returned by {@link #beginUpdate()}
+     * @param gui the gui that was updated
+     * @since 0.11.3
+     */
+    public static void endUpdate(@Nullable Object event, @NotNull Gui gui) {
+        if (event != null) {
+            JfrSupport.endUpdate(event, gui);
+        }
+    }
+
+    /**
+     * Begins the display event for a pane.
+     *
+     * @return the event or null
+     * @since 0.11.3
+     */
+    @Nullable
+    public static Object beginPaneDisplay() {
+        return SUPPORTED ? JfrSupport.beginPaneDisplay() : null;
+    }
+
+    /**
+     * Ends the display event for a pane. The event is attributed to the gui being shown on this thread, if any.
+     *
+     * @param event the event returned by {@link #beginPaneDisplay()}
+     * @param pane the pane that was displayed
+     * @since 0.11.3
+     */
+    public static void endPaneDisplay(@Nullable Object event, @NotNull Pane pane) {
+        if (event != null) {
+            JfrSupport.endPaneDisplay(event, pane);
+        }
+    }
+
+    /**
+     * Begins the dispatch event for a click.
+     *
+     * @return the event or null
+     * @since 0.11.3
+     */
+    @Nullable
+    public static Object beginClickDispatch() {
+        return SUPPORTED ? JfrSupport.beginClickDispatch() : null;
+    }
+
+    /**
+     * Ends the dispatch event for a click.
+     *
+     * @param event the event returned by {@link #beginClickDispatch()}
+     * @param gui the gui that was clicked
+     * @param click the click that was dispatched
+     * @since 0.11.3
+     */
+    public static void endClickDispatch(@Nullable Object event, @NotNull Gui gui, @NotNull InventoryClickEvent click) {
+        if (event != null) {
+            JfrSupport.endClickDispatch(event, gui, click);
+        }
+    }
+
+    /**
+     * Begins the invoke event for a callback.
+     *
+     * @return the event or null
+     * @since 0.11.3
+     */
+    @Nullable
+    public static Object beginCallback() {
+        return SUPPORTED ? JfrSupport.beginCallback() : null;
+    }
+
+    /**
+     * Ends the invoke event for a callback. The event is attributed to the gui being shown or clicked on this thread,
+     * if any.
+     *
+     * @param event the event returned by {@link #beginCallback()}
+     * @param callback the name of the callback
+     * @param slot the slot that was clicked, or -1 if the callback isn't for a click
+     * @since 0.11.3
+     */
+    public static void endCallback(@Nullable Object event, @NotNull String callback, int slot) {
+        if (event != null) {
+            JfrSupport.endCallback(event, callback, slot);
+        }
+    }
+
+    /**
+     * Checks whether the flight recorder API is available on this runtime.
+     *
+     * @return true if the flight recorder is available, false otherwise
+     */
+    @Contract(pure = true)
+    private static boolean isSupported() {
+        try {
+            Class.forName("jdk.jfr.Event", false, GuiEvents.class.getClassLoader());
+
+            return true;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+}
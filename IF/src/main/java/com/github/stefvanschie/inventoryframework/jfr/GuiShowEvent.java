@@ -0,0 +1,16 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a gui is shown to a player.
+ *
+ * @since 0.11.3
+ */
+@Name("inventoryframework.GuiShow")
+@Label("GUI Show")
+@Description("A gui being shown to a player")
+final class GuiShowEvent extends GuiEvent {
+}
@@ -0,0 +1,16 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a gui is updated for all its viewers.
+ *
+ * @since 0.11.3
+ */
+@Name("inventoryframework.GuiUpdate")
+@Label("GUI Update")
+@Description("A gui being updated for all its viewers")
+final class GuiUpdateEvent extends GuiEvent {
+}
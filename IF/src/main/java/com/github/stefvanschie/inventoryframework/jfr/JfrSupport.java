@@ -0,0 +1,203 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import com.github.stefvanschie.inventoryframework.gui.type.util.ActiveGui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import jdk.jfr.Event;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates and commits the flight recorder events. This class is only loaded once {@link GuiEvents} has determined the
+ * flight recorder is available, so it can refer to the flight recorder API freely.
+ *
+ * @since 0.11.3
+ */
+final class JfrSupport {
+
+    /**
+     * The show events of the guis being shown on the current thread, with the innermost one last. Disabled events are
+     * kept as null, so the events stay matched with their calls.
+     */
+    @NotNull
+    private static final ThreadLocal<List<GuiShowEvent>> SHOWS = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * A private constructor to ensure this utility class is never instantiated
+     */
+    private JfrSupport() {}
+
+    /**
+     * Begins a show event, see {@link GuiEvents#beginShow()}.
+     */
+    static void beginShow() {
+        SHOWS.get().add(begin(new GuiShowEvent()));
+    }
+
+    /**
+     * Ends the innermost show event on this thread.
+     *
+     * @param gui the gui that was shown
+     */
+    static void endShow(@NotNull Gui gui) {
+        List<GuiShowEvent> shows = SHOWS.get();
+        GuiShowEvent event = shows.remove(shows.size() - 1);
+
+        if (event == null || !end(event)) {
+            return;
+        }
+
+        event.setGui(gui);
+        event.commit();
+    }
+
+    /**
+     * Begins an update event.
+     *
+     * @return the event or null if it's disabled
+     */
+    @Nullable
+    static Object beginUpdate() {
+        return begin(new GuiUpdateEvent());
+    }
+
+    /**
+     * Ends an update event.
+     *
+     * @param flightEvent the event
+     * @param gui the gui that was updated
+     */
+    static void endUpdate(@NotNull Object flightEvent, @NotNull Gui gui) {
+        GuiUpdateEvent event = (GuiUpdateEvent) flightEvent;
+
+        if (!end(event)) {
+            return;
+        }
+
+        event.setGui(gui);
+        event.commit();
+    }
+
+    /**
+     * Begins a pane display event.
+     *
+     * @return the event or null if it's disabled
+     */
+    @Nullable
+    static Object beginPaneDisplay() {
+        return begin(new PaneDisplayEvent());
+    }
+
+    /**
+     * Ends a pane display event.
+     *
+     * @param flightEvent the event
+     * @param pane the pane that was displayed
+     */
+    static void endPaneDisplay(@NotNull Object flightEvent, @NotNull Pane pane) {
+        PaneDisplayEvent event = (PaneDisplayEvent) flightEvent;
+
+        if (!end(event)) {
+            return;
+        }
+
+        event.setGui(ActiveGui.get());
+        event.paneType = pane.getClass().getSimpleName();
+        event.paneCount = pane.getPanes().size() + 1;
+        event.commit();
+    }
+
+    /**
+     * Begins a click dispatch event.
+     *
+     * @return the event or null if it's disabled
+     */
+    @Nullable
+    static Object beginClickDispatch() {
+        return begin(new ClickDispatchEvent());
+    }
+
+    /**
+     * Ends a click dispatch event.
+     *
+     * @param flightEvent the event
+     * @param gui the gui that was clicked
+     * @param click the click that was dispatched
+     */
+    static void endClickDispatch(@NotNull Object flightEvent, @NotNull Gui gui, @NotNull InventoryClickEvent click) {
+        ClickDispatchEvent event = (ClickDispatchEvent) flightEvent;
+
+        if (!end(event)) {
+            return;
+        }
+
+        event.setGui(gui);
+        event.slot = click.getRawSlot();
+        event.clickType = click.getClick().name();
+        event.commit();
+    }
+
+    /**
+     * Begins a callback invoke event.
+     *
+     * @return the event or null if it's disabled
+     */
+    @Nullable
+    static Object beginCallback() {
+        return begin(new CallbackInvokeEvent());
+    }
+
+    /**
+     * Ends a callback invoke event.
+     *
+     * @param flightEvent the event
+     * @param callback the name of the callback
+     * @param slot the slot that was clicked, or -1 if the callback isn't for a click
+     */
+    static void endCallback(@NotNull Object flightEvent, @NotNull String callback, int slot) {
+        CallbackInvokeEvent event = (CallbackInvokeEvent) flightEvent;
+
+        if (!end(event)) {
+            return;
+        }
+
+        event.setGui(ActiveGui.get());
+        event.callback = callback;
+        event.slot = slot;
+        event.commit();
+    }
+
+    /**
+     * Begins the given event, if it's enabled.
+     *
+     * @param event the event
+     * @param <T> the type of event
+     * @return the event, or null if it's disabled
+     */
+    @Nullable
+    private static <T extends Event> T begin(@NotNull T event) {
+        if (!event.isEnabled()) {
+            return null;
+        }
+
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * Ends the given event and checks whether it should be committed, e.g. because its duration exceeds the threshold.
+     *
+     * @param event the event
+     * @return true if the event should be committed, false otherwise
+     */
+    private static boolean end(@NotNull Event event) {
+        event.end();
+
+        return event.shouldCommit();
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.stefvanschie.inventoryframework.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Recorded when a pane of an inventory component is rendered.
+ *
+ * @since 0.11.3
+ */
+@Name("inventoryframework.PaneDisplay")
+@Label("Pane Display")
+@Description("A pane, including its child panes, being rendered")
+final class PaneDisplayEvent extends GuiEvent {
+
+    /**
+     * The class of the pane
+     */
+    @Label("Pane Type")
+    String paneType;
+
+    /**
+     * The amount of panes rendered, the pane itself and all its child panes
+     */
+    @Label("Pane Count")
+    int paneCount;
+}
@@ -0,0 +1,488 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import com.github.stefvanschie.inventoryframework.util.MethodCallback;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds callbacks that take too long, like the one menu button that blocks a tick. Once enabled, every gui callback
+ * and gui item action is timed. Callbacks that take longer than the threshold are logged, passed to the
+ * {@link SlowCallbackListener}s and kept in a table of the slowest callbacks, which can be queried with
+ * {@link #getSlowest()}. Each slow callback is attributed to its gui, pane and slot, and to the method it called if it
+ * was loaded from XML.
+ * <p>
+ * While enabled, a background thread samples the stack of callbacks that are still running after the threshold has
+ * passed, so reports show what the callback was doing while it was slow. The watchdog is disabled by default.
+ *
+ * @since 0.11.3
+ */
+public final class CallbackWatchdog {
+
+    /**
+     * The value returned by {@link #begin()} when the watchdog is disabled
+     */
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    /**
+     * The shortest time between two stack samples, in nanoseconds
+     */
+    private static final long MINIMUM_SAMPLE_PERIOD = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * The slowest callbacks, slowest first
+     */
+    @NotNull
+    private static final List<SlowCallback> SLOWEST = new ArrayList<>();
+
+    /**
+     * The listeners to report slow callbacks to
+     */
+    @NotNull
+    private static final List<SlowCallbackListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * The state of every thread that has run a callback while the watchdog was enabled
+     */
+    @NotNull
+    private static final Set<Running> THREADS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The state of the current thread
+     */
+    @NotNull
+    private static final ThreadLocal<Running> RUNNING = ThreadLocal.withInitial(() -> {
+        Running running = new Running(Thread.currentThread());
+
+        THREADS.add(running);
+
+        return running;
+    });
+
+    /**
+     * The executor on which stacks are sampled. Its thread stops when it's idle, so it doesn't linger after the
+     * watchdog has been disabled.
+     */
+    @NotNull
+    private static final ScheduledThreadPoolExecutor SAMPLER;
+
+    /**
+     * The threshold in nanoseconds above which callbacks are reported, or -1 if the watchdog is disabled
+     */
+    private static volatile long threshold = -1;
+
+    /**
+     * Whether slow callbacks are logged
+     */
+    private static volatile boolean logging = true;
+
+    /**
+     * The amount of slow callbacks kept in the table, guarded by {@link #SLOWEST}
+     */
+    private static int tableSize = 10;
+
+    /**
+     * The task sampling stacks, or null if the watchdog is disabled, guarded by this class
+     */
+    @Nullable
+    private static ScheduledFuture<?> samplerTask;
+
+    /**
+     * A private constructor to ensure this utility class is never instantiated
+     */
+    private CallbackWatchdog() {}
+
+    /**
+     * Enables the watchdog, reporting callbacks that take longer than the given threshold. If the watchdog is already
+     * enabled, the threshold is changed.
+     *
+     * @param threshold the threshold
+     * @param unit the unit of the threshold
+     * @throws IllegalArgumentException if the threshold is not positive
+     * @since 0.11.3
+     */
+    public static synchronized void enable(long threshold, @NotNull TimeUnit unit) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+
+        long nanos = unit.toNanos(threshold);
+        long period = Math.max(nanos / 2, MINIMUM_SAMPLE_PERIOD);
+
+        if (samplerTask != null) {
+            samplerTask.cancel(false);
+        }
+
+        CallbackWatchdog.threshold = nanos;
+        samplerTask = SAMPLER.scheduleAtFixedRate(CallbackWatchdog::sample, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Disables the watchdog. Callbacks are no longer timed, but the table of slowest callbacks is kept.
+     *
+     * @since 0.11.3
+     */
+    public static synchronized void disable() {
+        threshold = -1;
+
+        if (samplerTask != null) {
+            samplerTask.cancel(false);
+            samplerTask = null;
+        }
+    }
+
+    /**
+     * Gets whether the watchdog is enabled.
+     *
+     * @return true if enabled, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public static boolean isEnabled() {
+        return threshold >= 0;
+    }
+
+    /**
+     * Sets whether slow callbacks are logged, to the logger of the plugin owning the gui or item. Slow callbacks are
+     * logged by default; listeners and the table of slowest callbacks are unaffected by this.
+     *
+     * @param logging whether to log slow callbacks
+     * @since 0.11.3
+     */
+    public static void setLogging(boolean logging) {
+        CallbackWatchdog.logging = logging;
+    }
+
+    /**
+     * Sets the amount of slow callbacks kept in the table returned by {@link #getSlowest()}. This is 10 by default.
+     *
+     * @param tableSize the amount of slow callbacks to keep
+     * @throws IllegalArgumentException if the size is negative
+     * @since 0.11.3
+     */
+    public static void setTableSize(int tableSize) {
+        if (tableSize < 0) {
+            throw new IllegalArgumentException("Table size must not be negative");
+        }
+
+        synchronized (SLOWEST) {
+            CallbackWatchdog.tableSize = tableSize;
+
+            while (SLOWEST.size() > tableSize) {
+                SLOWEST.remove(SLOWEST.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Gets the slowest callbacks reported so far, slowest first. The returned list is an unmodifiable copy.
+     *
+     * @return the slowest callbacks
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static List<SlowCallback> getSlowest() {
+        synchronized (SLOWEST) {
+            return Collections.unmodifiableList(new ArrayList<>(SLOWEST));
+        }
+    }
+
+    /**
+     * Removes all callbacks from the table of slowest callbacks.
+     *
+     * @since 0.11.3
+     */
+    public static void reset() {
+        synchronized (SLOWEST) {
+            SLOWEST.clear();
+        }
+    }
+
+    /**
+     * Adds a listener, which will be called for every slow callback.
+     *
+     * @param listener the listener
+     * @since 0.11.3
+     */
+    public static void addListener(@NotNull SlowCallbackListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     * @since 0.11.3
+     */
+    public static void removeListener(@NotNull SlowCallbackListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Starts timing a callback on the current thread. The returned value should be passed to
+     * {@link #end(long, Logger, Gui, Pane, int, String, Object)} once the callback has returned, also when it threw.
+     *
+     * @return the start of the callback
+     * @since 0.11.3
+     */
+    public static long begin() {
+        if (threshold < 0) {
+            return DISABLED;
+        }
+
+        Running running = RUNNING.get();
+        long start = System.nanoTime();
+
+        if (running.depth++ == 0) {
+            running.sample = null;
+            running.start = start;
+            running.active = true;
+        }
+
+        return start;
+    }
+
+    /**
+     * Stops timing a callback on the current thread and reports it if it took longer than the threshold.
+     *
+     * @param start the value returned by {@link #begin()}
+     * @param logger the logger to log to
+     * @param gui the gui the callback belongs to, or null if unknown
+     * @param pane the pane the callback belongs to, or null if none
+     * @param slot the raw slot that was clicked, or -1 if the callback wasn't for a click
+     * @param name the name of the callback, like {@code onTopClick}
+     * @param callback the callback that was called
+     * @since 0.11.3
+     */
+    public static void end(long start, @NotNull Logger logger, @Nullable Gui gui, @Nullable Pane pane, int slot,
+                           @NotNull String name, @NotNull Object callback) {
+        if (start == DISABLED) {
+            return;
+        }
+
+        long duration = System.nanoTime() - start;
+        Running running = RUNNING.get();
+        Sample sample = running.sample;
+
+        if (--running.depth == 0) {
+            running.active = false;
+        }
+
+        long threshold = CallbackWatchdog.threshold;
+
+        if (threshold < 0 || duration < threshold) {
+            return;
+        }
+
+        StackTraceElement[] stack = sample == null || sample.time - start < 0 ? new StackTraceElement[0] : sample.stack;
+        String guiType = gui == null ? null : gui.getClass().getSimpleName();
+        String guiTitle = gui instanceof NamedGui ? ((NamedGui) gui).getTitle() : null;
+        String paneType = pane == null ? null : pane.getClass().getSimpleName();
+        SlowCallback slowCallback = new SlowCallback(name, describe(callback), guiType, guiTitle, paneType, slot,
+            duration, Thread.currentThread().getName(), stack);
+
+        report(slowCallback, logger);
+    }
+
+    /**
+     * Reports a slow callback to the table, the logger and the listeners.
+     *
+     * @param slowCallback the slow callback
+     * @param logger the logger to log to
+     */
+    private static void report(@NotNull SlowCallback slowCallback, @NotNull Logger logger) {
+        synchronized (SLOWEST) {
+            int index = 0;
+
+            while (index < SLOWEST.size() && SLOWEST.get(index).getDuration(TimeUnit.NANOSECONDS) >=
+                    slowCallback.getDuration(TimeUnit.NANOSECONDS)) {
+                index++;
+            }
+
+            if (index < tableSize) {
+                SLOWEST.add(index, slowCallback);
+
+                if (SLOWEST.size() > tableSize) {
+                    SLOWEST.remove(SLOWEST.size() - 1);
+                }
+            }
+        }
+
+        if (logging) {
+            StringBuilder message = new StringBuilder("Slow callback: ").append(slowCallback);
+
+            for (StackTraceElement element : slowCallback.getStack()) {
+                message.append("\n\tat ").append(element);
+            }
+
+            logger.warning(message.toString());
+        }
+
+        for (SlowCallbackListener listener : LISTENERS) {
+            try {
+                listener.onSlowCallback(slowCallback);
+            } catch (Throwable throwable) {
+                logger.log(Level.SEVERE, "Exception while reporting slow callback", throwable);
+            }
+        }
+    }
+
+    /**
+     * Samples the stack of every thread whose callback is running for longer than the threshold, unless its stack
+     * has already been sampled.
+     */
+    private static void sample() {
+        long threshold = CallbackWatchdog.threshold;
+
+        if (threshold < 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        for (Running running : THREADS) {
+            if (!running.thread.isAlive()) {
+                THREADS.remove(running);
+                continue;
+            }
+
+            if (!running.active || running.sample != null) {
+                continue;
+            }
+
+            long start = running.start;
+
+            if (now - start < threshold) {
+                continue;
+            }
+
+            StackTraceElement[] stack = running.thread.getStackTrace();
+
+            //the callback may have finished while we were sampling
+            if (running.active && running.start == start) {
+                running.sample = new Sample(now, stack);
+            }
+        }
+    }
+
+    /**
+     * Describes the code called by the given callback. For callbacks loaded from XML this is the method, for lambdas
+     * this is the class the lambda was declared in.
+     *
+     * @param callback the callback
+     * @return the description
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String describe(@NotNull Object callback) {
+        if (callback instanceof MethodCallback<?>) {
+            return callback.toString();
+        }
+
+        String name = callback.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+
+        return lambda == -1 ? name : name.substring(0, lambda) + " (lambda)";
+    }
+
+    /**
+     * The callback state of a thread
+     */
+    private static final class Running {
+
+        /**
+         * The thread
+         */
+        @NotNull
+        private final Thread thread;
+
+        /**
+         * The amount of callbacks running on the thread, which is more than one when callbacks cause other callbacks,
+         * like closing the inventory from a click. Only accessed by the thread itself.
+         */
+        private int depth;
+
+        /**
+         * Whether a callback is running
+         */
+        private volatile boolean active;
+
+        /**
+         * The start of the outermost running callback, as per {@link System#nanoTime()}
+         */
+        private volatile long start;
+
+        /**
+         * The stack sampled while the outermost callback was running, or null if none was sampled yet
+         */
+        @Nullable
+        private volatile Sample sample;
+
+        /**
+         * Creates the state of a thread.
+         *
+         * @param thread the thread
+         */
+        private Running(@NotNull Thread thread) {
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * A sampled stack
+     */
+    private static final class Sample {
+
+        /**
+         * The time at which the stack was sampled, as per {@link System#nanoTime()}
+         */
+        private final long time;
+
+        /**
+         * The stack
+         */
+        @NotNull
+        private final StackTraceElement[] stack;
+
+        /**
+         * Creates a new sample.
+         *
+         * @param time the time the stack was sampled
+         * @param stack the stack
+         */
+        private Sample(long time, @NotNull StackTraceElement[] stack) {
+            this.time = time;
+            this.stack = stack;
+        }
+    }
+
+    static {
+        SAMPLER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "IF callback watchdog");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        SAMPLER.setKeepAliveTime(1, TimeUnit.MINUTES);
+        SAMPLER.allowCoreThreadTimeOut(true);
+        SAMPLER.setRemoveOnCancelPolicy(true);
+    }
+}
@@ -0,0 +1,297 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import com.github.stefvanschie.inventoryframework.gui.type.util.ActiveGui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render and click metrics for one or more guis. Guis record into these metrics once they're enabled via
+ * {@link Gui#enableMetrics(String)}; all guis enabled with the same name, like copies of a single gui, share their
+ * metrics. Instances are obtained from {@link MetricsRegistry}.
+ *
+ * @since 0.11.3
+ */
+public final class GuiMetrics {
+
+    /**
+     * The name of these metrics
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * The durations of {@link Gui#show(org.bukkit.entity.HumanEntity)}
+     */
+    @NotNull
+    private final LatencyHistogram showTimes = new LatencyHistogram();
+
+    /**
+     * The durations of {@link Gui#update()}
+     */
+    @NotNull
+    private final LatencyHistogram updateTimes = new LatencyHistogram();
+
+    /**
+     * The durations of rendering the panes of an {@link InventoryComponent}
+     */
+    @NotNull
+    private final LatencyHistogram displayTimes = new LatencyHistogram();
+
+    /**
+     * The durations of dispatching a click to the gui, including all callbacks
+     */
+    @NotNull
+    private final LatencyHistogram clickTimes = new LatencyHistogram();
+
+    /**
+     * The durations of the callbacks set on guis and gui items
+     */
+    @NotNull
+    private final LatencyHistogram callbackTimes = new LatencyHistogram();
+
+    /**
+     * The amount of times a gui was opened by a player
+     */
+    @NotNull
+    private final LongAdder opens = new LongAdder();
+
+    /**
+     * The amount of times a gui was rendered
+     */
+    @NotNull
+    private final LongAdder renders = new LongAdder();
+
+    /**
+     * The amount of slots written to inventories
+     */
+    @NotNull
+    private final LongAdder slotsWritten = new LongAdder();
+
+    /**
+     * Creates new, empty metrics.
+     *
+     * @param name the name of the metrics
+     */
+    GuiMetrics(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records the duration of showing a gui. This also counts as a render.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void recordShow(long nanos) {
+        showTimes.record(nanos);
+        renders.increment();
+    }
+
+    /**
+     * Records the duration of updating a gui.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void recordUpdate(long nanos) {
+        updateTimes.record(nanos);
+    }
+
+    /**
+     * Records the duration of rendering the panes of an inventory component.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void recordDisplay(long nanos) {
+        displayTimes.record(nanos);
+    }
+
+    /**
+     * Records the duration of dispatching a click.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void recordClick(long nanos) {
+        clickTimes.record(nanos);
+    }
+
+    /**
+     * Records the duration of a callback.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void recordCallback(long nanos) {
+        callbackTimes.record(nanos);
+    }
+
+    /**
+     * Counts a gui being opened.
+     *
+     * @since 0.11.3
+     */
+    public void recordOpen() {
+        opens.increment();
+    }
+
+    /**
+     * Counts slots being written to an inventory.
+     *
+     * @param slots the amount of slots
+     * @since 0.11.3
+     */
+    public void recordSlotsWritten(int slots) {
+        slotsWritten.add(slots);
+    }
+
+    /**
+     * Removes everything recorded so far.
+     *
+     * @since 0.11.3
+     */
+    public void reset() {
+        showTimes.reset();
+        updateTimes.reset();
+        displayTimes.reset();
+        clickTimes.reset();
+        callbackTimes.reset();
+        opens.reset();
+        renders.reset();
+        slotsWritten.reset();
+    }
+
+    /**
+     * Gets the name of these metrics.
+     *
+     * @return the name
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the durations of showing guis.
+     *
+     * @return the show durations
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public LatencyHistogram getShowTimes() {
+        return showTimes;
+    }
+
+    /**
+     * Gets the durations of updating guis.
+     *
+     * @return the update durations
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public LatencyHistogram getUpdateTimes() {
+        return updateTimes;
+    }
+
+    /**
+     * Gets the durations of rendering the panes of inventory components.
+     *
+     * @return the display durations
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public LatencyHistogram getDisplayTimes() {
+        return displayTimes;
+    }
+
+    /**
+     * Gets the durations of dispatching clicks, including all callbacks.
+     *
+     * @return the click durations
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public LatencyHistogram getClickTimes() {
+        return clickTimes;
+    }
+
+    /**
+     * Gets the durations of callbacks set on guis and gui items.
+     *
+     * @return the callback durations
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public LatencyHistogram getCallbackTimes() {
+        return callbackTimes;
+    }
+
+    /**
+     * Gets the amount of times guis were opened by players.
+     *
+     * @return the amount of opens
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getOpens() {
+        return opens.sum();
+    }
+
+    /**
+     * Gets the amount of times guis were rendered.
+     *
+     * @return the amount of renders
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getRenders() {
+        return renders.sum();
+    }
+
+    /**
+     * Gets the amount of slots written to inventories.
+     *
+     * @return the amount of slots written
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getSlotsWritten() {
+        return slotsWritten.sum();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + name + ", opens=" + getOpens() + ", renders=" + getRenders() +
+            "}";
+    }
+
+    /**
+     * Gets the metrics of the gui being shown or clicked on the current thread, as per {@link ActiveGui#get()}.
+     * Returns null if no gui is being shown or clicked, or if the gui doesn't have metrics.
+     *
+     * @return the active metrics or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static GuiMetrics getActive() {
+        Gui gui = ActiveGui.get();
+
+        return gui == null ? null : gui.getMetrics();
+    }
+}
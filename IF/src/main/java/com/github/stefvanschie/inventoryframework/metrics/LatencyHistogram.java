@@ -0,0 +1,207 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds. Durations are counted in buckets whose width grows with the duration, such
+ * that each bucket is at most an eighth of its lower bound wide. Percentiles are therefore accurate to within 12.5%,
+ * while recording is a few atomic increments, regardless of how many durations have been recorded. Durations can be
+ * recorded from multiple threads at the same time.
+ *
+ * @since 0.11.3
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The amount of bits used for the sub-bucket within a power of two
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * The amount of sub-buckets within a power of two
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The amount of buckets, enough for every non-negative long
+     */
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * The amount of durations recorded per bucket
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The amount of durations recorded
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of all durations recorded
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * The longest duration recorded
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration. Negative durations are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     * @since 0.11.3
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+
+        buckets.incrementAndGet(getBucket(duration));
+        count.increment();
+        total.add(duration);
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    /**
+     * Gets the amount of durations recorded.
+     *
+     * @return the amount of durations
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the sum of all durations recorded.
+     *
+     * @return the total duration in nanoseconds
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the longest duration recorded, or zero if nothing has been recorded.
+     *
+     * @return the longest duration in nanoseconds
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the mean of all durations recorded, or zero if nothing has been recorded.
+     *
+     * @return the mean duration in nanoseconds
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public double getMean() {
+        long count = getCount();
+
+        return count == 0 ? 0 : (double) getTotal() / count;
+    }
+
+    /**
+     * Gets the duration below which the given percentage of durations fall. The returned duration is the upper bound
+     * of the bucket the percentile falls in, but never more than the longest duration recorded. If nothing has been
+     * recorded, zero is returned.
+     *
+     * @param percentile the percentile, between 0 and 100 inclusive
+     * @return the duration in nanoseconds
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            count += counts[bucket];
+        }
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max((long) Math.ceil(count * percentile / 100), 1);
+        long seen = 0;
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+
+            if (seen >= rank) {
+                return Math.min(getUpperBound(bucket), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Removes all recorded durations. Durations recorded while resetting may be partially kept.
+     *
+     * @since 0.11.3
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets.set(bucket, 0);
+        }
+
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    /**
+     * Gets the bucket the given duration is counted in.
+     *
+     * @param duration the non-negative duration
+     * @return the bucket
+     */
+    @Contract(pure = true)
+    private static int getBucket(long duration) {
+        if (duration < SUB_BUCKETS) {
+            return (int) duration;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(duration);
+        int shift = exponent - SUB_BUCKET_BITS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((duration >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Gets the largest duration counted in the given bucket.
+     *
+     * @param bucket the bucket
+     * @return the upper bound
+     */
+    @Contract(pure = true)
+    private static long getUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+}
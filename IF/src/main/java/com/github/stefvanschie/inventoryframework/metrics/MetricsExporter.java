@@ -0,0 +1,25 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * Forwards gui metrics to a monitoring system. Exporters are added to {@link MetricsRegistry} and are called every
+ * time {@link MetricsRegistry#export()} is called.
+ *
+ * @since 0.11.3
+ */
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * Exports the given metrics. The metrics are live and may be recorded into while exporting. Exporters that report
+     * per interval may call {@link GuiMetrics#reset()} once the metrics have been exported, which affects all
+     * exporters called afterwards.
+     *
+     * @param metrics all registered metrics
+     * @since 0.11.3
+     */
+    void export(@NotNull Collection<? extends GuiMetrics> metrics);
+}
@@ -0,0 +1,121 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The global registry of gui metrics and the exporters forwarding them. Metrics are registered by name the first time
+ * they're requested, so every gui enabling metrics with the same name records into the same metrics.
+ *
+ * @since 0.11.3
+ */
+public final class MetricsRegistry {
+
+    /**
+     * The registered metrics by their name
+     */
+    @NotNull
+    private static final Map<String, GuiMetrics> METRICS = new ConcurrentHashMap<>();
+
+    /**
+     * The exporters to forward metrics to
+     */
+    @NotNull
+    private static final List<MetricsExporter> EXPORTERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * A private constructor to ensure this utility class is never instantiated
+     */
+    private MetricsRegistry() {}
+
+    /**
+     * Gets the metrics with the given name, registering new metrics if none exist yet.
+     *
+     * @param name the name of the metrics
+     * @return the metrics
+     * @since 0.11.3
+     */
+    @NotNull
+    public static GuiMetrics getMetrics(@NotNull String name) {
+        return METRICS.computeIfAbsent(name, GuiMetrics::new);
+    }
+
+    /**
+     * Gets the metrics with the given name, or null if no such metrics are registered.
+     *
+     * @param name the name of the metrics
+     * @return the metrics or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public static GuiMetrics findMetrics(@NotNull String name) {
+        return METRICS.get(name);
+    }
+
+    /**
+     * Gets all registered metrics. The returned collection is an unmodifiable view.
+     *
+     * @return all metrics
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Collection<GuiMetrics> getAllMetrics() {
+        return Collections.unmodifiableCollection(METRICS.values());
+    }
+
+    /**
+     * Removes the metrics with the given name from the registry. Guis that already record into these metrics keep
+     * doing so, but the metrics will no longer be exported.
+     *
+     * @param name the name of the metrics
+     * @since 0.11.3
+     */
+    public static void unregister(@NotNull String name) {
+        METRICS.remove(name);
+    }
+
+    /**
+     * Adds an exporter, which will be called on every subsequent {@link #export()}.
+     *
+     * @param exporter the exporter
+     * @since 0.11.3
+     */
+    public static void addExporter(@NotNull MetricsExporter exporter) {
+        EXPORTERS.add(exporter);
+    }
+
+    /**
+     * Removes an exporter.
+     *
+     * @param exporter the exporter
+     * @since 0.11.3
+     */
+    public static void removeExporter(@NotNull MetricsExporter exporter) {
+        EXPORTERS.remove(exporter);
+    }
+
+    /**
+     * Passes all registered metrics to every exporter, in the order the exporters were added. This is not done
+     * automatically; call this periodically, e.g. from a repeating task, to forward metrics to your monitoring.
+     *
+     * @since 0.11.3
+     */
+    public static void export() {
+        Collection<GuiMetrics> metrics = Collections.unmodifiableList(new ArrayList<>(METRICS.values()));
+
+        for (MetricsExporter exporter : EXPORTERS) {
+            exporter.export(metrics);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A callback that took longer than the threshold of the {@link CallbackWatchdog}. This only holds descriptions of the
+ * gui and pane the callback belonged to, not the gui and pane themselves, so reports can be kept around without
+ * keeping guis alive.
+ *
+ * @since 0.11.3
+ */
+public final class SlowCallback {
+
+    /**
+     * The name of the callback, like {@code onTopClick} or {@code action}
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * A description of the code that was called
+     */
+    @NotNull
+    private final String handler;
+
+    /**
+     * The type of gui the callback belonged to, or null if unknown
+     */
+    @Nullable
+    private final String guiType;
+
+    /**
+     * The title of the gui the callback belonged to, or null if unknown or the gui doesn't have a title
+     */
+    @Nullable
+    private final String guiTitle;
+
+    /**
+     * The type of pane the callback belonged to, or null if the callback didn't belong to a pane
+     */
+    @Nullable
+    private final String paneType;
+
+    /**
+     * The raw slot that was clicked, or -1 if the callback wasn't for a click
+     */
+    private final int slot;
+
+    /**
+     * The duration in nanoseconds
+     */
+    private final long duration;
+
+    /**
+     * The name of the thread that ran the callback
+     */
+    @NotNull
+    private final String threadName;
+
+    /**
+     * The stack of the thread while the callback was running, or an empty array if no stack was sampled
+     */
+    @NotNull
+    private final StackTraceElement[] stack;
+
+    /**
+     * Creates a new slow callback.
+     *
+     * @param name the name of the callback
+     * @param handler a description of the code that was called
+     * @param guiType the type of gui or null
+     * @param guiTitle the title of the gui or null
+     * @param paneType the type of pane or null
+     * @param slot the raw slot or -1
+     * @param duration the duration in nanoseconds
+     * @param threadName the name of the thread
+     * @param stack the sampled stack
+     */
+    SlowCallback(@NotNull String name, @NotNull String handler, @Nullable String guiType, @Nullable String guiTitle,
+                 @Nullable String paneType, int slot, long duration, @NotNull String threadName,
+                 @NotNull StackTraceElement[] stack) {
+        this.name = name;
+        this.handler = handler;
+        this.guiType = guiType;
+        this.guiTitle = guiTitle;
+        this.paneType = paneType;
+        this.slot = slot;
+        this.duration = duration;
+        this.threadName = threadName;
+        this.stack = stack;
+    }
+
+    /**
+     * Gets the name of the callback, like {@code onTopClick} for a gui callback or {@code action} for the action of a
+     * gui item.
+     *
+     * @return the name
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets a description of the code that was called. For callbacks loaded from XML, this is the class and name of the
+     * method, like {@code ShopMenu#buy}; for other callbacks, this is the class of the callback.
+     *
+     * @return the handler
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String getHandler() {
+        return handler;
+    }
+
+    /**
+     * Gets the type of gui the callback belonged to, like {@code ChestGui}, or null if unknown.
+     *
+     * @return the gui type or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getGuiType() {
+        return guiType;
+    }
+
+    /**
+     * Gets the title of the gui the callback belonged to, or null if unknown or the gui doesn't have a title.
+     *
+     * @return the gui title or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getGuiTitle() {
+        return guiTitle;
+    }
+
+    /**
+     * Gets the type of pane the callback belonged to, like {@code StaticPane}, or null if the callback wasn't called
+     * from a pane.
+     *
+     * @return the pane type or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String getPaneType() {
+        return paneType;
+    }
+
+    /**
+     * Gets the raw slot that was clicked, or -1 if the callback wasn't for a click.
+     *
+     * @return the slot
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Gets how long the callback took.
+     *
+     * @param unit the unit to return the duration in
+     * @return the duration
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getDuration(@NotNull TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the name of the thread that ran the callback.
+     *
+     * @return the thread name
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Gets the stack of the thread that ran the callback, as sampled while the callback was running. If the callback
+     * finished before the watchdog got to sample it, this is an empty array.
+     *
+     * @return the sampled stack
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public StackTraceElement[] getStack() {
+        return stack.clone();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(name).append(" (").append(handler).append(") took ")
+            .append(String.format(Locale.ROOT, "%.2f", duration / 1_000_000.0)).append(" ms");
+
+        if (guiType != null) {
+            builder.append(" in ").append(guiType);
+
+            if (guiTitle != null) {
+                builder.append(" '").append(guiTitle).append('\'');
+            }
+        }
+
+        if (paneType != null) {
+            builder.append(", pane=").append(paneType);
+        }
+
+        if (slot != -1) {
+            builder.append(", slot=").append(slot);
+        }
+
+        return builder.append(", thread=").append(threadName).toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports callbacks that took longer than the threshold of the {@link CallbackWatchdog}. Listeners are called on the
+ * thread that ran the callback, right after the callback has returned.
+ *
+ * @since 0.11.3
+ */
+@FunctionalInterface
+public interface SlowCallbackListener {
+
+    /**
+     * Reports a slow callback.
+     *
+     * @param callback the slow callback
+     * @since 0.11.3
+     */
+    void onSlowCallback(@NotNull SlowCallback callback);
+}
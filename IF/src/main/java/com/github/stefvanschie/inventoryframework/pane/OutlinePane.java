@@ -285,7 +285,7 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
             return false;
         }
 
-        item.callAction(event);
+        item.callAction(event, this);
 
         return true;
     }
@@ -9,6 +9,7 @@ import com.github.stefvanschie.inventoryframework.exception.XMLReflectionExcepti
 import com.github.stefvanschie.inventoryframework.pane.util.Mask;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
+import com.github.stefvanschie.inventoryframework.util.MethodCallback;
 import com.github.stefvanschie.inventoryframework.util.SkullUtil;
 import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
@@ -548,6 +549,10 @@ public abstract class Pane {
                     }
                 }
 
+                if (action != null) {
+                    action = new MethodCallback<>(method, action);
+                }
+
                 break;
             }
         }
@@ -213,7 +213,7 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
             return false;
         }
 
-        clickedItem.callAction(event);
+        clickedItem.callAction(event, this);
 
         return true;
     }
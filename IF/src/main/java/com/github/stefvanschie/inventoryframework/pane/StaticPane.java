@@ -235,7 +235,7 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
             return false;
         }
 
-        clickedItem.callAction(event);
+        clickedItem.callAction(event, this);
 
         return true;
 	}
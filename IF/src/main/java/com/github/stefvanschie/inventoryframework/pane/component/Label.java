@@ -13,8 +13,11 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 
 /**
@@ -42,6 +45,21 @@ public class Label extends OutlinePane {
     @NotNull
     private final Plugin plugin;
 
+    /**
+     * The processor used by {@link #setText(String)}. This is kept, so the items of unchanged characters can be reused
+     * between calls.
+     */
+    @NotNull
+    private final BiFunction<? super @NotNull Character, ? super @NotNull ItemStack, ? extends @NotNull GuiItem>
+        defaultProcessor;
+
+    /**
+     * The processor that created the current items, or null if the items weren't created by {@link #setText(String)}
+     * or {@link #setText(String, BiFunction)}
+     */
+    @Nullable
+    private BiFunction<? super @NotNull Character, ? super @NotNull ItemStack, ? extends @NotNull GuiItem> processor;
+
     /**
      * Creates a new label
      *
@@ -62,6 +80,7 @@ public class Label extends OutlinePane {
         this.text = "";
 
         this.plugin = plugin;
+        this.defaultProcessor = (character, item) -> new GuiItem(item, plugin);
 
         setPriority(priority);
     }
@@ -202,6 +221,9 @@ public class Label extends OutlinePane {
      * specified processor will be called for each character that is part of the specified text. The provided character
      * will be the original character that was attempted to be shown - it is not subject to any transformations that may
      * be applied for finding a valid item corresponding to this character, such as capitalization changes.
+     * <p>
+     * If the same processor was used to create the current text, characters that remain at the same position keep
+     * their current item and the processor is not called for them.
      *
      * @param text the new text
      * @param processor processes each character before using them
@@ -210,11 +232,23 @@ public class Label extends OutlinePane {
     public void setText(@NotNull String text,
                         @NotNull BiFunction<? super @NotNull Character, ? super @NotNull ItemStack,
                                 ? extends @NotNull GuiItem> processor) {
+        List<GuiItem> previousItems = new ArrayList<>(getItems());
+        String previousText = this.text;
+        boolean reusable = processor == this.processor && previousItems.size() == previousText.length();
+
         this.text = text;
+        this.processor = processor;
 
         clear();
 
-        for (char character : text.toCharArray()) {
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+
+            if (reusable && index < previousText.length() && previousText.charAt(index) == character) {
+                addItem(previousItems.get(index));
+                continue;
+            }
+
             ItemStack item = font.toItem(character);
 
             if (item == null) {
@@ -235,13 +269,14 @@ public class Label extends OutlinePane {
 
     /**
      * Sets the text to be displayed in this label. If this label already had text, this text will be overwritten.
+     * Characters that remain at the same position keep their current item.
      *
      * @param text the new text
      * @see #setText(String, BiFunction)
      * @since 0.5.0
      */
     public void setText(@NotNull String text) {
-        setText(text, (character, item) -> new GuiItem(item, this.plugin));
+        setText(text, this.defaultProcessor);
     }
 
     @NotNull
@@ -267,6 +302,7 @@ public class Label extends OutlinePane {
         label.uuid = uuid;
 
         label.text = text;
+        label.processor = processor == defaultProcessor ? label.defaultProcessor : processor;
 
         return label;
     }
@@ -237,7 +237,7 @@ public class PagingButtons extends Pane {
         if (matchesItem(this.backwardButton, itemStack)) {
             this.pages.setPage(this.pages.getPage() - 1);
 
-            this.backwardButton.callAction(event);
+            this.backwardButton.callAction(event, this);
 
             gui.update();
 
@@ -247,7 +247,7 @@ public class PagingButtons extends Pane {
         if (matchesItem(this.forwardButton, itemStack)) {
             this.pages.setPage(this.pages.getPage() + 1);
 
-            this.forwardButton.callAction(event);
+            this.forwardButton.callAction(event, this);
 
             gui.update();
 
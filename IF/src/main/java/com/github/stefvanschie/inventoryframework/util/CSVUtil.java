@@ -6,10 +6,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 /**
  * A utility class for reading csv files
@@ -25,72 +25,155 @@ public final class CSVUtil {
      */
     private CSVUtil() {}
 
-    private static final Pattern UNICODE_CHARACTER_PATTERN = Pattern.compile("\\\\u([0-9A-Fa-f]{4})");
-
     /**
      * Reads the entire file and returns it as a list of strings.
      *
      * @param inputStream the input stream to read from
      * @return a list of strings containing the values inside the file
      * @throws IOException when reading fails for any reason
+     * @see #read(InputStream, Consumer)
      * @since 0.5.0
      */
     @NotNull
     public static List<String[]> readAll(@NotNull InputStream inputStream) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            List<String[]> strings = new ArrayList<>();
-            String line;
+        List<String[]> strings = new ArrayList<>();
 
-            while ((line = reader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    continue;
-                }
+        read(inputStream, strings::add);
 
-                List<Integer> splittingIndices = new ArrayList<>();
-                char[] chars = line.toCharArray();
-                boolean quote = false;
+        return strings;
+    }
 
-                for (int i = 0; i < chars.length; i++) {
-                    if (chars[i] == '"') {
-                        quote = !quote;
-                    } else if (chars[i] == ',' && !quote) {
-                        splittingIndices.add(i);
+    /**
+     * Reads the entire file in a single pass, passing each record to the specified consumer as soon as it has been
+     * read. Values are separated by commas and records by line breaks; empty lines are skipped. Whitespace around
+     * values is removed. Values may be enclosed in double quotes, in which case they can contain commas, line breaks
+     * and leading or trailing whitespace, and two consecutive double quotes represent a single double quote. Escape
+     * sequences in the form of {@code \}{@code uXXXX} are replaced by the character they represent, both inside and
+     * outside of quotes.
+     *
+     * @param inputStream the input stream to read from
+     * @param consumer the consumer accepting the records
+     * @throws IOException when reading fails for any reason
+     * @since 0.11.3
+     */
+    public static void read(@NotNull InputStream inputStream, @NotNull Consumer<? super String[]> consumer)
+        throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            List<String> record = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            //the length of the value without trailing whitespace
+            int valueLength = 0;
+            boolean recordStarted = false;
+            boolean valueStarted = false;
+            boolean quoted = false;
+            int character;
+
+            while ((character = reader.read()) != -1) {
+                if (quoted) {
+                    if (character == '"') {
+                        reader.mark(1);
+
+                        if (reader.read() != '"') {
+                            reader.reset();
+                            quoted = false;
+                            valueLength = value.length();
+                            continue;
+                        }
+                    } else if (character == '\\') {
+                        character = readEscape(reader);
                     }
+
+                    value.append((char) character);
+                    continue;
                 }
 
-                String[] array = new String[splittingIndices.size() + 1];
+                if (character == '\n' || character == '\r') {
+                    if (recordStarted) {
+                        value.setLength(valueLength);
+                        record.add(value.toString());
+                        consumer.accept(record.toArray(new String[0]));
+                    }
 
-                for (int i = 0; i < splittingIndices.size() + 1; i++) {
-                    array[i] = line.substring(i - 1 < 0 ? 0 : splittingIndices.get(i - 1) + 1, i == splittingIndices.size() ? line.length() : splittingIndices.get(i));
+                    record.clear();
+                    value.setLength(0);
+                    valueLength = 0;
+                    recordStarted = false;
+                    valueStarted = false;
+                    continue;
                 }
 
-                for (int i = 0; i < array.length; i++) {
-                    array[i] = array[i].trim();
+                recordStarted = true;
 
-                    if (array[i].startsWith("\"") && array[i].endsWith("\"")) {
-                        array[i] = array[i].substring(1, array[i].length() - 1);
+                if (character == ',') {
+                    value.setLength(valueLength);
+                    record.add(value.toString());
+                    value.setLength(0);
+                    valueLength = 0;
+                    valueStarted = false;
+                    continue;
+                }
+
+                if (character <= ' ') {
+                    if (valueStarted) {
+                        value.append((char) character);
                     }
 
-                    array[i] = array[i].replace("\"\"", "\"");
+                    continue;
+                }
+
+                if (character == '"' && !valueStarted) {
+                    valueStarted = true;
+                    quoted = true;
+                    continue;
+                }
 
-                    //replace unicode characters
-                    Matcher matcher = UNICODE_CHARACTER_PATTERN.matcher(array[i]);
-                    StringBuffer buf = new StringBuffer(array[i].length());
+                if (character == '\\') {
+                    character = readEscape(reader);
+                }
 
-                    while (matcher.find()) {
-                        String character = String.valueOf((char) Integer.parseInt(matcher.group(1), 16));
-                        matcher.appendReplacement(buf, Matcher.quoteReplacement(character));
-                    }
+                valueStarted = true;
+                value.append((char) character);
+                valueLength = value.length();
+            }
 
-                    matcher.appendTail(buf);
+            if (recordStarted) {
+                value.setLength(valueLength);
+                record.add(value.toString());
+                consumer.accept(record.toArray(new String[0]));
+            }
+        }
+    }
 
-                    array[i] = buf.toString();
-                }
+    /**
+     * Reads the remainder of a unicode escape sequence, after its leading backslash has been read. If the following
+     * characters don't form a valid escape sequence, they're left unread and the backslash is returned.
+     *
+     * @param reader the reader to read from
+     * @return the character represented by the escape sequence, or a backslash
+     * @throws IOException when reading fails for any reason
+     * @since 0.11.3
+     */
+    private static int readEscape(@NotNull Reader reader) throws IOException {
+        reader.mark(5);
+
+        if (reader.read() != 'u') {
+            reader.reset();
+            return '\\';
+        }
 
-                strings.add(array);
+        int character = 0;
+
+        for (int index = 0; index < 4; index++) {
+            int digit = Character.digit(reader.read(), 16);
+
+            if (digit == -1) {
+                reader.reset();
+                return '\\';
             }
-            
-            return strings;
+
+            character = character * 16 + digit;
         }
+
+        return character;
     }
 }
@@ -0,0 +1,241 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how fast each player can click in a gui, protecting the thread handling the clicks from auto clickers and
+ * macros. Every player has a token bucket holding up to a burst of clicks, which refills at a fixed rate. A click
+ * that finds the bucket empty is rejected: it's cancelled and never reaches the callbacks or panes of the gui.
+ * <p>
+ * Optionally, repeated identical clicks, on the same slot with the same click type, that arrive within a single tick
+ * of the previous accepted click are coalesced: only the first of them is handled and the others are rejected without
+ * taking a token from the bucket.
+ * <p>
+ * A limiter is attached to a gui with {@link Gui#setClickRateLimiter(ClickRateLimiter)}. The state of a player is kept
+ * until they close the gui. This class is safe to use from multiple threads.
+ *
+ * @since 0.11.3
+ */
+public final class ClickRateLimiter {
+
+    /**
+     * The duration of a tick in nanoseconds
+     */
+    private static final long TICK = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * The time it takes to refill a single token, in nanoseconds
+     */
+    private final long refillInterval;
+
+    /**
+     * How far the bucket may be ahead of the current time, in nanoseconds, before it's empty
+     */
+    private final long tolerance;
+
+    /**
+     * The buckets per player
+     */
+    @NotNull
+    private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of clicks rejected because the bucket was empty
+     */
+    @NotNull
+    private final LongAdder rejectedClicks = new LongAdder();
+
+    /**
+     * The amount of clicks rejected because they were coalesced with the previous click
+     */
+    @NotNull
+    private final LongAdder coalescedClicks = new LongAdder();
+
+    /**
+     * Whether repeated identical clicks within a tick are coalesced
+     */
+    private volatile boolean coalescing;
+
+    /**
+     * Creates a new limiter which allows the specified amount of clicks per second for every player, with bursts of
+     * up to the specified amount of clicks.
+     *
+     * @param clicksPerSecond the sustained amount of clicks per second
+     * @param burst the amount of clicks a player can make in quick succession
+     * @throws IllegalArgumentException if either argument is not positive
+     * @since 0.11.3
+     */
+    public ClickRateLimiter(int clicksPerSecond, int burst) {
+        if (clicksPerSecond <= 0) {
+            throw new IllegalArgumentException("Clicks per second must be positive");
+        }
+
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst must be positive");
+        }
+
+        this.refillInterval = TimeUnit.SECONDS.toNanos(1) / clicksPerSecond;
+        this.tolerance = this.refillInterval * (burst - 1);
+    }
+
+    /**
+     * Checks whether the specified click may be handled, taking a token from the bucket of the player if so.
+     *
+     * @param humanEntity the clicking human entity
+     * @param rawSlot the raw slot that was clicked
+     * @param clickType the type of click
+     * @return true if the click may be handled, false if it should be rejected
+     * @since 0.11.3
+     */
+    public boolean tryAcquire(@NotNull HumanEntity humanEntity, int rawSlot, @NotNull ClickType clickType) {
+        return tryAcquire(humanEntity.getUniqueId(), rawSlot, clickType, System.nanoTime());
+    }
+
+    /**
+     * Checks whether the specified click may be handled, taking a token from the bucket of the player if so.
+     *
+     * @param player the unique id of the clicking player
+     * @param rawSlot the raw slot that was clicked
+     * @param clickType the type of click
+     * @param now the current time, as per {@link System#nanoTime()}
+     * @return true if the click may be handled, false if it should be rejected
+     * @since 0.11.3
+     */
+    boolean tryAcquire(@NotNull UUID player, int rawSlot, @NotNull ClickType clickType, long now) {
+        Bucket bucket = this.buckets.computeIfAbsent(player, key -> new Bucket());
+
+        synchronized (bucket) {
+            if (this.coalescing && bucket.hasAccepted && bucket.lastSlot == rawSlot &&
+                bucket.lastClickType == clickType && now - bucket.lastAccepted < TICK) {
+                this.coalescedClicks.increment();
+                return false;
+            }
+
+            long theoreticalArrival = bucket.hasAccepted ? bucket.theoreticalArrival : now;
+
+            if (theoreticalArrival - now > this.tolerance) {
+                this.rejectedClicks.increment();
+                return false;
+            }
+
+            bucket.theoreticalArrival = Math.max(theoreticalArrival, now) + this.refillInterval;
+            bucket.lastAccepted = now;
+            bucket.lastSlot = rawSlot;
+            bucket.lastClickType = clickType;
+            bucket.hasAccepted = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes the state kept for the specified human entity, refilling their bucket.
+     *
+     * @param humanEntity the human entity
+     * @since 0.11.3
+     */
+    public void forget(@NotNull HumanEntity humanEntity) {
+        forget(humanEntity.getUniqueId());
+    }
+
+    /**
+     * Removes the state kept for the specified player, refilling their bucket.
+     *
+     * @param player the unique id of the player
+     * @since 0.11.3
+     */
+    void forget(@NotNull UUID player) {
+        this.buckets.remove(player);
+    }
+
+    /**
+     * Sets whether repeated identical clicks, on the same slot with the same click type, within a tick of the previous
+     * accepted click are coalesced into that click. Coalesced clicks are rejected, but don't take a token.
+     *
+     * @param coalescing whether to coalesce repeated clicks
+     * @since 0.11.3
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Gets whether repeated identical clicks within a tick are coalesced.
+     *
+     * @return true if repeated clicks are coalesced, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Gets the amount of clicks rejected because the bucket of the player was empty.
+     *
+     * @return the amount of rejected clicks
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getRejectedClicks() {
+        return rejectedClicks.sum();
+    }
+
+    /**
+     * Gets the amount of clicks rejected because they were coalesced with the previous click.
+     *
+     * @return the amount of coalesced clicks
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getCoalescedClicks() {
+        return coalescedClicks.sum();
+    }
+
+    /**
+     * The token bucket of a single player. Rather than counting tokens, the bucket tracks the time at which it would
+     * be full again if every click took a token at its theoretical arrival time; the bucket is empty once that time is
+     * more than the tolerance ahead of the current time.
+     *
+     * @since 0.11.3
+     */
+    private static final class Bucket {
+
+        /**
+         * The theoretical arrival time of the next click, as per {@link System#nanoTime()}
+         */
+        private long theoreticalArrival;
+
+        /**
+         * The time the last click was accepted, as per {@link System#nanoTime()}
+         */
+        private long lastAccepted;
+
+        /**
+         * The raw slot of the last accepted click
+         */
+        private int lastSlot;
+
+        /**
+         * The click type of the last accepted click
+         */
+        @Nullable
+        private ClickType lastClickType;
+
+        /**
+         * Whether a click has been accepted yet
+         */
+        private boolean hasAccepted;
+    }
+}
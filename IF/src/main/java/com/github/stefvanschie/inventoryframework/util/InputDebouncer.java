@@ -0,0 +1,212 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Limits how often rapidly changing input, such as text typed by a player, is passed on to a consumer. Only the most
+ * recent input is ever passed on; intermediate input is dropped. Input that is delayed is passed on from a background
+ * thread, so the consumer should hand the input over to the correct thread itself if needed.
+ *
+ * @param <T> the type of input
+ * @since 0.11.3
+ */
+public final class InputDebouncer<T> {
+
+    /**
+     * The executor on which delayed input is passed on. Its thread stops when it's idle, so it doesn't linger after the
+     * plugin using it has been disabled.
+     */
+    @NotNull
+    private static final ScheduledThreadPoolExecutor EXECUTOR;
+
+    /**
+     * The delay in nanoseconds
+     */
+    private final long delay;
+
+    /**
+     * Whether input is throttled, instead of debounced
+     */
+    private final boolean throttle;
+
+    /**
+     * The consumer accepting the input that is passed on
+     */
+    @NotNull
+    private final Consumer<? super T> consumer;
+
+    /**
+     * The task passing on the pending input, or null if there's no pending input
+     */
+    @Nullable
+    private ScheduledFuture<?> task;
+
+    /**
+     * The most recent input that hasn't been passed on yet
+     */
+    @Nullable
+    private T pending;
+
+    /**
+     * The time at which input was last passed on, as per {@link System#nanoTime()}
+     */
+    private long lastPassed;
+
+    /**
+     * Whether input has been passed on yet
+     */
+    private boolean passed;
+
+    /**
+     * Creates a new debouncer.
+     *
+     * @param delay the delay in nanoseconds
+     * @param throttle whether to throttle instead of debounce
+     * @param consumer the consumer accepting the input
+     * @since 0.11.3
+     */
+    private InputDebouncer(long delay, boolean throttle, @NotNull Consumer<? super T> consumer) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay must be positive");
+        }
+
+        this.delay = delay;
+        this.throttle = throttle;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Creates a debouncer which passes input on once no new input has been submitted for the specified delay.
+     *
+     * @param delay the delay
+     * @param unit the unit of the delay
+     * @param consumer the consumer accepting the input
+     * @param <T> the type of input
+     * @return the debouncer
+     * @throws IllegalArgumentException if the delay is not positive
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> InputDebouncer<T> debounce(long delay, @NotNull TimeUnit unit,
+                                                 @NotNull Consumer<? super T> consumer) {
+        return new InputDebouncer<>(unit.toNanos(delay), false, consumer);
+    }
+
+    /**
+     * Creates a debouncer which passes input on at most once per the specified interval. Input submitted when the
+     * previous input was passed on longer than the interval ago is passed on immediately, on the submitting thread.
+     * Other input is passed on at the end of the interval.
+     *
+     * @param interval the interval
+     * @param unit the unit of the interval
+     * @param consumer the consumer accepting the input
+     * @param <T> the type of input
+     * @return the debouncer
+     * @throws IllegalArgumentException if the interval is not positive
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static <T> InputDebouncer<T> throttle(long interval, @NotNull TimeUnit unit,
+                                                 @NotNull Consumer<? super T> consumer) {
+        return new InputDebouncer<>(unit.toNanos(interval), true, consumer);
+    }
+
+    /**
+     * Submits new input. Depending on the kind of debouncer, this input is passed on now, later or not at all if newer
+     * input is submitted before it's passed on.
+     *
+     * @param input the input
+     * @since 0.11.3
+     */
+    public void submit(@NotNull T input) {
+        synchronized (this) {
+            this.pending = input;
+
+            if (!this.throttle) {
+                if (this.task != null) {
+                    this.task.cancel(false);
+                }
+
+                this.task = EXECUTOR.schedule(this::passPending, this.delay, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            if (this.task != null) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            long wait = this.passed ? this.lastPassed + this.delay - now : 0;
+
+            if (wait > 0) {
+                this.task = EXECUTOR.schedule(this::passPending, wait, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            this.pending = null;
+            this.lastPassed = now;
+            this.passed = true;
+        }
+
+        this.consumer.accept(input);
+    }
+
+    /**
+     * Drops the input that hasn't been passed on yet, if any.
+     *
+     * @since 0.11.3
+     */
+    public synchronized void cancel() {
+        if (this.task != null) {
+            this.task.cancel(false);
+        }
+
+        this.task = null;
+        this.pending = null;
+    }
+
+    /**
+     * Passes the pending input on to the consumer.
+     *
+     * @since 0.11.3
+     */
+    private void passPending() {
+        T input;
+
+        synchronized (this) {
+            input = this.pending;
+
+            this.task = null;
+            this.pending = null;
+            this.lastPassed = System.nanoTime();
+            this.passed = true;
+        }
+
+        if (input != null) {
+            this.consumer.accept(input);
+        }
+    }
+
+    static {
+        EXECUTOR = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "IF input debouncer");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        EXECUTOR.setKeepAliveTime(1, TimeUnit.MINUTES);
+        EXECUTOR.allowCoreThreadTimeOut(true);
+        EXECUTOR.setRemoveOnCancelPolicy(true);
+    }
+}
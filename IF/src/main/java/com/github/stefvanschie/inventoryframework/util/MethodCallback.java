@@ -0,0 +1,65 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.function.Consumer;
+
+/**
+ * A callback that invokes a method, as loaded from an XML attribute. This keeps the method around, so the callback can
+ * be identified by the name of the method, for example when it turns out to be slow.
+ *
+ * @param <T> the type of the value the callback accepts
+ * @since 0.11.3
+ */
+public final class MethodCallback<T> implements Consumer<T> {
+
+    /**
+     * The method invoked by this callback
+     */
+    @NotNull
+    private final Method method;
+
+    /**
+     * The consumer invoking the method
+     */
+    @NotNull
+    private final Consumer<T> consumer;
+
+    /**
+     * Creates a new method callback.
+     *
+     * @param method the method invoked by the consumer
+     * @param consumer the consumer invoking the method
+     * @since 0.11.3
+     */
+    public MethodCallback(@NotNull Method method, @NotNull Consumer<T> consumer) {
+        this.method = method;
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void accept(T value) {
+        consumer.accept(value);
+    }
+
+    /**
+     * Gets the method invoked by this callback.
+     *
+     * @return the method
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Method getMethod() {
+        return method;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String toString() {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
+}
@@ -1,18 +1,25 @@
 package com.github.stefvanschie.inventoryframework.util;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.BoundedCache;
 import com.mojang.authlib.GameProfile;
 import com.mojang.authlib.properties.Property;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class for working with skulls
@@ -21,6 +28,30 @@ import java.util.UUID;
  */
 public final class SkullUtil {
 
+    /**
+     * The maximum amount of skulls and profiles to keep per cache
+     */
+    private static final int CACHE_CAPACITY = 512;
+
+    /**
+     * Fully built skull items by their id. Items are cloned before they're handed out.
+     */
+    @NotNull
+    private static final BoundedCache<String, ItemStack> SKULLS = new BoundedCache<>(CACHE_CAPACITY);
+
+    /**
+     * Game profiles carrying the texture by the skull id. Profiles are only passed to item metas, which don't modify
+     * them, so they can be shared.
+     */
+    @NotNull
+    private static final BoundedCache<String, GameProfile> PROFILES = new BoundedCache<>(CACHE_CAPACITY);
+
+    /**
+     * The profile accessors by the meta class they belong to
+     */
+    @NotNull
+    private static final Map<Class<?>, ProfileAccessor> ACCESSORS = new ConcurrentHashMap<>();
+
     /**
      * A private constructor to ensure this class isn't instantiated
      *
@@ -30,7 +61,7 @@ public final class SkullUtil {
 
     /**
      * Gets a skull from the specified id. The id is the value from the textures.minecraft.net website after the last
-     * '/' character.
+     * '/' character. Skulls are cached, so requesting the same id multiple times only builds the skull once.
      *
      * @param id the skull id
      * @return the skull item
@@ -38,6 +69,38 @@ public final class SkullUtil {
      */
     @NotNull
     public static ItemStack getSkull(@NotNull String id) {
+        return SKULLS.get(id, SkullUtil::createSkull).clone();
+    }
+
+    /**
+     * Sets the skull of an existing {@link ItemMeta} from the specified id.
+     * The id is the value from the textures.minecraft.net website after the last '/' character.
+     *
+     * @param meta the meta to change
+     * @param id the skull id
+     */
+    public static void setSkull(@NotNull ItemMeta meta, @NotNull String id) {
+        GameProfile profile = PROFILES.get(id, SkullUtil::createProfile);
+        String itemDisplayName = meta.getDisplayName();
+        ProfileAccessor accessor = ACCESSORS.computeIfAbsent(meta.getClass(), ProfileAccessor::new);
+
+        accessor.setProfile(meta, profile);
+
+        meta.setDisplayName(itemDisplayName);
+
+        accessor.updateProfile(meta, profile);
+    }
+
+    /**
+     * Creates a new skull item from the specified id.
+     *
+     * @param id the skull id
+     * @return the skull item
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static ItemStack createSkull(@NotNull String id) {
         ItemStack item = new ItemStack(Material.PLAYER_HEAD);
         ItemMeta itemMeta = Objects.requireNonNull(item.getItemMeta());
         setSkull(itemMeta, id);
@@ -46,34 +109,113 @@ public final class SkullUtil {
     }
 
     /**
-     * Sets the skull of an existing {@link ItemMeta} from the specified id.
-     * The id is the value from the textures.minecraft.net website after the last '/' character.
+     * Creates a new game profile with the texture of the specified skull id. The profile's {@link UUID} is derived from
+     * the id, so skulls with the same id are identical.
      *
-     * @param meta the meta to change
      * @param id the skull id
+     * @return the game profile
+     * @since 0.11.3
      */
-    public static void setSkull(@NotNull ItemMeta meta, @NotNull String id) {
-        GameProfile profile = new GameProfile(UUID.randomUUID(), "");
+    @NotNull
+    @Contract(pure = true)
+    private static GameProfile createProfile(@NotNull String id) {
+        GameProfile profile = new GameProfile(UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8)), "");
         byte[] encodedData = Base64.getEncoder().encode(String.format("{textures:{SKIN:{url:\"%s\"}}}",
             "http://textures.minecraft.net/texture/" + id).getBytes());
         profile.getProperties().put("textures", new Property("textures", new String(encodedData)));
-        String itemDisplayName = meta.getDisplayName();
+        return profile;
+    }
+
+    /**
+     * The accessors for setting the profile of a specific item meta class. The accessors are looked up once, after
+     * which they can be invoked without further reflection.
+     *
+     * @since 0.11.3
+     */
+    private static final class ProfileAccessor {
+
+        /**
+         * The setter of the profile field
+         */
+        @NotNull
+        private final MethodHandle profileSetter;
+
+        /**
+         * The method updating the serialized profile, or null if the meta class doesn't have such a method
+         */
+        @Nullable
+        private final MethodHandle setProfile;
 
-        try {
-            Field profileField = meta.getClass().getDeclaredField("profile");
-            profileField.setAccessible(true);
-            profileField.set(meta, profile);
+        /**
+         * Looks up the accessors of the specified meta class.
+         *
+         * @param metaClass the meta class
+         * @throws RuntimeException if the meta class doesn't have a profile field
+         * @since 0.11.3
+         */
+        private ProfileAccessor(@NotNull Class<?> metaClass) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
 
-            meta.setDisplayName(itemDisplayName);
+            try {
+                Field profileField = metaClass.getDeclaredField("profile");
+                profileField.setAccessible(true);
+
+                this.profileSetter = lookup.unreflectSetter(profileField);
+            } catch (NoSuchFieldException | SecurityException | IllegalAccessException exception) {
+                throw new RuntimeException(exception);
+            }
+
+            MethodHandle setProfile;
 
             // Sets serializedProfile field on meta
             // If it does throw NoSuchMethodException this stops, and meta is correct.
             // Else it has profile and will set the field.
-            Method setProfile = meta.getClass().getDeclaredMethod("setProfile", GameProfile.class);
-            setProfile.setAccessible(true);
-            setProfile.invoke(meta, profile);
-        } catch (NoSuchFieldException | SecurityException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(e);
-        } catch (NoSuchMethodException ignored) {}
+            try {
+                Method method = metaClass.getDeclaredMethod("setProfile", GameProfile.class);
+                method.setAccessible(true);
+
+                setProfile = lookup.unreflect(method);
+            } catch (NoSuchMethodException exception) {
+                setProfile = null;
+            } catch (SecurityException | IllegalAccessException exception) {
+                throw new RuntimeException(exception);
+            }
+
+            this.setProfile = setProfile;
+        }
+
+        /**
+         * Sets the profile field of the specified meta.
+         *
+         * @param meta the meta to change
+         * @param profile the profile to set
+         * @since 0.11.3
+         */
+        private void setProfile(@NotNull ItemMeta meta, @NotNull GameProfile profile) {
+            try {
+                this.profileSetter.invoke(meta, profile);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        /**
+         * Updates the serialized profile of the specified meta, if the meta class has a method for doing so.
+         *
+         * @param meta the meta to change
+         * @param profile the profile to set
+         * @since 0.11.3
+         */
+        private void updateProfile(@NotNull ItemMeta meta, @NotNull GameProfile profile) {
+            if (this.setProfile == null) {
+                return;
+            }
+
+            try {
+                this.setProfile.invoke(meta, profile);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
     }
 }
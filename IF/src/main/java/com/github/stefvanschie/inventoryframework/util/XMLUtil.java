@@ -45,7 +45,7 @@ public class XMLUtil {
                 continue;
             }
 
-            return event -> {
+            return new MethodCallback<>(method, event -> {
                 try {
                     method.setAccessible(true);
                     if (eventParameter) {
@@ -56,7 +56,7 @@ public class XMLUtil {
                 } catch (IllegalAccessException | InvocationTargetException e) {
                     throw new XMLReflectionException(e);
                 }
-            };
+            });
         }
 
         return null;
@@ -5,6 +5,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.inventory.InventoryView;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.EnumSet;
@@ -191,6 +192,12 @@ public enum Version {
      */
     V1_21_6_8;
 
+    /**
+     * The version currently being used, or null if it hasn't been determined yet
+     */
+    @Nullable
+    private static volatile Version currentVersion;
+
     /**
      * A collection of versions on which modern smithing tables are available.
      */
@@ -253,7 +260,8 @@ public enum Version {
 
     /**
      * Gets the version currently being used. If the used version is not supported, an
-     * {@link UnsupportedVersionException} will be thrown.
+     * {@link UnsupportedVersionException} will be thrown. The version is only determined once, after which the same
+     * version is returned.
      *
      * @return the version of the current instance
      * @since 0.8.0
@@ -261,8 +269,28 @@ public enum Version {
     @NotNull
     @Contract(pure = true)
     public static Version getVersion() {
-        String version = Bukkit.getBukkitVersion().split("-")[0];
+        Version version = currentVersion;
+
+        if (version == null) {
+            version = parseVersion(Bukkit.getBukkitVersion().split("-")[0]);
+
+            currentVersion = version;
+        }
+
+        return version;
+    }
 
+    /**
+     * Gets the version matching the specified Minecraft version. If the version is not supported, an
+     * {@link UnsupportedVersionException} will be thrown.
+     *
+     * @param version the Minecraft version, e.g. 1.21.4
+     * @return the matching version
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Version parseVersion(@NotNull String version) {
         switch (version) {
             case "1.16.1":
                 return V1_16_1;
@@ -2,12 +2,12 @@ package com.github.stefvanschie.inventoryframework.util.version;
 
 import com.github.stefvanschie.inventoryframework.abstraction.*;
 import com.github.stefvanschie.inventoryframework.exception.UnsupportedVersionException;
-import com.github.stefvanschie.inventoryframework.nms.v1_19_4.LegacySmithingTableInventoryImpl;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class containing versioning related methods.
@@ -17,49 +17,18 @@ import java.util.EnumMap;
 public class VersionMatcher {
 
     /**
-     * The different anvil inventories for different versions
+     * The adapters creating the internal inventories by the version they are for. Adapters are looked up the first
+     * time an inventory for their version is requested, so the inventory classes of other versions are never loaded.
      */
-    private static final EnumMap<Version, Class<? extends AnvilInventory>> ANVIL_INVENTORIES;
-
-    /**
-     * The different beacon inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends BeaconInventory>> BEACON_INVENTORIES;
-
-    /**
-     * The different cartography table inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends CartographyTableInventory>> CARTOGRAPHY_TABLE_INVENTORIES;
-
-    /**
-     * The different enchanting table inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends EnchantingTableInventory>> ENCHANTING_TABLE_INVENTORIES;
-
-    /**
-     * The different grindstone inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends GrindstoneInventory>> GRINDSTONE_INVENTORIES;
-
-    /**
-     * The different merchant inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends MerchantInventory>> MERCHANT_INVENTORIES;
-
-    /**
-     * The different smithing table inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> SMITHING_TABLE_INVENTORIES;
-
-    /**
-     * The different legacy smithing table inventories for different versions
-     */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> LEGACY_SMITHING_TABLE_INVENTORIES;
+    @NotNull
+    private static final Map<Version, NmsAdapter> ADAPTERS = new ConcurrentHashMap<>();
 
     /**
-     * The different stonecutter inventories for different versions
+     * The package containing the packages of the adapters for every version. This is derived from the package of
+     * {@link NmsAdapter}, so it remains correct after IF has been relocated.
      */
-    private static final EnumMap<Version, Class<? extends StonecutterInventory>> STONECUTTER_INVENTORIES;
+    @NotNull
+    private static final String NMS_PACKAGE = NmsAdapter.class.getName().replace("abstraction.NmsAdapter", "nms.");
 
     /**
      * Gets a new anvil inventory for the specified version of the specified inventory holder.
@@ -71,12 +40,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static AnvilInventory newAnvilInventory(@NotNull Version version) {
-        try {
-            return ANVIL_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newAnvilInventory();
     }
 
     /**
@@ -89,12 +53,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static BeaconInventory newBeaconInventory(@NotNull Version version) {
-        try {
-            return BEACON_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newBeaconInventory();
     }
 
     /**
@@ -107,12 +66,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static CartographyTableInventory newCartographyTableInventory(@NotNull Version version) {
-        try {
-            return CARTOGRAPHY_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newCartographyTableInventory();
     }
 
     /**
@@ -125,14 +79,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static EnchantingTableInventory newEnchantingTableInventory(@NotNull Version version) {
-        try {
-            Class<? extends EnchantingTableInventory> clazz = ENCHANTING_TABLE_INVENTORIES.get(version);
-
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newEnchantingTableInventory();
     }
 
     /**
@@ -145,14 +92,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static GrindstoneInventory newGrindstoneInventory(@NotNull Version version) {
-        try {
-            Class<? extends GrindstoneInventory> clazz = GRINDSTONE_INVENTORIES.get(version);
-
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newGrindstoneInventory();
     }
 
     /**
@@ -165,12 +105,7 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static MerchantInventory newMerchantInventory(@NotNull Version version) {
-        try {
-            return MERCHANT_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return getAdapter(version).newMerchantInventory();
     }
 
     /**
@@ -194,12 +129,13 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Modern smithing tables didn't exist in version " + version);
         }
 
-        try {
-            return SMITHING_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
+        SmithingTableInventory inventory = getAdapter(version).newSmithingTableInventory();
+
+        if (inventory == null) {
+            throw new IllegalStateException("Adapter for version " + version + " doesn't provide this smithing table");
         }
+
+        return inventory;
     }
 
     /**
@@ -223,12 +159,13 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Legacy smithing tables don't exist in version " + version);
         }
 
-        try {
-            return LEGACY_SMITHING_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
+        SmithingTableInventory inventory = getAdapter(version).newLegacySmithingTableInventory();
+
+        if (inventory == null) {
+            throw new IllegalStateException("Adapter for version " + version + " doesn't provide this smithing table");
         }
+
+        return inventory;
     }
 
     /**
@@ -241,433 +178,100 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static StonecutterInventory newStonecutterInventory(@NotNull Version version) {
+        return getAdapter(version).newStonecutterInventory();
+    }
+
+    /**
+     * Gets a new click interceptor for the specified version. If intercepting clicks isn't supported for the specified
+     * version, an {@link UnsupportedVersionException} is thrown.
+     *
+     * @param version the version to get the click interceptor of
+     * @return the click interceptor
+     * @since 0.11.3
+     * @throws UnsupportedVersionException when intercepting clicks isn't supported for the version
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ClickInterceptor newClickInterceptor(@NotNull Version version) {
+        ClickInterceptor interceptor = getAdapter(version).newClickInterceptor();
+
+        if (interceptor == null) {
+            throw new UnsupportedVersionException("Intercepting clicks isn't supported in version " + version);
+        }
+
+        return interceptor;
+    }
+
+    /**
+     * Gets the adapter for the specified version. The adapter is loaded the first time it's requested and reused
+     * afterwards.
+     *
+     * @param version the version to get the adapter of
+     * @return the adapter
+     * @throws UnsupportedVersionException if no adapter is registered for the version
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static NmsAdapter getAdapter(@NotNull Version version) {
+        NmsAdapter adapter = ADAPTERS.get(version);
+
+        if (adapter != null) {
+            return adapter;
+        }
+
+        return ADAPTERS.computeIfAbsent(version, VersionMatcher::loadAdapter);
+    }
+
+    /**
+     * Loads the adapter for the specified version by its class name. Only the adapter class of this version is loaded,
+     * not the adapters of other versions or the inventory classes the adapter creates.
+     *
+     * @param version the version to load the adapter of
+     * @return the adapter
+     * @throws UnsupportedVersionException if there is no adapter for the version
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static NmsAdapter loadAdapter(@NotNull Version version) {
+        String className = NMS_PACKAGE + getPackageName(version) + ".NmsAdapterImpl";
+        NmsAdapter adapter;
+
         try {
-            return STONECUTTER_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
+            adapter = Class.forName(className, true, NmsAdapter.class.getClassLoader())
+                .asSubclass(NmsAdapter.class)
+                .getConstructor()
+                .newInstance();
+        } catch (ClassNotFoundException exception) {
+            throw new UnsupportedVersionException("No adapter is available for version " + version);
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            throw new IllegalStateException("Unable to load the adapter for version " + version, exception);
         }
+
+        if (!adapter.getVersion().equals(version.name())) {
+            throw new IllegalStateException("The adapter " + className + " is for version " + adapter.getVersion() +
+                " instead of " + version);
+        }
+
+        return adapter;
     }
 
-    static {
-        ANVIL_INVENTORIES = new EnumMap<>(Version.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.AnvilInventoryImpl.class);
-        ANVIL_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.AnvilInventoryImpl.class);
-
-        BEACON_INVENTORIES = new EnumMap<>(Version.class);
-        BEACON_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.BeaconInventoryImpl.class);
-        BEACON_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.BeaconInventoryImpl.class);
-
-        CARTOGRAPHY_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.CartographyTableInventoryImpl.class);
-        CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.CartographyTableInventoryImpl.class);
-
-        ENCHANTING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.EnchantingTableInventoryImpl.class);
-        ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.EnchantingTableInventoryImpl.class);
-
-        GRINDSTONE_INVENTORIES = new EnumMap<>(Version.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.GrindstoneInventoryImpl.class);
-        GRINDSTONE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.GrindstoneInventoryImpl.class);
-
-        MERCHANT_INVENTORIES = new EnumMap<>(Version.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.MerchantInventoryImpl.class);
-        MERCHANT_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.MerchantInventoryImpl.class);
-
-        SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.SmithingTableInventoryImpl.class);
-        SMITHING_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.SmithingTableInventoryImpl.class);
-
-        LEGACY_SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.SmithingTableInventoryImpl.class);
-        LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            LegacySmithingTableInventoryImpl.class);
-
-        STONECUTTER_INVENTORIES = new EnumMap<>(Version.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_2_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_16_4_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_4_5.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_17_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.StonecutterInventoryImpl.class);
-        STONECUTTER_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.StonecutterInventoryImpl.class);
+    /**
+     * Gets the name of the package containing the adapter for the specified version, relative to the package of all
+     * adapters.
+     *
+     * @param version the version
+     * @return the package name
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String getPackageName(@NotNull Version version) {
+        if (version == Version.V1_20_3_4) {
+            return "v1_20_3";
+        }
+
+        return version.name().toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,269 @@
+package com.github.stefvanschie.inventoryframework;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryJournalTest {
+
+    @Test
+    void testReplay() throws IOException {
+        Path file = createFile();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            journal.recordStash(first, new byte[] {1, 2, 3});
+            journal.recordStash(second, new byte[] {4, 5});
+            journal.recordStash(first, new byte[] {6});
+            journal.recordRestore(second);
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {6}, journal.getStash(first));
+            assertNull(journal.getStash(second));
+            assertEquals(1, journal.getStashes().size());
+        }
+    }
+
+    @Test
+    void testTornRecord() throws IOException {
+        Path file = createFile();
+        UUID uniqueId = UUID.randomUUID();
+        int size;
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            journal.recordStash(uniqueId, new byte[] {1, 2, 3});
+            size = journal.getSize();
+            journal.recordStash(uniqueId, new byte[] {4, 5, 6});
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), size + 10);
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {1, 2, 3}, journal.getStash(uniqueId));
+            assertEquals(size, journal.getSize());
+
+            journal.recordStash(uniqueId, new byte[] {7});
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {7}, journal.getStash(uniqueId));
+        }
+    }
+
+    @Test
+    void testStartsOverWhenEmpty() throws IOException {
+        Path file = createFile();
+        UUID uniqueId = UUID.randomUUID();
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            int emptySize = journal.getSize();
+
+            journal.recordStash(uniqueId, new byte[100]);
+            journal.recordRestore(uniqueId);
+
+            assertEquals(emptySize, journal.getSize());
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertTrue(journal.getStashes().isEmpty());
+        }
+    }
+
+    @Test
+    void testCompact() throws IOException {
+        Path file = createFile();
+        UUID kept = UUID.randomUUID();
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            journal.recordStash(kept, new byte[] {1});
+
+            for (int index = 0; index < 100; index++) {
+                UUID uniqueId = UUID.randomUUID();
+
+                journal.recordStash(uniqueId, new byte[1000]);
+                journal.recordRestore(uniqueId);
+            }
+
+            int size = journal.getSize();
+
+            journal.compact();
+
+            assertTrue(journal.getSize() < size);
+
+            journal.recordStash(kept, new byte[] {2});
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {2}, journal.getStash(kept));
+            assertEquals(1, journal.getStashes().size());
+        }
+    }
+
+    @Test
+    void testCompactFailure() throws IOException {
+        Path file = createFile();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        //a non-empty directory in place of the temporary file can neither be written nor removed
+        Files.createDirectory(temporaryFile);
+        Path blocker = Files.createFile(temporaryFile.resolve("blocker"));
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            journal.recordStash(first, new byte[] {1});
+
+            int size = journal.getSize();
+
+            assertThrows(IOException.class, journal::compact);
+            assertEquals(size, journal.getSize());
+
+            journal.recordStash(second, new byte[] {2});
+        } finally {
+            Files.delete(blocker);
+            Files.delete(temporaryFile);
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {1}, journal.getStash(first));
+            assertArrayEquals(new byte[] {2}, journal.getStash(second));
+        }
+    }
+
+    @Test
+    void testCompactFailureWhileAppending() throws IOException {
+        Path file = createFile();
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        UUID kept = UUID.randomUUID();
+        AtomicInteger warnings = new AtomicInteger();
+        Logger logger = Logger.getAnonymousLogger();
+
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getLevel() == Level.WARNING) {
+                    warnings.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        });
+
+        Files.createDirectory(temporaryFile);
+        Path blocker = Files.createFile(temporaryFile.resolve("blocker"));
+
+        try (InventoryJournal journal = InventoryJournal.open(file, logger)) {
+            journal.recordStash(kept, new byte[] {1});
+
+            //every append after the first failure would otherwise try to compact again
+            while (journal.getSize() < 1536 * 1024) {
+                UUID uniqueId = UUID.randomUUID();
+
+                journal.recordStash(uniqueId, new byte[10000]);
+                journal.recordRestore(uniqueId);
+            }
+
+            assertEquals(1, warnings.get());
+
+            Files.delete(blocker);
+            Files.delete(temporaryFile);
+
+            int largest = 0;
+
+            while (journal.getSize() >= largest) {
+                largest = journal.getSize();
+
+                UUID uniqueId = UUID.randomUUID();
+
+                journal.recordStash(uniqueId, new byte[10000]);
+                journal.recordRestore(uniqueId);
+            }
+
+            assertTrue(largest > 2 * 1024 * 1024);
+            assertEquals(1, warnings.get());
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertArrayEquals(new byte[] {1}, journal.getStash(kept));
+            assertEquals(1, journal.getStashes().size());
+        }
+    }
+
+    @Test
+    void testInterruptedCompaction() throws IOException {
+        Path compactedJournal = createFile();
+        Path file = createFile();
+        Path compactedFile = file.resolveSibling(file.getFileName() + ".compacted");
+        UUID kept = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+
+        //a compacted journal of the next generation, as left behind by a crash while copying it
+        try (InventoryJournal journal = InventoryJournal.open(compactedJournal)) {
+            journal.recordStash(kept, new byte[] {1});
+            journal.compact();
+        }
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            journal.recordStash(kept, new byte[] {9});
+            journal.recordStash(other, new byte[] {2});
+        }
+
+        Files.copy(compactedJournal, compactedFile, StandardCopyOption.REPLACE_EXISTING);
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertFalse(Files.exists(compactedFile));
+            assertArrayEquals(new byte[] {1}, journal.getStash(kept));
+            assertEquals(1, journal.getStashes().size());
+
+            journal.recordStash(kept, new byte[] {3});
+        }
+
+        //the journal has the same generation now, so the compacted journal is outdated
+        Files.copy(compactedJournal, compactedFile);
+
+        try (InventoryJournal journal = InventoryJournal.open(file)) {
+            assertFalse(Files.exists(compactedFile));
+            assertArrayEquals(new byte[] {3}, journal.getStash(kept));
+        }
+    }
+
+    @Test
+    void testClosed() throws IOException {
+        InventoryJournal journal = InventoryJournal.open(createFile());
+
+        journal.close();
+
+        assertThrows(IllegalStateException.class, () -> journal.recordStash(UUID.randomUUID(), new byte[0]));
+    }
+
+    private Path createFile() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+
+        file.toFile().deleteOnExit();
+
+        return file;
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.stefvanschie.inventoryframework.gui;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemTextTemplateTest {
+
+    @Test
+    void testRender() {
+        ItemTextTemplate template = new ItemTextTemplate();
+
+        template.setDisplayName("&bDiamond");
+        template.setLore(Arrays.asList(
+            StringHolder.of("Price: {price} coins"),
+            StringHolder.of("{amount}x {name}"),
+            StringHolder.of("No placeholders")
+        ));
+
+        template.setPlaceholder("price", 120);
+        template.setPlaceholder("amount", 2);
+
+        assertEquals("§bDiamond", template.getDisplayName());
+        assertEquals(Arrays.asList("Price: 120 coins", "2x {name}", "No placeholders"), template.getLore());
+
+        template.setPlaceholder("price", 100);
+        template.setPlaceholder("name", "diamonds");
+
+        assertEquals(Arrays.asList("Price: 100 coins", "2x diamonds", "No placeholders"), template.getLore());
+
+        template.setPlaceholder("name", null);
+
+        assertNull(template.getPlaceholder("name"));
+        assertEquals(Arrays.asList("Price: 100 coins", "2x {name}", "No placeholders"), template.getLore());
+    }
+
+    @Test
+    void testRenderMalformedPlaceholders() {
+        ItemTextTemplate template = new ItemTextTemplate();
+
+        template.setLore(Collections.singletonList(StringHolder.of("{} {{a} {b")));
+        template.setPlaceholder("a", "x");
+        template.setPlaceholder("b", "y");
+
+        assertEquals(Collections.singletonList("{} {x {b"), template.getLore());
+    }
+
+    @Test
+    void testCopy() {
+        ItemTextTemplate original = new ItemTextTemplate();
+
+        original.setDisplayName(StringHolder.of("{name}"));
+        original.setPlaceholder("name", "original");
+
+        ItemTextTemplate copy = original.copy();
+
+        copy.setPlaceholder("name", "copy");
+
+        assertEquals("original", original.getDisplayName());
+        assertEquals("copy", copy.getDisplayName());
+    }
+}
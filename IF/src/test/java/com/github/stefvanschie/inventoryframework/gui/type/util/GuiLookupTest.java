@@ -0,0 +1,163 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.gui.type.HopperGui;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that guis are found from their inventories without asking any inventory for its holder, which may take a
+ * snapshot of a block on a real server.
+ */
+public class GuiLookupTest {
+
+    private static Plugin plugin;
+
+    @BeforeAll
+    static void setUp() {
+        Logger logger = Logger.getLogger("IF-tests");
+        PluginManager pluginManager = stub(PluginManager.class, (proxy, method, arguments) -> null);
+
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(stub(Server.class, (proxy, method, arguments) -> {
+                switch (method.getName()) {
+                    case "getLogger":
+                        return logger;
+                    case "getPluginManager":
+                        return pluginManager;
+                    case "createInventory":
+                        int size = arguments[1] instanceof InventoryType ?
+                            ((InventoryType) arguments[1]).getDefaultSize() : (Integer) arguments[1];
+
+                        return inventory((InventoryHolder) arguments[0], size);
+                    default:
+                        return null;
+                }
+            }));
+        }
+
+        plugin = stub(Plugin.class, (proxy, method, arguments) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return "IF-tests";
+                case "getLogger":
+                    return logger;
+                case "isEnabled":
+                    return true;
+                case "getServer":
+                    return Bukkit.getServer();
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @Test
+    void testChestGui() {
+        ChestGui gui = new ChestGui(3, "Lookup", plugin);
+
+        assertSame(gui, Gui.getGui(gui.createInventory()));
+    }
+
+    @Test
+    void testHopperGui() {
+        HopperGui gui = new HopperGui("Lookup", plugin);
+
+        assertSame(gui, Gui.getGui(gui.createInventory()));
+    }
+
+    @Test
+    void testForeignInventory() {
+        Inventory inventory = stub(Inventory.class, (proxy, method, arguments) -> {
+            throw new AssertionError("Unexpected call to " + method.getName());
+        });
+
+        assertNull(Gui.getGui(inventory));
+    }
+
+    @Test
+    void testAddsInventories() {
+        assertTrue(Gui.addsInventories(ChestGui.class));
+        assertTrue(Gui.addsInventories(HopperGui.class));
+        assertTrue(Gui.addsInventories(ShopGui.class));
+        assertFalse(Gui.addsInventories(RecreatingChestGui.class));
+    }
+
+    @NotNull
+    private static Inventory inventory(InventoryHolder holder, int size) {
+        return stub(Inventory.class, (proxy, method, arguments) -> {
+            switch (method.getName()) {
+                case "getHolder":
+                    return holder;
+                case "getSize":
+                    return size;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    /**
+     * Creates a proxy of the specified interface. Equality is by identity, and methods for which the handler returns
+     * null return the default value of their return type.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(@NotNull Class<T> type, @NotNull InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(GuiLookupTest.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, arguments) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return type.getSimpleName();
+                }
+
+                Object value = handler.invoke(proxy, method, arguments);
+                Class<?> returnType = method.getReturnType();
+
+                if (value == null && returnType.isPrimitive() && returnType != void.class) {
+                    return Array.get(Array.newInstance(returnType, 1), 0);
+                }
+
+                return value;
+            });
+    }
+
+    private static class ShopGui extends ChestGui {
+
+        private ShopGui(@NotNull Plugin plugin) {
+            super(6, "Shop", plugin);
+        }
+    }
+
+    private static class RecreatingChestGui extends ChestGui {
+
+        private RecreatingChestGui(@NotNull Plugin plugin) {
+            super(6, "Recreating", plugin);
+        }
+
+        @NotNull
+        @Override
+        public Inventory createInventory() {
+            return Bukkit.createInventory(this, getRows() * 9);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.stefvanschie.inventoryframework.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallbackWatchdogTest {
+
+    private final Logger logger = Logger.getAnonymousLogger();
+
+    @BeforeEach
+    void setUp() {
+        CallbackWatchdog.setLogging(false);
+        CallbackWatchdog.setTableSize(10);
+        CallbackWatchdog.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CallbackWatchdog.disable();
+        CallbackWatchdog.reset();
+        CallbackWatchdog.setLogging(true);
+    }
+
+    @Test
+    void testDisabled() {
+        run("disabled", 20);
+
+        assertTrue(CallbackWatchdog.getSlowest().isEmpty());
+    }
+
+    @Test
+    void testFastCallback() {
+        CallbackWatchdog.enable(1, TimeUnit.SECONDS);
+
+        run("fast", 0);
+
+        assertTrue(CallbackWatchdog.getSlowest().isEmpty());
+    }
+
+    @Test
+    void testSlowCallback() {
+        CallbackWatchdog.enable(10, TimeUnit.MILLISECONDS);
+
+        run("slow", 100);
+
+        List<SlowCallback> slowest = CallbackWatchdog.getSlowest();
+
+        assertEquals(1, slowest.size());
+
+        SlowCallback callback = slowest.get(0);
+
+        assertEquals("slow", callback.getName());
+        assertEquals(7, callback.getSlot());
+        assertNull(callback.getGuiType());
+        assertNull(callback.getPaneType());
+        assertTrue(callback.getDuration(TimeUnit.MILLISECONDS) >= 100);
+        assertTrue(callback.getHandler().startsWith(CallbackWatchdogTest.class.getName()));
+        assertTrue(callback.getStack().length > 0);
+    }
+
+    @Test
+    void testTable() {
+        CallbackWatchdog.enable(1, TimeUnit.MILLISECONDS);
+        CallbackWatchdog.setTableSize(2);
+
+        run("medium", 20);
+        run("short", 5);
+        run("long", 40);
+
+        List<SlowCallback> slowest = CallbackWatchdog.getSlowest();
+
+        assertEquals(2, slowest.size());
+        assertEquals("long", slowest.get(0).getName());
+        assertEquals("medium", slowest.get(1).getName());
+    }
+
+    @Test
+    void testListener() {
+        SlowCallback[] reported = new SlowCallback[1];
+        SlowCallbackListener listener = callback -> reported[0] = callback;
+
+        CallbackWatchdog.addListener(listener);
+        CallbackWatchdog.enable(1, TimeUnit.MILLISECONDS);
+
+        try {
+            run("reported", 10);
+        } finally {
+            CallbackWatchdog.removeListener(listener);
+        }
+
+        assertNotNull(reported[0]);
+        assertEquals("reported", reported[0].getName());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> CallbackWatchdog.enable(0, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> CallbackWatchdog.setTableSize(-1));
+    }
+
+    private void run(String name, long millis) {
+        Runnable callback = () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        long start = CallbackWatchdog.begin();
+
+        callback.run();
+
+        CallbackWatchdog.end(start, logger, null, null, 7, name, callback);
+    }
+}
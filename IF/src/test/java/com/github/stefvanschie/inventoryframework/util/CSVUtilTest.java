@@ -2,8 +2,11 @@ package com.github.stefvanschie.inventoryframework.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,4 +30,17 @@ public class CSVUtilTest {
             assertEquals(",", strings.get(4)[1]);
         }
     }
+
+    @Test
+    void testCsvReadingQuotedLineBreaks() throws IOException {
+        String csv = "a,\"b\nc\"\n\n \" d \" , e\\u0066 \r\n\\x,\\u00";
+        List<String[]> records = new ArrayList<>();
+
+        CSVUtil.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), records::add);
+
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[] {"a", "b\nc"}, records.get(0));
+        assertArrayEquals(new String[] {" d ", "ef"}, records.get(1));
+        assertArrayEquals(new String[] {"\\x", "\\u00"}, records.get(2));
+    }
 }
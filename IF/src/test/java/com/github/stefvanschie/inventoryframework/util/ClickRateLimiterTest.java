@@ -0,0 +1,85 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.bukkit.event.inventory.ClickType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClickRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testBurst() {
+        ClickRateLimiter limiter = new ClickRateLimiter(10, 3);
+        UUID player = UUID.randomUUID();
+
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+        assertTrue(limiter.tryAcquire(player, 1, ClickType.LEFT, 0));
+        assertTrue(limiter.tryAcquire(player, 2, ClickType.LEFT, 0));
+        assertFalse(limiter.tryAcquire(player, 3, ClickType.LEFT, 0));
+
+        assertEquals(1, limiter.getRejectedClicks());
+    }
+
+    @Test
+    void testRefill() {
+        ClickRateLimiter limiter = new ClickRateLimiter(10, 1);
+        UUID player = UUID.randomUUID();
+
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+        assertFalse(limiter.tryAcquire(player, 0, ClickType.LEFT, SECOND / 20));
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, SECOND / 10));
+
+        //a long pause refills the bucket up to the burst only
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 10 * SECOND));
+        assertFalse(limiter.tryAcquire(player, 0, ClickType.LEFT, 10 * SECOND));
+    }
+
+    @Test
+    void testPlayersAreIndependent() {
+        ClickRateLimiter limiter = new ClickRateLimiter(1, 1);
+
+        assertTrue(limiter.tryAcquire(UUID.randomUUID(), 0, ClickType.LEFT, 0));
+        assertTrue(limiter.tryAcquire(UUID.randomUUID(), 0, ClickType.LEFT, 0));
+    }
+
+    @Test
+    void testForget() {
+        ClickRateLimiter limiter = new ClickRateLimiter(1, 1);
+        UUID player = UUID.randomUUID();
+
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+        assertFalse(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+
+        limiter.forget(player);
+
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+    }
+
+    @Test
+    void testCoalescing() {
+        ClickRateLimiter limiter = new ClickRateLimiter(100, 10);
+        UUID player = UUID.randomUUID();
+
+        limiter.setCoalescing(true);
+
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.LEFT, 0));
+        assertFalse(limiter.tryAcquire(player, 0, ClickType.LEFT, 1));
+        assertTrue(limiter.tryAcquire(player, 0, ClickType.RIGHT, 2));
+        assertTrue(limiter.tryAcquire(player, 1, ClickType.RIGHT, 3));
+        assertTrue(limiter.tryAcquire(player, 1, ClickType.RIGHT, SECOND / 10));
+
+        assertEquals(1, limiter.getCoalescedClicks());
+        assertEquals(0, limiter.getRejectedClicks());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ClickRateLimiter(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ClickRateLimiter(1, 0));
+    }
+}
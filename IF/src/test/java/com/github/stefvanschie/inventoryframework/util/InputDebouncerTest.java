@@ -0,0 +1,78 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputDebouncerTest {
+
+    @Test
+    void testDebounce() throws InterruptedException {
+        List<String> passed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        InputDebouncer<String> debouncer = InputDebouncer.debounce(50, TimeUnit.MILLISECONDS, input -> {
+            passed.add(input);
+            latch.countDown();
+        });
+
+        debouncer.submit("a");
+        debouncer.submit("ab");
+        debouncer.submit("abc");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+
+        assertEquals(1, passed.size());
+        assertEquals("abc", passed.get(0));
+    }
+
+    @Test
+    void testThrottle() throws InterruptedException {
+        List<String> passed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        InputDebouncer<String> debouncer = InputDebouncer.throttle(50, TimeUnit.MILLISECONDS, input -> {
+            passed.add(input);
+            latch.countDown();
+        });
+
+        debouncer.submit("a");
+
+        assertEquals(1, passed.size());
+
+        debouncer.submit("ab");
+        debouncer.submit("abc");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        Thread.sleep(100);
+
+        assertEquals(2, passed.size());
+        assertEquals("a", passed.get(0));
+        assertEquals("abc", passed.get(1));
+    }
+
+    @Test
+    void testCancel() throws InterruptedException {
+        List<String> passed = new CopyOnWriteArrayList<>();
+        InputDebouncer<String> debouncer = InputDebouncer.debounce(20, TimeUnit.MILLISECONDS, passed::add);
+
+        debouncer.submit("a");
+        debouncer.cancel();
+
+        Thread.sleep(100);
+
+        assertTrue(passed.isEmpty());
+    }
+
+    @Test
+    void testInvalidDelay() {
+        assertThrows(IllegalArgumentException.class, () -> InputDebouncer.debounce(0, TimeUnit.SECONDS, input -> {}));
+        assertThrows(IllegalArgumentException.class, () -> InputDebouncer.throttle(-1, TimeUnit.SECONDS, input -> {}));
+    }
+}
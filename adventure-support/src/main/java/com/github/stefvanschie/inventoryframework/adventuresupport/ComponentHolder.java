@@ -2,6 +2,7 @@ package com.github.stefvanschie.inventoryframework.adventuresupport;
 
 import com.google.gson.JsonElement;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextReplacementConfig;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.apache.commons.lang.Validate;
@@ -14,6 +15,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 /**
  * Wrapper of an Adventure {@link Component}.
@@ -38,6 +41,12 @@ public abstract class ComponentHolder extends TextHolder {
     @Nullable
     private static LegacyComponentSerializer legacySerializer;
     
+    /**
+     * The pattern matching a placeholder: a non-empty name without braces, enclosed in braces.
+     */
+    @NotNull
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([^{}]+)}");
+    
     /**
      * Wraps the specified Adventure component.
      *
@@ -115,6 +124,28 @@ public abstract class ComponentHolder extends TextHolder {
     @NotNull
     protected final Component value;
     
+    /**
+     * The wrapped value as a legacy string, computed on first use since the component is immutable.
+     * A null value indicates that the legacy string hasn't been computed yet.
+     * This field should not be used directly, use {@link #asLegacyString()} instead.
+     */
+    @Nullable
+    private volatile String legacyString;
+    
+    /**
+     * The wrapped value as JSON, computed on first use since the component is immutable.
+     * A null value indicates that the JSON hasn't been computed yet.
+     * This field should not be used directly, use {@link #asJson()} instead.
+     */
+    @Nullable
+    private volatile JsonElement json;
+    
+    /**
+     * The hash code of the wrapped value. Components compute their hash code recursively on every call, which adds up
+     * when holders are used as keys of caches. A value of zero indicates that the hash code hasn't been computed yet.
+     */
+    private int hash;
+    
     /**
      * Creates and initializes a new instance.
      *
@@ -138,7 +169,32 @@ public abstract class ComponentHolder extends TextHolder {
     }
     
     /**
-     * Gets the wrapped Adventure component in a JSON representation.
+     * Replaces the placeholders in the text of the wrapped component, like {@code {name}}, with their values. Values
+     * are inserted as plain text and take on the style of the text containing the placeholder. Placeholders without a
+     * value, and placeholders spanning multiple components, are left untouched.
+     *
+     * @param values gets the value of a placeholder by its name, or null if the placeholder has no value
+     * @return a holder wrapping the component with the placeholders replaced
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public ComponentHolder replacePlaceholders(@NotNull Function<? super String, ? extends String> values) {
+        TextReplacementConfig config = TextReplacementConfig.builder()
+                .match(PLACEHOLDER)
+                .replacement((result, builder) -> {
+                    String replacement = values.apply(result.group(1));
+                    
+                    return replacement == null ? builder : builder.content(replacement);
+                })
+                .build();
+        
+        return of(value.replaceText(config));
+    }
+    
+    /**
+     * Gets the wrapped Adventure component in a JSON representation. The JSON is computed once and shared between
+     * calls, so the returned element should not be modified.
      *
      * @return the contained Adventure component as JSON
      * @since 0.10.0
@@ -146,7 +202,14 @@ public abstract class ComponentHolder extends TextHolder {
     @NotNull
     @Contract(pure = true)
     public JsonElement asJson() {
-        return GsonComponentSerializer.gson().serializeToTree(value);
+        JsonElement json = this.json;
+        
+        if (json == null) {
+            json = GsonComponentSerializer.gson().serializeToTree(value);
+            this.json = json;
+        }
+        
+        return json;
     }
     
     @NotNull
@@ -158,7 +221,14 @@ public abstract class ComponentHolder extends TextHolder {
     
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int hash = this.hash;
+        
+        if (hash == 0) {
+            hash = value.hashCode();
+            this.hash = hash;
+        }
+        
+        return hash;
     }
     
     @Override
@@ -171,6 +241,13 @@ public abstract class ComponentHolder extends TextHolder {
     @Contract(pure = true)
     @Override
     public String asLegacyString() {
-        return getLegacySerializer().serialize(value);
+        String legacyString = this.legacyString;
+        
+        if (legacyString == null) {
+            legacyString = getLegacySerializer().serialize(value);
+            this.legacyString = legacyString;
+        }
+        
+        return legacyString;
     }
 }
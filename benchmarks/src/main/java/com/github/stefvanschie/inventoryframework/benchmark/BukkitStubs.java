@@ -0,0 +1,685 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Minimal stand-ins for the parts of the Bukkit API that guis touch, so benchmarks can run outside of a server. The
+ * stand-ins are dynamic proxies: the handful of methods used by IF are implemented, every other method returns the
+ * default value of its return type. Item metas only keep their persistent data, which is all IF stores on items.
+ *
+ * @since 0.11.3
+ */
+public final class BukkitStubs {
+
+    /**
+     * The amount of slots in a player inventory
+     */
+    private static final int PLAYER_INVENTORY_SIZE = 41;
+
+    /**
+     * The amount of slots in the storage contents of a player inventory
+     */
+    private static final int STORAGE_SIZE = 36;
+
+    /**
+     * The logger of the stand-in server and plugin
+     */
+    @NotNull
+    private static final Logger LOGGER = Logger.getLogger("IF-benchmarks");
+
+    /**
+     * The plugin owning all guis created in the benchmarks
+     */
+    @NotNull
+    private static final Plugin PLUGIN = proxy(Plugin.class, new Handler() {
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            switch (method.getName()) {
+                case "getName":
+                    return "IF-benchmarks";
+                case "getLogger":
+                    return LOGGER;
+                case "isEnabled":
+                    return true;
+                case "getServer":
+                    return Bukkit.getServer();
+                default:
+                    return UNHANDLED;
+            }
+        }
+    });
+
+    /**
+     * The executor running tasks scheduled through the Bukkit scheduler, or null to drop them
+     */
+    @Nullable
+    private static volatile Executor scheduler;
+
+    private BukkitStubs() {
+        //private constructor to prevent construction
+    }
+
+    /**
+     * Installs the stand-in server, if no server has been installed yet. This has to be called before any item stacks
+     * or guis are created.
+     *
+     * @since 0.11.3
+     */
+    public static synchronized void install() {
+        if (Bukkit.getServer() != null) {
+            return;
+        }
+
+        ItemFactory itemFactory = proxy(ItemFactory.class, new ItemFactoryHandler());
+        PluginManager pluginManager = proxy(PluginManager.class, new Handler() {
+            @Override
+            Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+                return UNHANDLED;
+            }
+        });
+        BukkitScheduler bukkitScheduler = proxy(BukkitScheduler.class, new SchedulerHandler());
+
+        Bukkit.setServer(proxy(Server.class, new Handler() {
+            @Nullable
+            @Override
+            Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+                switch (method.getName()) {
+                    case "getName":
+                        return "IF-benchmarks";
+                    case "getVersion":
+                    case "getBukkitVersion":
+                        return "1.20.3-R0.1-SNAPSHOT";
+                    case "getLogger":
+                        return LOGGER;
+                    case "getItemFactory":
+                        return itemFactory;
+                    case "getPluginManager":
+                        return pluginManager;
+                    case "getScheduler":
+                        return bukkitScheduler;
+                    case "isPrimaryThread":
+                        return true;
+                    case "createInventory":
+                        if (arguments[1] instanceof InventoryType) {
+                            InventoryType type = (InventoryType) arguments[1];
+
+                            return proxy(Inventory.class, new InventoryHandler(type.getDefaultSize(), type));
+                        }
+
+                        return inventory((Integer) arguments[1]);
+                    default:
+                        return UNHANDLED;
+                }
+            }
+        }));
+    }
+
+    /**
+     * Sets the executor running tasks scheduled through the Bukkit scheduler. Tasks are passed to the executor as soon
+     * as they're scheduled, regardless of their delay, and repeating tasks only run once. Until an executor is set,
+     * scheduled tasks are dropped.
+     *
+     * @param scheduler the executor or null to drop tasks
+     * @since 0.11.3
+     */
+    public static void setScheduler(@Nullable Executor scheduler) {
+        BukkitStubs.scheduler = scheduler;
+    }
+
+    /**
+     * Gets the plugin to create guis and items with.
+     *
+     * @return the plugin
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Plugin getPlugin() {
+        return PLUGIN;
+    }
+
+    /**
+     * Creates a new, empty chest inventory with the given size.
+     *
+     * @param size the amount of slots
+     * @return the inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static Inventory inventory(int size) {
+        return proxy(Inventory.class, new InventoryHandler(size, InventoryType.CHEST));
+    }
+
+    /**
+     * Creates a new, empty player inventory.
+     *
+     * @return the player inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public static PlayerInventory playerInventory() {
+        return proxy(PlayerInventory.class, new InventoryHandler(PLAYER_INVENTORY_SIZE, InventoryType.PLAYER));
+    }
+
+    /**
+     * Creates a new human entity with a random unique id and an empty player inventory. Opening an inventory makes the
+     * human entity a viewer of it, until it opens another inventory or closes it. No events are fired for this.
+     *
+     * @return the human entity
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public static HumanEntity humanEntity() {
+        HumanEntityHandler handler = new HumanEntityHandler();
+        HumanEntity humanEntity = proxy(HumanEntity.class, handler);
+
+        handler.humanEntity = humanEntity;
+
+        return humanEntity;
+    }
+
+    /**
+     * Creates a proxy for the given interface, which delegates to the given handler.
+     *
+     * @param type the interface to implement
+     * @param handler the handler
+     * @param <T> the type of the interface
+     * @return the proxy
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    private static <T> T proxy(@NotNull Class<T> type, @NotNull Handler handler) {
+        return type.cast(Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Base handler for all stand-ins. Equality is by identity and every method that isn't handled returns the default
+     * value of its return type.
+     */
+    private abstract static class Handler implements InvocationHandler {
+
+        /**
+         * Returned by {@link #handle(Method, Object[])} for methods the stand-in doesn't implement
+         */
+        @NotNull
+        static final Object UNHANDLED = new Object();
+
+        @Nullable
+        @Override
+        public Object invoke(@NotNull Object proxy, @NotNull Method method, @Nullable Object @Nullable [] arguments) {
+            switch (method.getName()) {
+                case "equals":
+                    if (method.getParameterCount() == 1 && method.getDeclaringClass() == Object.class) {
+                        return proxy == arguments[0];
+                    }
+
+                    break;
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) {
+                        return proxy.getClass().getInterfaces()[0].getSimpleName() + "@" +
+                            Integer.toHexString(System.identityHashCode(proxy));
+                    }
+
+                    break;
+            }
+
+            Object result = handle(method, arguments == null ? new Object[0] : arguments);
+
+            if (result == UNHANDLED) {
+                return defaultValue(method.getReturnType());
+            }
+
+            return result;
+        }
+
+        /**
+         * Handles a method call on the stand-in.
+         *
+         * @param method the invoked method
+         * @param arguments the arguments
+         * @return the result or {@link #UNHANDLED}
+         */
+        @Nullable
+        abstract Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments);
+
+        /**
+         * Gets the default value for the given return type.
+         *
+         * @param type the return type
+         * @return the default value
+         */
+        @Nullable
+        @Contract(pure = true)
+        private static Object defaultValue(@NotNull Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            } else if (type == double.class) {
+                return 0D;
+            } else if (type == float.class) {
+                return 0F;
+            } else if (type == short.class) {
+                return (short) 0;
+            } else if (type == byte.class) {
+                return (byte) 0;
+            } else if (type == char.class) {
+                return (char) 0;
+            } else if (type == List.class || type == Collection.class) {
+                return Collections.emptyList();
+            } else if (type == Set.class) {
+                return Collections.emptySet();
+            } else if (type == Map.class) {
+                return Collections.emptyMap();
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Creates item metas that only keep persistent data.
+     */
+    private static final class ItemFactoryHandler extends Handler {
+
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            switch (method.getName()) {
+                case "getItemMeta":
+                    return itemMeta(new HashMap<>());
+                case "isApplicable":
+                    return true;
+                case "asMetaFor":
+                    return arguments[0];
+                case "updateMaterial":
+                    return arguments[1] instanceof Material ? arguments[1] : ((ItemStack) arguments[1]).getType();
+                case "equals":
+                    return Objects.equals(data(arguments[0]), data(arguments[1]));
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        /**
+         * Gets the persistent data of an item meta, treating no item meta as an item meta without data.
+         *
+         * @param meta the item meta or null
+         * @return the persistent data
+         */
+        @NotNull
+        @Contract(pure = true)
+        private static Map<NamespacedKey, Object> data(@Nullable Object meta) {
+            if (meta == null) {
+                return Collections.emptyMap();
+            }
+
+            return ((ItemMetaHandler) Proxy.getInvocationHandler(meta)).data;
+        }
+
+        /**
+         * Creates a new item meta with the given persistent data. The item meta is damageable without any damage, since
+         * {@link ItemStack#getDurability()}, which {@link ItemStack#isSimilar(ItemStack)} uses, expects every item meta
+         * to be.
+         *
+         * @param data the persistent data
+         * @return the item meta
+         */
+        @NotNull
+        @Contract(value = "_ -> new", pure = true)
+        private static ItemMeta itemMeta(@NotNull Map<NamespacedKey, Object> data) {
+            return proxy(Damageable.class, new ItemMetaHandler(data));
+        }
+    }
+
+    /**
+     * An item meta holding only persistent data. The values are stored as-is, rather than converted to their primitive
+     * form, since nothing reads them back with a different data type.
+     */
+    private static final class ItemMetaHandler extends Handler {
+
+        /**
+         * The persistent data of this item meta
+         */
+        @NotNull
+        private final Map<NamespacedKey, Object> data;
+
+        /**
+         * The persistent data container exposing {@link #data}
+         */
+        @NotNull
+        private final PersistentDataContainer container;
+
+        private ItemMetaHandler(@NotNull Map<NamespacedKey, Object> data) {
+            this.data = data;
+            this.container = proxy(PersistentDataContainer.class, new Handler() {
+                @Nullable
+                @Override
+                Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+                    switch (method.getName()) {
+                        case "set":
+                            data.put((NamespacedKey) arguments[0], arguments[2]);
+                            return null;
+                        case "get":
+                            return data.get(arguments[0]);
+                        case "getOrDefault":
+                            return data.getOrDefault(arguments[0], arguments[2]);
+                        case "has":
+                            return data.containsKey(arguments[0]);
+                        case "remove":
+                            data.remove(arguments[0]);
+                            return null;
+                        case "getKeys":
+                            return Collections.unmodifiableSet(data.keySet());
+                        case "isEmpty":
+                            return data.isEmpty();
+                        default:
+                            return UNHANDLED;
+                    }
+                }
+            });
+        }
+
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            switch (method.getName()) {
+                case "clone":
+                    return ItemFactoryHandler.itemMeta(new HashMap<>(data));
+                case "getPersistentDataContainer":
+                    return container;
+                default:
+                    return UNHANDLED;
+            }
+        }
+    }
+
+    /**
+     * An inventory backed by an array of items.
+     */
+    private static final class InventoryHandler extends Handler {
+
+        /**
+         * The items in this inventory
+         */
+        @Nullable
+        private final ItemStack @NotNull [] items;
+
+        /**
+         * The type of this inventory
+         */
+        @NotNull
+        private final InventoryType type;
+
+        /**
+         * The human entities viewing this inventory
+         */
+        @NotNull
+        private final List<HumanEntity> viewers = new CopyOnWriteArrayList<>();
+
+        private InventoryHandler(int size, @NotNull InventoryType type) {
+            this.items = new ItemStack[size];
+            this.type = type;
+        }
+
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            switch (method.getName()) {
+                case "getSize":
+                    return items.length;
+                case "getType":
+                    return type;
+                case "getMaxStackSize":
+                    return 64;
+                case "getItem":
+                    return items[(Integer) arguments[0]];
+                case "setItem":
+                    if (arguments.length == 2 && arguments[0] instanceof Integer) {
+                        items[(Integer) arguments[0]] = (ItemStack) arguments[1];
+
+                        return null;
+                    }
+
+                    return UNHANDLED;
+                case "getContents":
+                    return items.clone();
+                case "getStorageContents":
+                    return Arrays.copyOf(items, Math.min(items.length, storageSize()));
+                case "setContents":
+                    copyInto((ItemStack[]) arguments[0], items.length);
+                    return null;
+                case "setStorageContents":
+                    copyInto((ItemStack[]) arguments[0], storageSize());
+                    return null;
+                case "clear":
+                    if (arguments.length == 0) {
+                        Arrays.fill(items, null);
+
+                        return null;
+                    }
+
+                    items[(Integer) arguments[0]] = null;
+                    return null;
+                case "getViewers":
+                    return new ArrayList<>(viewers);
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        /**
+         * Gets the amount of slots considered storage contents.
+         *
+         * @return the storage size
+         */
+        @Contract(pure = true)
+        private int storageSize() {
+            return type == InventoryType.PLAYER ? STORAGE_SIZE : items.length;
+        }
+
+        /**
+         * Replaces the first {@code length} slots of this inventory with the given items.
+         *
+         * @param contents the new items
+         * @param length the amount of slots to replace
+         */
+        private void copyInto(@Nullable ItemStack @NotNull [] contents, int length) {
+            if (contents.length > length) {
+                throw new IllegalArgumentException("Invalid inventory size; expected " + length + " or less");
+            }
+
+            System.arraycopy(contents, 0, items, 0, contents.length);
+            Arrays.fill(items, contents.length, length, null);
+        }
+    }
+
+    /**
+     * A human entity with a player inventory, which can view one inventory at a time.
+     */
+    private static final class HumanEntityHandler extends Handler {
+
+        /**
+         * The unique id of this human entity
+         */
+        @NotNull
+        private final UUID uniqueId = UUID.randomUUID();
+
+        /**
+         * The player inventory of this human entity
+         */
+        @NotNull
+        private final PlayerInventory inventory = playerInventory();
+
+        /**
+         * The proxy this handler belongs to
+         */
+        private HumanEntity humanEntity;
+
+        /**
+         * The view of the inventory this human entity is viewing, or null if it isn't viewing any
+         */
+        @Nullable
+        private volatile InventoryView openView;
+
+        /**
+         * The item on the cursor of this human entity
+         */
+        @Nullable
+        private volatile ItemStack cursor;
+
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uniqueId;
+                case "getName":
+                    return uniqueId.toString();
+                case "getInventory":
+                    return inventory;
+                case "getItemOnCursor":
+                    return cursor;
+                case "setItemOnCursor":
+                    cursor = (ItemStack) arguments[0];
+                    return null;
+                case "getOpenInventory":
+                    return openView;
+                case "openInventory":
+                    if (!(arguments[0] instanceof Inventory)) {
+                        return UNHANDLED;
+                    }
+
+                    close();
+
+                    Inventory topInventory = (Inventory) arguments[0];
+                    InventoryView view = new StubInventoryView(topInventory, humanEntity);
+
+                    viewers(topInventory).add(humanEntity);
+                    openView = view;
+
+                    return view;
+                case "closeInventory":
+                    close();
+                    return null;
+                default:
+                    return UNHANDLED;
+            }
+        }
+
+        /**
+         * Stops viewing the open inventory, if any.
+         */
+        private void close() {
+            InventoryView view = openView;
+
+            if (view != null) {
+                viewers(view.getTopInventory()).remove(humanEntity);
+                openView = null;
+            }
+        }
+
+        /**
+         * Gets the viewers of the given stand-in inventory.
+         *
+         * @param inventory the inventory
+         * @return the viewers
+         */
+        @NotNull
+        @Contract(pure = true)
+        private static List<HumanEntity> viewers(@NotNull Inventory inventory) {
+            return ((InventoryHandler) Proxy.getInvocationHandler(inventory)).viewers;
+        }
+    }
+
+    /**
+     * A scheduler passing every scheduled task to {@link #scheduler}.
+     */
+    private static final class SchedulerHandler extends Handler {
+
+        @Nullable
+        @Override
+        Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+            BukkitTask task = proxy(BukkitTask.class, new Handler() {
+                @Nullable
+                @Override
+                Object handle(@NotNull Method method, @Nullable Object @NotNull [] arguments) {
+                    return method.getName().equals("getOwner") ? PLUGIN : UNHANDLED;
+                }
+            });
+
+            for (Object argument : arguments) {
+                Runnable runnable;
+
+                if (argument instanceof Runnable) {
+                    runnable = (Runnable) argument;
+                } else if (argument instanceof Consumer<?>) {
+                    //noinspection unchecked
+                    runnable = () -> ((Consumer<? super BukkitTask>) argument).accept(task);
+                } else {
+                    continue;
+                }
+
+                Executor executor = scheduler;
+
+                if (executor != null) {
+                    executor.execute(runnable);
+                }
+
+                return method.getReturnType() == BukkitTask.class ? task : UNHANDLED;
+            }
+
+            return UNHANDLED;
+        }
+    }
+}
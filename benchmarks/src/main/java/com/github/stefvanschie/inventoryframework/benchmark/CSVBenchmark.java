@@ -0,0 +1,93 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.util.CSVUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing font files with {@link CSVUtil}, both collecting all records and streaming them. The input is the
+ * largest bundled font, repeated to simulate larger files. The file is read into memory once, so only parsing is
+ * measured.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSVBenchmark {
+
+    /**
+     * The font file to parse
+     */
+    private static final String FONT = "/fonts/monitor.csv";
+
+    /**
+     * How often the font file is repeated in the input
+     */
+    @Param({"1", "100"})
+    public int copies;
+
+    /**
+     * The input to parse
+     */
+    private byte[] input;
+
+    @Setup
+    public void setUp() {
+        try (InputStream inputStream = CSVUtil.class.getResourceAsStream(FONT)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Font file '" + FONT + "' is missing");
+            }
+
+            ByteArrayOutputStream font = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+
+            while ((read = inputStream.read(buffer)) != -1) {
+                font.write(buffer, 0, read);
+            }
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream((font.size() + 1) * copies);
+
+            for (int copy = 0; copy < copies; copy++) {
+                font.writeTo(output);
+                output.write('\n');
+            }
+
+            this.input = output.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Benchmark
+    public List<String[]> readAll() throws IOException {
+        return CSVUtil.readAll(new ByteArrayInputStream(input));
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws IOException {
+        CSVUtil.read(new ByteArrayInputStream(input), blackhole::consume);
+    }
+}
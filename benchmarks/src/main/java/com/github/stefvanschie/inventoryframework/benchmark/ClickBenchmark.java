@@ -0,0 +1,121 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.pane.StaticPane;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link InventoryComponent#click(com.github.stefvanschie.inventoryframework.gui.type.util.Gui,
+ * InventoryClickEvent, int)} takes to find the clicked item. The component is a full chest, split over a number of
+ * overlapping static panes, such that the items of lower panes are only found after the panes above them have been
+ * searched. Every invocation clicks the next slot.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClickBenchmark {
+
+    /**
+     * The length of a chest inventory
+     */
+    private static final int LENGTH = 9;
+
+    /**
+     * The height of a chest inventory
+     */
+    private static final int HEIGHT = 6;
+
+    /**
+     * The amount of panes the items are divided over
+     */
+    @Param({"1", "3", "6"})
+    public int panes;
+
+    /**
+     * The gui the clicks are for
+     */
+    private ChestGui gui;
+
+    /**
+     * The component being clicked
+     */
+    private InventoryComponent component;
+
+    /**
+     * A click event for every slot of the component
+     */
+    private InventoryClickEvent[] events;
+
+    /**
+     * The next slot to click
+     */
+    private int slot;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+
+        this.gui = new ChestGui(HEIGHT, "Benchmark", BukkitStubs.getPlugin());
+        this.component = new InventoryComponent(LENGTH, HEIGHT);
+
+        StaticPane[] layers = new StaticPane[panes];
+
+        for (int index = 0; index < panes; index++) {
+            layers[index] = new StaticPane(LENGTH, HEIGHT);
+
+            component.addPane(layers[index]);
+        }
+
+        for (int index = 0; index < LENGTH * HEIGHT; index++) {
+            layers[index % panes].addItem(Fixtures.guiItem(index), index % LENGTH, index / LENGTH);
+        }
+
+        Inventory inventory = BukkitStubs.inventory(LENGTH * HEIGHT);
+
+        component.display(inventory, 0);
+
+        InventoryView view = new StubInventoryView(inventory, BukkitStubs.humanEntity());
+
+        this.events = new InventoryClickEvent[LENGTH * HEIGHT];
+
+        for (int index = 0; index < events.length; index++) {
+            events[index] = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, index, ClickType.LEFT,
+                InventoryAction.PICKUP_ALL);
+        }
+    }
+
+    @Benchmark
+    public InventoryClickEvent click() {
+        InventoryClickEvent event = events[slot];
+
+        component.click(gui, event, slot);
+
+        slot = (slot + 1) % events.length;
+
+        return event;
+    }
+}
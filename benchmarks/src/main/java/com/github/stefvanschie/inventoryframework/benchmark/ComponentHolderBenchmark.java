@@ -0,0 +1,75 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.ComponentHolder;
+import com.google.gson.JsonElement;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting a {@link ComponentHolder} to a legacy string and to JSON, both for a holder that is reused, so
+ * the memoized result is returned, and for a new holder every time, as if the conversion wasn't memoized.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentHolderBenchmark {
+
+    /**
+     * The component to convert, a typical gui title
+     */
+    private Component component;
+
+    /**
+     * The holder that is reused
+     */
+    private ComponentHolder holder;
+
+    @Setup
+    public void setUp() {
+        this.component = Component.text()
+            .append(Component.text("Shop", NamedTextColor.GOLD, TextDecoration.BOLD))
+            .append(Component.text(" - ", NamedTextColor.DARK_GRAY))
+            .append(Component.text("Page 1 of 5", TextColor.color(0x55AAFF)))
+            .build();
+        this.holder = ComponentHolder.of(component);
+    }
+
+    @Benchmark
+    public String legacyMemoized() {
+        return holder.asLegacyString();
+    }
+
+    @Benchmark
+    public String legacyFresh() {
+        return ComponentHolder.of(component).asLegacyString();
+    }
+
+    @Benchmark
+    public JsonElement jsonMemoized() {
+        return holder.asJson();
+    }
+
+    @Benchmark
+    public JsonElement jsonFresh() {
+        return ComponentHolder.of(component).asJson();
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GuiItem#copy()} and {@link Gui#copy()}, the latter for chest guis whose rows are completely filled
+ * by a static pane, an outline pane and a paginated pane.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyBenchmark {
+
+    /**
+     * The length of a chest inventory
+     */
+    private static final int LENGTH = 9;
+
+    /**
+     * The amount of rows of the gui
+     */
+    @Param({"1", "3", "6"})
+    public int rows;
+
+    /**
+     * The item to copy
+     */
+    private GuiItem item;
+
+    /**
+     * The gui to copy
+     */
+    private ChestGui gui;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+
+        this.item = Fixtures.guiItem(0);
+        this.gui = new ChestGui(rows, "Benchmark", BukkitStubs.getPlugin());
+
+        gui.addPane(Fixtures.staticPane(LENGTH, rows));
+        gui.addPane(Fixtures.outlinePane(LENGTH, rows));
+        gui.addPane(Fixtures.paginatedPane(LENGTH, rows));
+    }
+
+    @Benchmark
+    public GuiItem guiItem() {
+        return item.copy();
+    }
+
+    @Benchmark
+    public Gui gui() {
+        return gui.copy();
+    }
+}
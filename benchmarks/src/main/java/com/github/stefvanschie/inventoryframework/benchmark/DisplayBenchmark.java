@@ -0,0 +1,137 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link InventoryComponent#display(Inventory, int)} for a component holding a single, completely filled pane
+ * of each type, for chest inventories of varying heights.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayBenchmark {
+
+    /**
+     * The length of a chest inventory
+     */
+    private static final int LENGTH = 9;
+
+    /**
+     * The amount of rows of the component
+     */
+    @Param({"1", "3", "6"})
+    public int rows;
+
+    /**
+     * A component holding a static pane
+     */
+    private InventoryComponent staticComponent;
+
+    /**
+     * A component holding an outline pane
+     */
+    private InventoryComponent outlineComponent;
+
+    /**
+     * A component holding a pattern pane
+     */
+    private InventoryComponent patternComponent;
+
+    /**
+     * A component holding a masonry pane
+     */
+    private InventoryComponent masonryComponent;
+
+    /**
+     * A component holding a paginated pane
+     */
+    private InventoryComponent paginatedComponent;
+
+    /**
+     * The inventory the components are displayed in
+     */
+    private Inventory inventory;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+
+        this.staticComponent = component(Fixtures.staticPane(LENGTH, rows));
+        this.outlineComponent = component(Fixtures.outlinePane(LENGTH, rows));
+        this.patternComponent = component(Fixtures.patternPane(LENGTH, rows));
+        this.masonryComponent = component(Fixtures.masonryPane(LENGTH, rows));
+        this.paginatedComponent = component(Fixtures.paginatedPane(LENGTH, rows));
+        this.inventory = BukkitStubs.inventory(LENGTH * rows);
+    }
+
+    @Benchmark
+    public Inventory staticPane() {
+        staticComponent.display(inventory, 0);
+
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory outlinePane() {
+        outlineComponent.display(inventory, 0);
+
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory patternPane() {
+        patternComponent.display(inventory, 0);
+
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory masonryPane() {
+        masonryComponent.display(inventory, 0);
+
+        return inventory;
+    }
+
+    @Benchmark
+    public Inventory paginatedPane() {
+        paginatedComponent.display(inventory, 0);
+
+        return inventory;
+    }
+
+    /**
+     * Creates a component the size of the inventory holding the given pane.
+     *
+     * @param pane the pane
+     * @return the component
+     */
+    @NotNull
+    private InventoryComponent component(@NotNull Pane pane) {
+        InventoryComponent component = new InventoryComponent(LENGTH, rows);
+
+        component.addPane(pane);
+
+        return component;
+    }
+}
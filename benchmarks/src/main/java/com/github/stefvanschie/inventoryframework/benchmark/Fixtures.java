@@ -0,0 +1,180 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.MasonryPane;
+import com.github.stefvanschie.inventoryframework.pane.OutlinePane;
+import com.github.stefvanschie.inventoryframework.pane.PaginatedPane;
+import com.github.stefvanschie.inventoryframework.pane.PatternPane;
+import com.github.stefvanschie.inventoryframework.pane.StaticPane;
+import com.github.stefvanschie.inventoryframework.pane.util.Pattern;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds the pane trees shared between benchmarks. All panes are filled completely, so every slot has to be rendered.
+ * {@link BukkitStubs#install()} has to be called before using any of these.
+ *
+ * @since 0.11.3
+ */
+public final class Fixtures {
+
+    /**
+     * The materials items are made of, cycled through by index
+     */
+    @NotNull
+    private static final Material @NotNull [] MATERIALS = {
+        Material.STONE, Material.DIRT, Material.OAK_PLANKS, Material.GLASS, Material.IRON_INGOT, Material.GOLD_INGOT,
+        Material.DIAMOND, Material.EMERALD, Material.REDSTONE
+    };
+
+    /**
+     * The amount of pages of a paginated pane
+     */
+    private static final int PAGES = 5;
+
+    private Fixtures() {
+        //private constructor to prevent construction
+    }
+
+    /**
+     * Creates an item stack for the given index.
+     *
+     * @param index the index
+     * @param amount the amount of items
+     * @return the item stack
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static ItemStack item(int index, int amount) {
+        return new ItemStack(MATERIALS[index % MATERIALS.length], amount);
+    }
+
+    /**
+     * Creates a gui item with a no-op action for the given index.
+     *
+     * @param index the index
+     * @return the gui item
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_ -> new", pure = true)
+    public static GuiItem guiItem(int index) {
+        return new GuiItem(item(index, 1), event -> {}, BukkitStubs.getPlugin());
+    }
+
+    /**
+     * Creates a static pane with an item in every slot.
+     *
+     * @param length the length of the pane
+     * @param height the height of the pane
+     * @return the static pane
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static StaticPane staticPane(int length, int height) {
+        StaticPane pane = new StaticPane(length, height);
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < length; x++) {
+                pane.addItem(guiItem(y * length + x), x, y);
+            }
+        }
+
+        return pane;
+    }
+
+    /**
+     * Creates an outline pane with an item in every slot.
+     *
+     * @param length the length of the pane
+     * @param height the height of the pane
+     * @return the outline pane
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static OutlinePane outlinePane(int length, int height) {
+        OutlinePane pane = new OutlinePane(length, height);
+
+        for (int index = 0; index < length * height; index++) {
+            pane.addItem(guiItem(index));
+        }
+
+        return pane;
+    }
+
+    /**
+     * Creates a pattern pane with a different item in every column.
+     *
+     * @param length the length of the pane, at most nine
+     * @param height the height of the pane
+     * @return the pattern pane
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static PatternPane patternPane(int length, int height) {
+        String[] rows = new String[height];
+
+        Arrays.fill(rows, "123456789".substring(0, length));
+
+        PatternPane pane = new PatternPane(length, height, new Pattern(rows));
+
+        for (int x = 0; x < length; x++) {
+            pane.bindItem((char) ('1' + x), guiItem(x));
+        }
+
+        return pane;
+    }
+
+    /**
+     * Creates a masonry pane filled with outline panes of three by one.
+     *
+     * @param length the length of the pane, a multiple of three
+     * @param height the height of the pane
+     * @return the masonry pane
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static MasonryPane masonryPane(int length, int height) {
+        MasonryPane pane = new MasonryPane(length, height);
+
+        for (int index = 0; index < length / 3 * height; index++) {
+            pane.addPane(outlinePane(3, 1));
+        }
+
+        return pane;
+    }
+
+    /**
+     * Creates a paginated pane with several completely filled pages.
+     *
+     * @param length the length of the pane
+     * @param height the height of the pane
+     * @return the paginated pane
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "_, _ -> new", pure = true)
+    public static PaginatedPane paginatedPane(int length, int height) {
+        PaginatedPane pane = new PaginatedPane(length, height);
+        List<GuiItem> items = new ArrayList<>(length * height * PAGES);
+
+        for (int index = 0; index < length * height * PAGES; index++) {
+            items.add(guiItem(index));
+        }
+
+        pane.populateWithGuiItems(items);
+
+        return pane;
+    }
+}
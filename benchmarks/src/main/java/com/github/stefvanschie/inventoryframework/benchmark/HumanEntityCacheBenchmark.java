@@ -0,0 +1,128 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures storing and restoring the inventories of many players with {@link HumanEntityCache}, and adding items to a
+ * cached inventory until it's full. The inventories are half filled with partial stacks of a few materials.
+ *
+ * @since 0.11.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HumanEntityCacheBenchmark {
+
+    /**
+     * The amount of slots in the storage contents of a player inventory
+     */
+    private static final int STORAGE_SIZE = 36;
+
+    /**
+     * The amount of players whose inventory is stored
+     */
+    @Param({"1", "100"})
+    public int players;
+
+    /**
+     * The players whose inventory is stored
+     */
+    private HumanEntity[] humanEntities;
+
+    /**
+     * The storage contents every player starts with
+     */
+    private ItemStack[] contents;
+
+    /**
+     * The items added to a cached inventory, cycling through the materials of the partial stacks and a new one
+     */
+    private ItemStack[] additions;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+
+        this.contents = new ItemStack[STORAGE_SIZE];
+
+        for (int slot = 0; slot < STORAGE_SIZE; slot += 2) {
+            contents[slot] = Fixtures.item(slot % 4, 1 + slot);
+        }
+
+        this.additions = new ItemStack[5];
+
+        for (int index = 0; index < additions.length; index++) {
+            additions[index] = Fixtures.item(index, 16);
+        }
+
+        this.humanEntities = new HumanEntity[players];
+
+        for (int index = 0; index < players; index++) {
+            humanEntities[index] = BukkitStubs.humanEntity();
+            humanEntities[index].getInventory().setStorageContents(contents);
+        }
+    }
+
+    @Benchmark
+    public HumanEntityCache storeAndRestore() {
+        HumanEntityCache cache = new HumanEntityCache();
+
+        for (HumanEntity humanEntity : humanEntities) {
+            cache.storeAndClear(humanEntity);
+        }
+
+        cache.restoreAndForgetAll();
+
+        return cache;
+    }
+
+    /**
+     * Adds items until the cached inventory of the first player is full. Adding changes the amounts of the cached item
+     * stacks, so the inventory is refilled with new item stacks first.
+     *
+     * @return the cache
+     */
+    @Benchmark
+    public HumanEntityCache addUntilFull() {
+        HumanEntity humanEntity = humanEntities[0];
+        ItemStack[] contents = new ItemStack[STORAGE_SIZE];
+
+        for (int slot = 0; slot < STORAGE_SIZE; slot++) {
+            if (this.contents[slot] != null) {
+                contents[slot] = this.contents[slot].clone();
+            }
+        }
+
+        humanEntity.getInventory().setStorageContents(contents);
+
+        HumanEntityCache cache = new HumanEntityCache();
+
+        cache.store(humanEntity);
+
+        int index = 0;
+
+        while (cache.add(humanEntity, additions[index % additions.length]) == 0) {
+            index++;
+        }
+
+        return cache;
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An inventory view over a stand-in top inventory and the player inventory of a stand-in human entity, used to create
+ * click events in benchmarks.
+ *
+ * @since 0.11.3
+ */
+public class StubInventoryView extends InventoryView {
+
+    /**
+     * The top inventory
+     */
+    @NotNull
+    private final Inventory topInventory;
+
+    /**
+     * The player viewing the inventory
+     */
+    @NotNull
+    private final HumanEntity player;
+
+    /**
+     * Creates a new inventory view.
+     *
+     * @param topInventory the top inventory
+     * @param player the player viewing the inventory
+     * @since 0.11.3
+     */
+    public StubInventoryView(@NotNull Inventory topInventory, @NotNull HumanEntity player) {
+        this.topInventory = topInventory;
+        this.player = player;
+    }
+
+    @NotNull
+    @Override
+    public Inventory getTopInventory() {
+        return topInventory;
+    }
+
+    @NotNull
+    @Override
+    public Inventory getBottomInventory() {
+        return player.getInventory();
+    }
+
+    @NotNull
+    @Override
+    public HumanEntity getPlayer() {
+        return player;
+    }
+
+    @NotNull
+    @Override
+    public InventoryType getType() {
+        return topInventory.getType();
+    }
+
+    @NotNull
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @NotNull
+    @Override
+    public String getOriginalTitle() {
+        return "";
+    }
+
+    @Override
+    public void setTitle(@NotNull String title) {
+        throw new UnsupportedOperationException("Titles of stand-in views cannot be changed");
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.stefvanschie.inventoryframework.benchmark.simulation;
+
+import com.github.stefvanschie.inventoryframework.benchmark.BukkitStubs;
+import com.github.stefvanschie.inventoryframework.benchmark.Fixtures;
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.GuiListener;
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.pane.PaginatedPane;
+import com.github.stefvanschie.inventoryframework.pane.StaticPane;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Simulates many players using guis at the same time, without a server. Virtual players are spread over a number of
+ * region threads, like players on a Folia server, and each take a stream of random opens, clicks, drags and closes.
+ * The gui is an event menu: a chest with a paginated pane of items and buttons that switch pages and update the gui
+ * for every viewer. All events are passed to a single {@link GuiListener}, as on a real server.
+ * <p>
+ * The simulation reports the throughput, the latency of every kind of action, the heap usage and every exception
+ * thrown, which makes it suitable both for capacity planning and for reproducing concurrency bugs. Run it with
+ * {@code java -cp benchmarks.jar com.github.stefvanschie.inventoryframework.benchmark.simulation.LoadSimulator};
+ * see {@link SimulationOptions} for the options. The process exits with status 1 if any exception was thrown.
+ *
+ * @since 0.11.3
+ */
+public final class LoadSimulator {
+
+    /**
+     * The time between two samples of the heap usage, in milliseconds
+     */
+    private static final long HEAP_SAMPLE_PERIOD = 100;
+
+    /**
+     * The longest time to wait for the regions to finish their queued work, in seconds
+     */
+    private static final long SHUTDOWN_TIMEOUT = 30;
+
+    /**
+     * The amount of rows of the menu
+     */
+    private static final int ROWS = 6;
+
+    /**
+     * The length of a chest
+     */
+    private static final int LENGTH = 9;
+
+    /**
+     * The options of the simulation
+     */
+    @NotNull
+    private final SimulationOptions options;
+
+    /**
+     * Creates a new simulator.
+     *
+     * @param options the options of the simulation
+     * @since 0.11.3
+     */
+    public LoadSimulator(@NotNull SimulationOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Parses the options from the command line, runs the simulation and prints its report.
+     *
+     * @param arguments the command line arguments
+     * @throws InterruptedException if interrupted while waiting for the simulation
+     * @since 0.11.3
+     */
+    public static void main(@NotNull String @NotNull [] arguments) throws InterruptedException {
+        SimulationOptions options;
+
+        try {
+            options = SimulationOptions.parse(arguments);
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.println(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        SimulationReport report = new LoadSimulator(options).run();
+
+        report.print(System.out, options);
+
+        System.exit(report.getErrorCount() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Runs the simulation and waits until it's done.
+     *
+     * @return the report of the simulation
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @NotNull
+    SimulationReport run() throws InterruptedException {
+        BukkitStubs.install();
+
+        SimulationReport report = new SimulationReport();
+        Region[] regions = new Region[options.getRegions()];
+
+        for (int index = 0; index < regions.length; index++) {
+            regions[index] = new Region(index, report);
+        }
+
+        //tasks scheduled from outside a region, like the first show of a shared gui, go to the first region
+        BukkitStubs.setScheduler(task -> {
+            Region region = Region.current();
+
+            (region == null ? regions[0] : region).execute(task);
+        });
+
+        GuiListener listener = new GuiListener(BukkitStubs.getPlugin());
+        ChestGui sharedMenu = options.isShared() ? createMenu() : null;
+        List<VirtualPlayer> players = new ArrayList<>(options.getPlayers());
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        for (int index = 0; index < options.getPlayers(); index++) {
+            players.add(new VirtualPlayer(BukkitStubs.humanEntity(), sharedMenu == null ? createMenu() : sharedMenu,
+                listener, regions[index % regions.length], new SplittableRandom(options.getSeed() + index), report,
+                running::get));
+        }
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        for (VirtualPlayer player : players) {
+            player.start();
+        }
+
+        sampleHeap(report, memory, options.getWarmup());
+        report.reset();
+
+        long start = System.nanoTime();
+
+        sampleHeap(report, memory, options.getDuration());
+
+        long elapsed = System.nanoTime() - start;
+
+        running.set(false);
+
+        for (Region region : regions) {
+            region.shutdown(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        BukkitStubs.setScheduler(null);
+        System.gc();
+
+        report.finish(elapsed, memory.getHeapMemoryUsage().getUsed());
+
+        return report;
+    }
+
+    /**
+     * Samples the heap usage until the given amount of seconds has passed.
+     *
+     * @param report the report to record into
+     * @param memory the memory bean to sample
+     * @param seconds the amount of seconds to sample for
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private static void sampleHeap(@NotNull SimulationReport report, @NotNull MemoryMXBean memory, int seconds)
+        throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        while (System.nanoTime() - end < 0) {
+            report.sampleHeap(memory.getHeapMemoryUsage().getUsed());
+
+            Thread.sleep(HEAP_SAMPLE_PERIOD);
+        }
+    }
+
+    /**
+     * Creates the event menu: five rows of paginated items, with buttons to go to the previous and next page below
+     * them. Switching pages updates the gui for all its viewers. Every click in the gui is cancelled.
+     *
+     * @return the menu
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    private static ChestGui createMenu() {
+        ChestGui gui = new ChestGui(ROWS, "Event menu", BukkitStubs.getPlugin());
+        PaginatedPane pages = Fixtures.paginatedPane(LENGTH, ROWS - 1);
+        StaticPane navigation = new StaticPane(0, ROWS - 1, LENGTH, 1);
+
+        navigation.addItem(new GuiItem(Fixtures.item(0, 1), event -> {
+            pages.setPage(Math.max(pages.getPage() - 1, 0));
+            gui.update();
+        }, BukkitStubs.getPlugin()), 0, 0);
+        navigation.addItem(new GuiItem(Fixtures.item(1, 1), event -> {
+            pages.setPage(Math.min(pages.getPage() + 1, pages.getPages() - 1));
+            gui.update();
+        }, BukkitStubs.getPlugin()), LENGTH - 1, 0);
+
+        gui.addPane(pages);
+        gui.addPane(navigation);
+        gui.setOnGlobalClick(event -> event.setCancelled(true));
+
+        return gui;
+    }
+}
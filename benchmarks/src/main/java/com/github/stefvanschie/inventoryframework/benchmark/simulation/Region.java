@@ -0,0 +1,106 @@
+package com.github.stefvanschie.inventoryframework.benchmark.simulation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simulated region, owning a single thread like a region of a Folia server. Everything a virtual player does runs on
+ * the thread of its region, as do tasks scheduled from that thread. Exceptions thrown by tasks are recorded in the
+ * report, rather than killing the thread.
+ *
+ * @since 0.11.3
+ */
+final class Region implements Executor {
+
+    /**
+     * The region owning the current thread
+     */
+    @NotNull
+    private static final ThreadLocal<Region> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The executor backing the thread of this region
+     */
+    @NotNull
+    private final ExecutorService executor;
+
+    /**
+     * The report to record exceptions in
+     */
+    @NotNull
+    private final SimulationReport report;
+
+    /**
+     * Creates a new region with its own thread.
+     *
+     * @param index the index of the region, used in the name of its thread
+     * @param report the report to record exceptions in
+     */
+    Region(int index, @NotNull SimulationReport report) {
+        this.report = report;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(() -> {
+                CURRENT.set(this);
+
+                runnable.run();
+            }, "Region Thread #" + index);
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the given task on the thread of this region, after the tasks already queued. Tasks passed after the region
+     * has been shut down are dropped.
+     *
+     * @param task the task
+     */
+    @Override
+    public void execute(@NotNull Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable throwable) {
+                    report.recordError(throwable);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            //the simulation is over
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the queued tasks to finish.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if all tasks finished, false if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean shutdown(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Gets the region owning the current thread, or null if the current thread isn't a region thread.
+     *
+     * @return the current region or null
+     */
+    @Nullable
+    @Contract(pure = true)
+    static Region current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.stefvanschie.inventoryframework.benchmark.simulation;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The options of a simulation, as parsed from the command line. Options are passed as {@code --name=value}; options
+ * that aren't passed keep their default value.
+ *
+ * @since 0.11.3
+ */
+public final class SimulationOptions {
+
+    /**
+     * The usage message listing all options
+     */
+    @NotNull
+    static final String USAGE = "Options:\n" +
+        "  --players=<n>   the amount of virtual players (default 100)\n" +
+        "  --regions=<n>   the amount of region threads (default 4)\n" +
+        "  --duration=<s>  the measured duration in seconds (default 10)\n" +
+        "  --warmup=<s>    the duration in seconds before measuring (default 2)\n" +
+        "  --seed=<n>      the seed for the click streams (default 0)\n" +
+        "  --shared=<bool> whether all players view the same gui, instead of one gui each (default true)";
+
+    /**
+     * The amount of virtual players
+     */
+    private int players = 100;
+
+    /**
+     * The amount of region threads
+     */
+    private int regions = 4;
+
+    /**
+     * The measured duration in seconds
+     */
+    private int duration = 10;
+
+    /**
+     * The duration in seconds before measuring
+     */
+    private int warmup = 2;
+
+    /**
+     * The seed for the click streams
+     */
+    private long seed;
+
+    /**
+     * Whether all players view the same gui
+     */
+    private boolean shared = true;
+
+    /**
+     * Parses the given command line arguments.
+     *
+     * @param arguments the arguments
+     * @return the options
+     * @throws IllegalArgumentException if an argument is unknown or has an invalid value
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static SimulationOptions parse(@NotNull String @NotNull [] arguments) {
+        SimulationOptions options = new SimulationOptions();
+
+        for (String argument : arguments) {
+            int separator = argument.indexOf('=');
+
+            if (!argument.startsWith("--") || separator == -1) {
+                throw new IllegalArgumentException("Invalid option: " + argument);
+            }
+
+            String name = argument.substring(2, separator);
+            String value = argument.substring(separator + 1);
+
+            try {
+                switch (name) {
+                    case "players":
+                        options.players = positive(name, Integer.parseInt(value));
+                        break;
+                    case "regions":
+                        options.regions = positive(name, Integer.parseInt(value));
+                        break;
+                    case "duration":
+                        options.duration = positive(name, Integer.parseInt(value));
+                        break;
+                    case "warmup":
+                        options.warmup = Math.max(Integer.parseInt(value), 0);
+                        break;
+                    case "seed":
+                        options.seed = Long.parseLong(value);
+                        break;
+                    case "shared":
+                        options.shared = Boolean.parseBoolean(value);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + name);
+                }
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value, exception);
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Gets the amount of virtual players.
+     *
+     * @return the amount of players
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the amount of region threads.
+     *
+     * @return the amount of regions
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int getRegions() {
+        return regions;
+    }
+
+    /**
+     * Gets the measured duration in seconds.
+     *
+     * @return the duration
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the duration in seconds before measuring.
+     *
+     * @return the warmup duration
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Gets the seed for the click streams.
+     *
+     * @return the seed
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets whether all players view the same gui, instead of one gui each.
+     *
+     * @return true if the gui is shared, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Checks that the value of an option is positive.
+     *
+     * @param name the name of the option
+     * @param value the value
+     * @return the value
+     * @throws IllegalArgumentException if the value isn't positive
+     */
+    @Contract(pure = true)
+    private static int positive(@NotNull String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+
+        return value;
+    }
+}
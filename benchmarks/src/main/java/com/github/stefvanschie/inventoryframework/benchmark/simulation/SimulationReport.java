@@ -0,0 +1,218 @@
+package com.github.stefvanschie.inventoryframework.benchmark.simulation;
+
+import com.github.stefvanschie.inventoryframework.metrics.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The results of a simulation: the latency of every action the virtual players took, the exceptions thrown and the
+ * heap usage. Everything can be recorded from multiple region threads at the same time.
+ *
+ * @since 0.11.3
+ */
+final class SimulationReport {
+
+    /**
+     * The amount of stack frames printed for the first occurrence of an exception
+     */
+    private static final int PRINTED_FRAMES = 8;
+
+    /**
+     * The latencies per action
+     */
+    @NotNull
+    private final Map<Action, LatencyHistogram> latencies = new EnumMap<>(Action.class);
+
+    /**
+     * The amount of exceptions thrown per exception class
+     */
+    @NotNull
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * The first exception thrown per exception class
+     */
+    @NotNull
+    private final Map<String, Throwable> firstErrors = new ConcurrentHashMap<>();
+
+    /**
+     * The highest heap usage sampled, in bytes
+     */
+    @NotNull
+    private final AtomicLong peakHeap = new AtomicLong();
+
+    /**
+     * The heap usage after the simulation and a garbage collection, in bytes
+     */
+    private long retainedHeap;
+
+    /**
+     * The measured duration in nanoseconds
+     */
+    private long elapsed;
+
+    /**
+     * Creates a new, empty report.
+     */
+    SimulationReport() {
+        for (Action action : Action.values()) {
+            latencies.put(action, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Records the latency of an action.
+     *
+     * @param action the action
+     * @param nanos the latency in nanoseconds
+     */
+    void record(@NotNull Action action, long nanos) {
+        latencies.get(action).record(nanos);
+    }
+
+    /**
+     * Records an exception thrown while simulating.
+     *
+     * @param throwable the exception
+     */
+    void recordError(@NotNull Throwable throwable) {
+        String type = throwable.getClass().getName();
+
+        errors.computeIfAbsent(type, key -> new LongAdder()).increment();
+        firstErrors.putIfAbsent(type, throwable);
+    }
+
+    /**
+     * Records a sample of the heap usage.
+     *
+     * @param bytes the used heap in bytes
+     */
+    void sampleHeap(long bytes) {
+        peakHeap.accumulateAndGet(bytes, Math::max);
+    }
+
+    /**
+     * Removes all latencies and the peak heap usage recorded so far, for example after warming up. Exceptions are
+     * kept, since those are bugs regardless of when they occurred.
+     */
+    void reset() {
+        for (LatencyHistogram histogram : latencies.values()) {
+            histogram.reset();
+        }
+
+        peakHeap.set(0);
+    }
+
+    /**
+     * Finishes the report.
+     *
+     * @param elapsed the measured duration in nanoseconds
+     * @param retainedHeap the heap usage after the simulation and a garbage collection, in bytes
+     */
+    void finish(long elapsed, long retainedHeap) {
+        this.elapsed = elapsed;
+        this.retainedHeap = retainedHeap;
+    }
+
+    /**
+     * Gets the total amount of exceptions thrown.
+     *
+     * @return the amount of exceptions
+     */
+    long getErrorCount() {
+        long count = 0;
+
+        for (LongAdder adder : errors.values()) {
+            count += adder.sum();
+        }
+
+        return count;
+    }
+
+    /**
+     * Prints this report.
+     *
+     * @param out the stream to print to
+     * @param options the options the simulation ran with
+     */
+    void print(@NotNull PrintStream out, @NotNull SimulationOptions options) {
+        long actions = 0;
+
+        for (LatencyHistogram histogram : latencies.values()) {
+            actions += histogram.getCount();
+        }
+
+        double seconds = elapsed / (double) TimeUnit.SECONDS.toNanos(1);
+
+        out.printf(Locale.ROOT, "Simulated %d players on %d region threads for %.1f s, %s%n", options.getPlayers(),
+            options.getRegions(), seconds, options.isShared() ? "sharing one gui" : "with a gui each");
+        out.printf(Locale.ROOT, "Throughput: %.0f actions/s%n%n", actions / seconds);
+        out.printf(Locale.ROOT, "%-8s %10s %10s %10s %10s %10s %10s%n", "Action", "Count", "Mean us", "p50 us",
+            "p90 us", "p99 us", "Max us");
+
+        for (Map.Entry<Action, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+
+            out.printf(Locale.ROOT, "%-8s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                entry.getKey().name().toLowerCase(Locale.ROOT), histogram.getCount(), histogram.getMean() / 1000,
+                histogram.getPercentile(50) / 1000.0, histogram.getPercentile(90) / 1000.0,
+                histogram.getPercentile(99) / 1000.0, histogram.getMax() / 1000.0);
+        }
+
+        out.printf(Locale.ROOT, "%nPeak heap: %.1f MB, retained after GC: %.1f MB%n", peakHeap.get() / 1048576.0,
+            retainedHeap / 1048576.0);
+
+        if (errors.isEmpty()) {
+            out.println("No exceptions were thrown");
+            return;
+        }
+
+        out.printf(Locale.ROOT, "%n%d exceptions were thrown:%n", getErrorCount());
+
+        for (Map.Entry<String, LongAdder> entry : errors.entrySet()) {
+            Throwable first = firstErrors.get(entry.getKey());
+
+            out.printf(Locale.ROOT, "  %dx %s%n", entry.getValue().sum(), first);
+
+            StackTraceElement[] stack = first.getStackTrace();
+
+            for (int index = 0; index < Math.min(stack.length, PRINTED_FRAMES); index++) {
+                out.println("      at " + stack[index]);
+            }
+        }
+    }
+
+    /**
+     * An action a virtual player can take
+     */
+    enum Action {
+
+        /**
+         * Opening the gui
+         */
+        OPEN,
+
+        /**
+         * Clicking a slot
+         */
+        CLICK,
+
+        /**
+         * Dragging items over one or more slots
+         */
+        DRAG,
+
+        /**
+         * Closing the gui
+         */
+        CLOSE
+    }
+}
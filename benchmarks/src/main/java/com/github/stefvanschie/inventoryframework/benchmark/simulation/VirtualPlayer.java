@@ -0,0 +1,237 @@
+package com.github.stefvanschie.inventoryframework.benchmark.simulation;
+
+import com.github.stefvanschie.inventoryframework.benchmark.Fixtures;
+import com.github.stefvanschie.inventoryframework.gui.GuiListener;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A player taking random actions in a gui, one action at a time on the thread of its region. The player opens the
+ * gui, clicks and drags in it for a while, closes it and opens it again. The events a server would fire for these
+ * actions are passed to the listener directly.
+ *
+ * @since 0.11.3
+ */
+final class VirtualPlayer implements Runnable {
+
+    /**
+     * The chance out of a hundred that an action is a click
+     */
+    private static final int CLICK_CHANCE = 85;
+
+    /**
+     * The chance out of a hundred that an action is a drag
+     */
+    private static final int DRAG_CHANCE = 10;
+
+    /**
+     * The amount of storage slots of a player inventory, which are part of the view below the gui
+     */
+    private static final int PLAYER_STORAGE_SLOTS = 36;
+
+    /**
+     * The most slots a drag spans
+     */
+    private static final int MAXIMUM_DRAG_SLOTS = 3;
+
+    /**
+     * The click types a player clicks with, picked at random
+     */
+    @NotNull
+    private static final ClickType @NotNull [] CLICK_TYPES = {ClickType.LEFT, ClickType.RIGHT, ClickType.SHIFT_LEFT};
+
+    /**
+     * The human entity representing this player
+     */
+    @NotNull
+    private final HumanEntity humanEntity;
+
+    /**
+     * The gui this player uses
+     */
+    @NotNull
+    private final Gui gui;
+
+    /**
+     * The listener to pass events to
+     */
+    @NotNull
+    private final GuiListener listener;
+
+    /**
+     * The region this player is in
+     */
+    @NotNull
+    private final Region region;
+
+    /**
+     * The source of the actions of this player
+     */
+    @NotNull
+    private final SplittableRandom random;
+
+    /**
+     * The report to record into
+     */
+    @NotNull
+    private final SimulationReport report;
+
+    /**
+     * Whether the simulation is still running
+     */
+    @NotNull
+    private final BooleanSupplier running;
+
+    /**
+     * Creates a new virtual player.
+     *
+     * @param humanEntity the human entity representing the player
+     * @param gui the gui the player uses
+     * @param listener the listener to pass events to
+     * @param region the region the player is in
+     * @param random the source of the actions of the player
+     * @param report the report to record into
+     * @param running whether the simulation is still running
+     */
+    VirtualPlayer(@NotNull HumanEntity humanEntity, @NotNull Gui gui, @NotNull GuiListener listener,
+                  @NotNull Region region, @NotNull SplittableRandom random, @NotNull SimulationReport report,
+                  @NotNull BooleanSupplier running) {
+        this.humanEntity = humanEntity;
+        this.gui = gui;
+        this.listener = listener;
+        this.region = region;
+        this.random = random;
+        this.report = report;
+        this.running = running;
+    }
+
+    /**
+     * Starts taking actions, on the thread of the region.
+     */
+    void start() {
+        region.execute(this);
+    }
+
+    /**
+     * Takes one action and queues the next one behind the work of the other players in the region.
+     */
+    @Override
+    public void run() {
+        if (!running.getAsBoolean()) {
+            return;
+        }
+
+        InventoryView view = humanEntity.getOpenInventory();
+
+        try {
+            if (view == null) {
+                open();
+            } else {
+                int roll = random.nextInt(100);
+
+                if (roll < CLICK_CHANCE) {
+                    click(view);
+                } else if (roll < CLICK_CHANCE + DRAG_CHANCE) {
+                    drag(view);
+                } else {
+                    close(view);
+                }
+            }
+        } catch (Throwable throwable) {
+            report.recordError(throwable);
+
+            //start over, rather than repeating the action that failed
+            humanEntity.closeInventory();
+        }
+
+        region.execute(this);
+    }
+
+    /**
+     * Shows the gui to this player.
+     */
+    private void open() {
+        long start = System.nanoTime();
+
+        gui.show(humanEntity);
+
+        InventoryView view = humanEntity.getOpenInventory();
+
+        if (view != null) {
+            listener.onInventoryOpen(new InventoryOpenEvent(view));
+        }
+
+        report.record(SimulationReport.Action.OPEN, System.nanoTime() - start);
+    }
+
+    /**
+     * Clicks a random slot in the gui or in the player's own inventory.
+     *
+     * @param view the open view
+     */
+    private void click(@NotNull InventoryView view) {
+        int rawSlot = random.nextInt(view.getTopInventory().getSize() + PLAYER_STORAGE_SLOTS);
+        ClickType clickType = CLICK_TYPES[random.nextInt(CLICK_TYPES.length)];
+        InventoryAction action = clickType.isShiftClick() ? InventoryAction.MOVE_TO_OTHER_INVENTORY :
+            InventoryAction.PICKUP_ALL;
+        InventoryClickEvent event = new InventoryClickEvent(view, view.getSlotType(rawSlot), rawSlot, clickType,
+            action);
+
+        long start = System.nanoTime();
+
+        listener.onInventoryClick(event);
+
+        report.record(SimulationReport.Action.CLICK, System.nanoTime() - start);
+    }
+
+    /**
+     * Drags an item over one or more random slots of the gui.
+     *
+     * @param view the open view
+     */
+    private void drag(@NotNull InventoryView view) {
+        int slots = 1 + random.nextInt(MAXIMUM_DRAG_SLOTS);
+        Map<Integer, ItemStack> newItems = new HashMap<>();
+
+        while (newItems.size() < slots) {
+            newItems.put(random.nextInt(view.getTopInventory().getSize()), Fixtures.item(0, 1));
+        }
+
+        InventoryDragEvent event = new InventoryDragEvent(view, null, Fixtures.item(0, slots), random.nextBoolean(),
+            newItems);
+
+        long start = System.nanoTime();
+
+        listener.onInventoryDrag(event);
+
+        report.record(SimulationReport.Action.DRAG, System.nanoTime() - start);
+    }
+
+    /**
+     * Closes the gui.
+     *
+     * @param view the open view
+     */
+    private void close(@NotNull InventoryView view) {
+        long start = System.nanoTime();
+
+        listener.onInventoryClose(new InventoryCloseEvent(view));
+        humanEntity.closeInventory();
+
+        report.record(SimulationReport.Action.CLOSE, System.nanoTime() - start);
+    }
+}
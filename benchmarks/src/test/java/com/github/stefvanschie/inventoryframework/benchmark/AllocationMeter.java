@@ -0,0 +1,74 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures how many bytes an operation allocates on the current thread, using the allocation counter of the JVM. The
+ * operation is run enough times beforehand for the JIT compiler to have optimized it, so the measurement reflects a
+ * running server rather than the first few calls.
+ */
+final class AllocationMeter {
+
+    /**
+     * The amount of times an operation is run before measuring
+     */
+    private static final int WARMUP_OPERATIONS = 20_000;
+
+    /**
+     * The amount of times an operation is run while measuring
+     */
+    private static final int MEASURED_OPERATIONS = 5_000;
+
+    /**
+     * The thread bean providing the allocation counter
+     */
+    @NotNull
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+        //private constructor to prevent construction
+    }
+
+    /**
+     * Gets whether this JVM can count allocated bytes per thread.
+     *
+     * @return true if allocations can be measured, false otherwise
+     */
+    static boolean isSupported() {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        return THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Measures the average amount of bytes allocated by the given operation. The operation is passed the index of the
+     * invocation, so it can cycle through its inputs.
+     *
+     * @param operation the operation
+     * @return the average amount of bytes allocated per invocation
+     */
+    static long bytesPerOperation(@NotNull IntConsumer operation) {
+        for (int index = 0; index < WARMUP_OPERATIONS; index++) {
+            operation.accept(index);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+
+        for (int index = 0; index < MEASURED_OPERATIONS; index++) {
+            operation.accept(index);
+        }
+
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+
+        return (after - before) / MEASURED_OPERATIONS;
+    }
+}
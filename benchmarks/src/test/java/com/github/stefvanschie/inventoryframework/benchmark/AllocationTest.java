@@ -0,0 +1,197 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.InventoryComponent;
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.pane.Pane;
+import com.github.stefvanschie.inventoryframework.pane.StaticPane;
+import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
+import org.bukkit.NamespacedKey;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the allocation rate of rendering and clicking. {@link BukkitStubs} allocate on every call, so each operation
+ * is measured against a baseline making the same Bukkit calls without IF, and only the difference is checked. The
+ * ceilings are the allocations of IF itself per fixture plus a small margin, so a single extra object per slot or per
+ * click fails them.
+ */
+public class AllocationTest {
+
+    private static final int LENGTH = 9;
+
+    private static final int HEIGHT = 6;
+
+    private static final long STATIC_PANE_BYTES_PER_SLOT = 160;
+
+    private static final long OUTLINE_PANE_BYTES_PER_SLOT = 176;
+
+    private static final long PATTERN_PANE_BYTES_PER_SLOT = 160;
+
+    private static final long MASONRY_PANE_BYTES_PER_SLOT = 256;
+
+    private static final long PAGINATED_PANE_BYTES_PER_SLOT = 160;
+
+    private static final long EMPTY_DISPLAY_BYTES = 96;
+
+    private static final long CLICK_BYTES = 160;
+
+    private static final UUID ID = UUID.randomUUID();
+
+    private static NamespacedKey key;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "Allocated bytes can't be measured on this JVM");
+
+        BukkitStubs.install();
+
+        key = Fixtures.guiItem(0).getKey();
+    }
+
+    @Test
+    void testDisplayStaticPane() {
+        assertDisplayAllocation(Fixtures.staticPane(LENGTH, HEIGHT), STATIC_PANE_BYTES_PER_SLOT);
+    }
+
+    @Test
+    void testDisplayOutlinePane() {
+        assertDisplayAllocation(Fixtures.outlinePane(LENGTH, HEIGHT), OUTLINE_PANE_BYTES_PER_SLOT);
+    }
+
+    @Test
+    void testDisplayPatternPane() {
+        assertDisplayAllocation(Fixtures.patternPane(LENGTH, HEIGHT), PATTERN_PANE_BYTES_PER_SLOT);
+    }
+
+    @Test
+    void testDisplayMasonryPane() {
+        assertDisplayAllocation(Fixtures.masonryPane(LENGTH, HEIGHT), MASONRY_PANE_BYTES_PER_SLOT);
+    }
+
+    @Test
+    void testDisplayPaginatedPane() {
+        assertDisplayAllocation(Fixtures.paginatedPane(LENGTH, HEIGHT), PAGINATED_PANE_BYTES_PER_SLOT);
+    }
+
+    @Test
+    void testDisplayEmpty() {
+        InventoryComponent component = new InventoryComponent(LENGTH, HEIGHT);
+        Inventory inventory = BukkitStubs.inventory(LENGTH * HEIGHT);
+
+        long bytes = AllocationMeter.bytesPerOperation(index -> component.display(inventory, 0)) -
+            AllocationMeter.bytesPerOperation(index -> stubDisplay(component, inventory));
+
+        assertTrue(bytes <= EMPTY_DISPLAY_BYTES, "Displaying an empty component allocated " + bytes + " bytes");
+    }
+
+    @Test
+    void testClick() {
+        ChestGui gui = new ChestGui(HEIGHT, "Allocation", BukkitStubs.getPlugin());
+        InventoryComponent component = new InventoryComponent(LENGTH, HEIGHT);
+        StaticPane[] layers = new StaticPane[3];
+
+        for (int index = 0; index < layers.length; index++) {
+            layers[index] = new StaticPane(LENGTH, HEIGHT);
+
+            component.addPane(layers[index]);
+        }
+
+        for (int index = 0; index < LENGTH * HEIGHT; index++) {
+            layers[index % layers.length].addItem(Fixtures.guiItem(index), index % LENGTH, index / LENGTH);
+        }
+
+        Inventory inventory = BukkitStubs.inventory(LENGTH * HEIGHT);
+
+        component.display(inventory, 0);
+
+        InventoryView view = new StubInventoryView(inventory, BukkitStubs.humanEntity());
+        InventoryClickEvent[] events = new InventoryClickEvent[LENGTH * HEIGHT];
+
+        for (int index = 0; index < events.length; index++) {
+            events[index] = new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, index, ClickType.LEFT,
+                InventoryAction.PICKUP_ALL);
+        }
+
+        long bytes = AllocationMeter.bytesPerOperation(index -> {
+            int slot = index % events.length;
+
+            component.click(gui, events[slot], slot);
+        }) - AllocationMeter.bytesPerOperation(index -> stubClick(layers, events[index % events.length]));
+
+        assertTrue(bytes <= CLICK_BYTES, "Clicking allocated " + bytes + " bytes per click");
+    }
+
+    private void assertDisplayAllocation(@NotNull Pane pane, long bytesPerSlot) {
+        InventoryComponent component = new InventoryComponent(LENGTH, HEIGHT);
+        Inventory inventory = BukkitStubs.inventory(LENGTH * HEIGHT);
+
+        component.addPane(pane);
+
+        long bytes = AllocationMeter.bytesPerOperation(index -> component.display(inventory, 0)) -
+            AllocationMeter.bytesPerOperation(index -> stubDisplay(component, inventory));
+        long ceiling = bytesPerSlot * component.getSize();
+
+        assertTrue(bytes <= ceiling, "Displaying a " + pane.getClass().getSimpleName() + " allocated " + bytes +
+            " bytes, more than " + ceiling);
+    }
+
+    /**
+     * Makes the Bukkit calls that displaying the component makes, based on the items it displayed last: every item is
+     * cloned, its UUID is written three times (by the copied gui item, by {@link GuiItem#copy()} and by the component)
+     * and it's placed in the inventory.
+     */
+    private static void stubDisplay(@NotNull InventoryComponent component, @NotNull Inventory inventory) {
+        for (int x = 0; x < component.getLength(); x++) {
+            for (int y = 0; y < component.getHeight(); y++) {
+                ItemStack item = component.getItem(x, y);
+
+                if (item != null) {
+                    item = item.clone();
+
+                    for (int write = 0; write < 3; write++) {
+                        ItemMeta meta = item.getItemMeta();
+
+                        meta.getPersistentDataContainer().set(key, UUIDTagType.INSTANCE, ID);
+                        item.setItemMeta(meta);
+                    }
+                }
+
+                inventory.setItem(y * component.getLength() + x, item);
+            }
+        }
+    }
+
+    /**
+     * Makes the Bukkit calls that clicking the layers makes: from the top layer down, the clicked item is looked up and
+     * its item meta is compared against the items of the layer, until the item is found.
+     */
+    private static void stubClick(@NotNull StaticPane @NotNull [] layers, @NotNull InventoryClickEvent event) {
+        for (int index = layers.length - 1; index >= 0; index--) {
+            ItemStack item = event.getCurrentItem();
+
+            for (GuiItem guiItem : layers[index].getItems()) {
+                ItemMeta meta = item.getItemMeta();
+
+                if (guiItem.getUUID().equals(meta.getPersistentDataContainer().get(guiItem.getKey(),
+                    UUIDTagType.INSTANCE))) {
+                    return;
+                }
+            }
+        }
+    }
+}
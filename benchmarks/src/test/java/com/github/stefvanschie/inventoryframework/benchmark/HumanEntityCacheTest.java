@@ -0,0 +1,180 @@
+package com.github.stefvanschie.inventoryframework.benchmark;
+
+import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that adding items to a cached inventory puts them in the same slots as adding them slot by slot, which is
+ * how the cache used to add them before partial stacks were indexed.
+ */
+public class HumanEntityCacheTest {
+
+    private static final int STORAGE_SIZE = 36;
+
+    @BeforeAll
+    static void setUp() {
+        BukkitStubs.install();
+    }
+
+    @Test
+    void testMergesBeforeFirstEmptySlot() {
+        HumanEntity humanEntity = humanEntity(stone(60), null, stone(10));
+        HumanEntityCache cache = new HumanEntityCache();
+
+        cache.store(humanEntity);
+
+        assertEquals(0, cache.add(humanEntity, stone(10)));
+
+        ItemStack[] contents = restore(cache, humanEntity);
+
+        assertEquals(64, contents[0].getAmount());
+        assertEquals(6, contents[1].getAmount());
+        assertEquals(10, contents[2].getAmount());
+
+        cache.store(humanEntity);
+
+        //the empty slot is filled now, so the stack after it is merged into as well
+        assertEquals(0, cache.add(humanEntity, stone(60)));
+
+        contents = restore(cache, humanEntity);
+
+        assertEquals(64, contents[0].getAmount());
+        assertEquals(64, contents[1].getAmount());
+        assertEquals(12, contents[2].getAmount());
+        assertNull(contents[3]);
+    }
+
+    @Test
+    void testFull() {
+        ItemStack[] storage = new ItemStack[STORAGE_SIZE];
+
+        for (int slot = 0; slot < STORAGE_SIZE; slot++) {
+            storage[slot] = new ItemStack(Material.DIRT, 64);
+        }
+
+        storage[5] = stone(60);
+
+        HumanEntity humanEntity = humanEntity(storage);
+        HumanEntityCache cache = new HumanEntityCache();
+
+        cache.store(humanEntity);
+
+        assertEquals(6, cache.add(humanEntity, stone(10)));
+        assertEquals(3, cache.add(humanEntity, new ItemStack(Material.DIAMOND, 3)));
+
+        ItemStack[] contents = restore(cache, humanEntity);
+
+        assertEquals(64, contents[5].getAmount());
+
+        for (ItemStack item : contents) {
+            assertNotEquals(Material.DIAMOND, item.getType());
+        }
+    }
+
+    @Test
+    void testFullStacksLeaveIndex() {
+        CountingItemStack partial = new CountingItemStack(Material.STONE, 63);
+        HumanEntity humanEntity = humanEntity(partial);
+        HumanEntityCache cache = new HumanEntityCache();
+
+        cache.store(humanEntity);
+
+        assertEquals(0, cache.add(humanEntity, stone(1)));
+        assertEquals(1, partial.comparisons);
+
+        assertEquals(0, cache.add(humanEntity, stone(1)));
+        assertEquals(1, partial.comparisons);
+
+        ItemStack[] contents = restore(cache, humanEntity);
+
+        assertEquals(64, contents[0].getAmount());
+        assertEquals(1, contents[1].getAmount());
+    }
+
+    @Test
+    void testDissimilarStacks() {
+        ItemStack tagged = tagged(stone(10));
+        HumanEntity humanEntity = humanEntity(tagged, stone(10));
+        HumanEntityCache cache = new HumanEntityCache();
+
+        cache.store(humanEntity);
+
+        assertEquals(0, cache.add(humanEntity, stone(5)));
+        assertEquals(0, cache.add(humanEntity, tagged(stone(60))));
+
+        ItemStack[] contents = restore(cache, humanEntity);
+
+        assertEquals(64, contents[0].getAmount());
+        assertEquals(15, contents[1].getAmount());
+        assertTrue(contents[2].isSimilar(tagged));
+        assertEquals(6, contents[2].getAmount());
+    }
+
+    @NotNull
+    private static HumanEntity humanEntity(@Nullable ItemStack @NotNull ... items) {
+        ItemStack[] storage = new ItemStack[STORAGE_SIZE];
+
+        System.arraycopy(items, 0, storage, 0, items.length);
+
+        HumanEntity humanEntity = BukkitStubs.humanEntity();
+
+        humanEntity.getInventory().setStorageContents(storage);
+
+        return humanEntity;
+    }
+
+    /**
+     * Restores the cached inventory of the specified human entity and returns it.
+     */
+    @Nullable
+    private static ItemStack @NotNull [] restore(@NotNull HumanEntityCache cache, @NotNull HumanEntity humanEntity) {
+        cache.restoreAndForget(humanEntity);
+
+        return humanEntity.getInventory().getStorageContents();
+    }
+
+    @NotNull
+    private static ItemStack stone(int amount) {
+        return new ItemStack(Material.STONE, amount);
+    }
+
+    @NotNull
+    private static ItemStack tagged(@NotNull ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+
+        meta.getPersistentDataContainer().set(new NamespacedKey("if-tests", "tag"), PersistentDataType.STRING, "tag");
+        item.setItemMeta(meta);
+
+        return item;
+    }
+
+    /**
+     * An item stack counting how often it's compared to other item stacks
+     */
+    private static final class CountingItemStack extends ItemStack {
+
+        private int comparisons;
+
+        private CountingItemStack(@NotNull Material type, int amount) {
+            super(type, amount);
+        }
+
+        @Override
+        public boolean isSimilar(@Nullable ItemStack stack) {
+            comparisons++;
+
+            return super.isSimilar(stack);
+        }
+    }
+}
@@ -45,6 +45,13 @@ import java.util.Map;
  */
 public class MerchantInventoryImpl extends MerchantInventory {
 
+    /**
+     * The converted trades, or null if the trades have to be converted again. The offers are never modified after
+     * they have been sent, so packets that still have to be written aren't affected by later changes.
+     */
+    @Nullable
+    private volatile MerchantRecipeList offers;
+
     @NotNull
     @Contract(pure = true)
     @Override
@@ -89,47 +96,91 @@ public class MerchantInventoryImpl extends MerchantInventory {
     public void sendMerchantOffers(@NotNull Player player,
                                    @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades,
                                    int level, int experience) {
-        MerchantRecipeList offers = new MerchantRecipeList();
+        MerchantRecipeList offers = this.offers;
 
-        for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
-            MerchantRecipe recipe = entry.getKey();
-            List<ItemStack> ingredients = recipe.getIngredients();
+        if (offers == null) {
+            offers = new MerchantRecipeList();
 
-            if (ingredients.size() < 1) {
-                throw new IllegalStateException("Merchant recipe has no ingredients");
+            for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
+                offers.add(toMerchantOffer(entry));
             }
 
-            ItemStack itemA = ingredients.get(0);
-            ItemStack itemB = null;
+            this.offers = offers;
+        }
+
+        EntityPlayer entityPlayer = getEntityPlayer(player);
 
-            if (ingredients.size() >= 2) {
-                itemB = ingredients.get(1);
-            }
+        entityPlayer.openTrade(getWindowId(entityPlayer), offers, level, experience, true, false);
+    }
 
-            net.minecraft.server.v1_16_R1.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
-            net.minecraft.server.v1_16_R1.ItemStack nmsItemB = net.minecraft.server.v1_16_R1.ItemStack.b;
-            net.minecraft.server.v1_16_R1.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
+    @Override
+    public void clearMerchantOffers() {
+        this.offers = null;
+    }
 
-            if (itemB != null) {
-                nmsItemB = CraftItemStack.asNMSCopy(itemB);
-            }
+    @Override
+    public void updateMerchantOffer(int index,
+                                    @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        MerchantRecipeList offers = this.offers;
+
+        if (offers == null) {
+            return;
+        }
 
-            int uses = recipe.getUses();
-            int maxUses = recipe.getMaxUses();
-            int exp = recipe.getVillagerExperience();
-            float multiplier = recipe.getPriceMultiplier();
+        MerchantRecipeList updatedOffers = new MerchantRecipeList();
 
-            net.minecraft.server.v1_16_R1.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R1.MerchantRecipe(
-                    nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
-            );
-            merchantOffer.setSpecialPrice(entry.getValue());
+        updatedOffers.addAll(offers);
+        updatedOffers.set(index, toMerchantOffer(trade));
 
-            offers.add(merchantOffer);
+        this.offers = updatedOffers;
+    }
+
+    /**
+     * Converts a trade to a merchant offer.
+     *
+     * @param entry the trade with its price difference
+     * @return the merchant offer
+     * @throws IllegalStateException if the trade's recipe has no ingredients
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private net.minecraft.server.v1_16_R1.MerchantRecipe toMerchantOffer(
+            @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> entry
+    ) {
+        MerchantRecipe recipe = entry.getKey();
+        List<ItemStack> ingredients = recipe.getIngredients();
+
+        if (ingredients.size() < 1) {
+            throw new IllegalStateException("Merchant recipe has no ingredients");
         }
 
-        EntityPlayer entityPlayer = getEntityPlayer(player);
+        ItemStack itemA = ingredients.get(0);
+        ItemStack itemB = null;
 
-        entityPlayer.openTrade(getWindowId(entityPlayer), offers, level, experience, true, false);
+        if (ingredients.size() >= 2) {
+            itemB = ingredients.get(1);
+        }
+
+        net.minecraft.server.v1_16_R1.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
+        net.minecraft.server.v1_16_R1.ItemStack nmsItemB = net.minecraft.server.v1_16_R1.ItemStack.b;
+        net.minecraft.server.v1_16_R1.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
+
+        if (itemB != null) {
+            nmsItemB = CraftItemStack.asNMSCopy(itemB);
+        }
+
+        int uses = recipe.getUses();
+        int maxUses = recipe.getMaxUses();
+        int exp = recipe.getVillagerExperience();
+        float multiplier = recipe.getPriceMultiplier();
+
+        net.minecraft.server.v1_16_R1.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R1.MerchantRecipe(
+                nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
+        );
+        merchantOffer.setSpecialPrice(entry.getValue());
+
+        return merchantOffer;
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_16_1;
+
+import com.github.stefvanschie.inventoryframework.abstraction.AnvilInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.BeaconInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.CartographyTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.EnchantingTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.GrindstoneInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.MerchantInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.NmsAdapter;
+import com.github.stefvanschie.inventoryframework.abstraction.SmithingTableInventory;
+import com.github.stefvanschie.inventoryframework.abstraction.StonecutterInventory;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Internal adapter for 1.16.1
+ *
+ * @since 0.11.3
+ */
+public class NmsAdapterImpl extends NmsAdapter {
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public String getVersion() {
+        return "V1_16_1";
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public AnvilInventory newAnvilInventory() {
+        return new AnvilInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public BeaconInventory newBeaconInventory() {
+        return new BeaconInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public CartographyTableInventory newCartographyTableInventory() {
+        return new CartographyTableInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public EnchantingTableInventory newEnchantingTableInventory() {
+        return new EnchantingTableInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public GrindstoneInventory newGrindstoneInventory() {
+        return new GrindstoneInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public MerchantInventory newMerchantInventory() {
+        return new MerchantInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public SmithingTableInventory newLegacySmithingTableInventory() {
+        return new SmithingTableInventoryImpl();
+    }
+
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    @Override
+    public StonecutterInventory newStonecutterInventory() {
+        return new StonecutterInventoryImpl();
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_17_0.util;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.BoundedCache;
 import com.github.stefvanschie.inventoryframework.adventuresupport.ComponentHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
@@ -16,13 +17,25 @@ import java.util.Objects;
  * @since 0.10.0
  */
 public final class TextHolderUtil {
+
+    /**
+     * The maximum amount of converted Adventure components to keep
+     */
+    private static final int CACHE_CAPACITY = 256;
+
+    /**
+     * The converted Adventure components, so showing the same title repeatedly skips the JSON round trip
+     */
+    @NotNull
+    private static final BoundedCache<ComponentHolder, Component> COMPONENT_CACHE = new BoundedCache<>(CACHE_CAPACITY);
     
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
-     * Converts the specified value to a vanilla component.
+     * Converts the specified value to a vanilla component. Conversions of Adventure components are cached, so the
+     * returned component may be shared between calls and should not be modified.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
@@ -34,7 +47,7 @@ public final class TextHolderUtil {
         if (holder instanceof StringHolder) {
             return toComponent((StringHolder) holder);
         } else {
-            return toComponent((ComponentHolder) holder);
+            return COMPONENT_CACHE.get((ComponentHolder) holder, TextHolderUtil::toComponent);
         }
     }
     
@@ -0,0 +1,274 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_21_6_8;
+
+import com.github.stefvanschie.inventoryframework.abstraction.ClickInterceptor;
+import com.github.stefvanschie.inventoryframework.abstraction.ContainerClickHandler;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import net.minecraft.network.Connection;
+import net.minecraft.network.protocol.game.ServerboundContainerClickPacket;
+import net.minecraft.server.network.ServerCommonPacketListenerImpl;
+import org.bukkit.craftbukkit.v1_21_R5.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_21_R5.inventory.CraftInventoryView;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Internal click interceptor for 1.21.6 - 1.21.8
+ *
+ * @since 0.11.3
+ */
+public class ClickInterceptorImpl extends ClickInterceptor {
+
+    /**
+     * The name of the handler in the channel pipeline of a player
+     */
+    @NotNull
+    private static final String HANDLER_NAME = "inventoryframework_click_interceptor";
+
+    /**
+     * The name of the handler passing packets to the packet listener of a player, which our handler is placed before
+     */
+    @NotNull
+    private static final String PACKET_HANDLER_NAME = "packet_handler";
+
+    /**
+     * The field holding the connection of a packet listener. This field isn't public on Spigot, and its name differs
+     * between the mappings, so it's looked up by its type.
+     */
+    @NotNull
+    private static final Field CONNECTION_FIELD = findConnectionField();
+
+    @Override
+    public void inject(@NotNull Player player, @NotNull ContainerClickHandler handler) {
+        Channel channel = getChannel(player);
+
+        channel.eventLoop().execute(() -> {
+            if (!channel.isOpen() || channel.pipeline().get(HANDLER_NAME) != null) {
+                return;
+            }
+
+            channel.pipeline().addBefore(PACKET_HANDLER_NAME, HANDLER_NAME, new ClickHandler(player, handler));
+        });
+    }
+
+    @Override
+    public void eject(@NotNull Player player) {
+        Channel channel = getChannel(player);
+
+        channel.eventLoop().execute(() -> {
+            if (channel.pipeline().get(HANDLER_NAME) != null) {
+                channel.pipeline().remove(HANDLER_NAME);
+            }
+        });
+    }
+
+    @Contract(pure = true)
+    @Override
+    public int getContainerId(@NotNull InventoryView view) {
+        if (!(view instanceof CraftInventoryView<?, ?>)) {
+            return -1;
+        }
+
+        return ((CraftInventoryView<?, ?>) view).getHandle().containerId;
+    }
+
+    /**
+     * Gets the network channel of the specified player.
+     *
+     * @param player the player
+     * @return the channel
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Channel getChannel(@NotNull Player player) {
+        try {
+            return ((Connection) CONNECTION_FIELD.get(((CraftPlayer) player).getHandle().connection)).channel;
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Unable to access the connection of " + player.getName(), exception);
+        }
+    }
+
+    /**
+     * Finds the field holding the connection of a packet listener.
+     *
+     * @return the field
+     * @throws IllegalStateException if there is no such field
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Field findConnectionField() {
+        for (Field field : ServerCommonPacketListenerImpl.class.getDeclaredFields()) {
+            if (field.getType() == Connection.class) {
+                field.setAccessible(true);
+
+                return field;
+            }
+        }
+
+        throw new IllegalStateException("Unable to find the connection of packet listeners");
+    }
+
+    /**
+     * Converts a click from a packet to a Bukkit click type. Returns null for clicks that aren't on a single slot,
+     * like drags and double clicks.
+     *
+     * @param clickType the type of click in the packet
+     * @param button the button in the packet
+     * @return the click type or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    private static ClickType toClickType(@NotNull net.minecraft.world.inventory.ClickType clickType, int button) {
+        switch (clickType) {
+            case PICKUP:
+                return button == 0 ? ClickType.LEFT : button == 1 ? ClickType.RIGHT : null;
+            case QUICK_MOVE:
+                return button == 0 ? ClickType.SHIFT_LEFT : button == 1 ? ClickType.SHIFT_RIGHT : null;
+            case SWAP:
+                if (button >= 0 && button < 9) {
+                    return ClickType.NUMBER_KEY;
+                }
+
+                return button == 40 ? ClickType.SWAP_OFFHAND : null;
+            case CLONE:
+                return ClickType.MIDDLE;
+            case THROW:
+                return button == 0 ? ClickType.DROP : button == 1 ? ClickType.CONTROL_DROP : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Passes container clicks of a single player to a handler. While the handler decides on a click, every packet the
+     * player sends after it is held back, so the server receives the packets it's passed in the order they were sent.
+     * All methods are called on the event loop of the channel.
+     *
+     * @since 0.11.3
+     */
+    private static final class ClickHandler extends ChannelInboundHandlerAdapter {
+
+        /**
+         * The player whose clicks are intercepted
+         */
+        @NotNull
+        private final Player player;
+
+        /**
+         * The handler deciding on the clicks
+         */
+        @NotNull
+        private final ContainerClickHandler handler;
+
+        /**
+         * The packets held back while the handler decides on a click
+         */
+        @NotNull
+        private final Queue<Object> heldBack = new ArrayDeque<>();
+
+        /**
+         * Whether the handler is deciding on a click
+         */
+        private boolean deciding;
+
+        /**
+         * Creates a new click handler.
+         *
+         * @param player the player whose clicks are intercepted
+         * @param handler the handler deciding on the clicks
+         * @since 0.11.3
+         */
+        private ClickHandler(@NotNull Player player, @NotNull ContainerClickHandler handler) {
+            this.player = player;
+            this.handler = handler;
+        }
+
+        @Override
+        public void channelRead(@NotNull ChannelHandlerContext context, @NotNull Object message) {
+            if (this.deciding) {
+                this.heldBack.add(message);
+                return;
+            }
+
+            read(context, message);
+        }
+
+        @Override
+        public void handlerRemoved(@NotNull ChannelHandlerContext context) {
+            this.deciding = false;
+
+            while (!this.heldBack.isEmpty()) {
+                context.fireChannelRead(this.heldBack.poll());
+            }
+        }
+
+        /**
+         * Passes the specified packet to the handler if it's a click on a slot, or on to the server otherwise.
+         *
+         * @param context the context of this handler
+         * @param message the packet
+         * @since 0.11.3
+         */
+        private void read(@NotNull ChannelHandlerContext context, @NotNull Object message) {
+            if (!(message instanceof ServerboundContainerClickPacket)) {
+                context.fireChannelRead(message);
+                return;
+            }
+
+            ServerboundContainerClickPacket packet = (ServerboundContainerClickPacket) message;
+            int button = packet.buttonNum();
+            ClickType clickType = toClickType(packet.clickType(), button);
+            CompletableFuture<Boolean> decision = null;
+
+            if (clickType != null && packet.slotNum() >= 0) {
+                int hotbarButton = clickType == ClickType.NUMBER_KEY ? button : -1;
+
+                decision = this.handler.handle(this.player, packet.containerId(), packet.slotNum(), clickType,
+                    hotbarButton);
+            }
+
+            if (decision == null) {
+                context.fireChannelRead(message);
+                return;
+            }
+
+            this.deciding = true;
+
+            decision.whenComplete((drop, throwable) -> context.executor().execute(() ->
+                decide(context, message, throwable == null && Boolean.TRUE.equals(drop))));
+        }
+
+        /**
+         * Finishes the decision on a click, then handles the packets held back while deciding.
+         *
+         * @param context the context of this handler
+         * @param message the clicking packet
+         * @param drop whether to drop the packet, instead of passing it on to the server
+         * @since 0.11.3
+         */
+        private void decide(@NotNull ChannelHandlerContext context, @NotNull Object message, boolean drop) {
+            this.deciding = false;
+
+            if (!drop) {
+                context.fireChannelRead(message);
+            }
+
+            while (!this.deciding && !this.heldBack.isEmpty()) {
+                read(context, this.heldBack.poll());
+            }
+        }
+    }
+}
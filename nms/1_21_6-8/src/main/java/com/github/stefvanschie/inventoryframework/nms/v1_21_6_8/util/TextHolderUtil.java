@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.util;
 
+import com.github.stefvanschie.inventoryframework.abstraction.util.BoundedCache;
 import com.github.stefvanschie.inventoryframework.adventuresupport.ComponentHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
@@ -22,13 +23,38 @@ import java.util.stream.Stream;
  * @since 0.11.1
  */
 public final class TextHolderUtil {
+
+    /**
+     * The maximum amount of converted Adventure components to keep
+     */
+    private static final int CACHE_CAPACITY = 256;
+
+    /**
+     * The converted Adventure components, so showing the same title repeatedly skips the JSON round trip
+     */
+    @NotNull
+    private static final BoundedCache<ComponentHolder, Component> COMPONENT_CACHE = new BoundedCache<>(CACHE_CAPACITY);
+
+    /**
+     * The registry lookup used for deserializing components; this is empty, so it can be shared
+     */
+    @NotNull
+    private static final HolderLookup.Provider PROVIDER = HolderLookup.Provider.create(Stream.empty());
+
+    /**
+     * The serialization context used for deserializing components
+     */
+    @NotNull
+    private static final RegistryOps<? super JsonElement> SERIALIZATION_CONTEXT =
+        PROVIDER.createSerializationContext(JsonOps.INSTANCE);
     
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
-     * Converts the specified value to a vanilla component.
+     * Converts the specified value to a vanilla component. Conversions of Adventure components are cached, so the
+     * returned component may be shared between calls and should not be modified.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
@@ -40,7 +66,7 @@ public final class TextHolderUtil {
         if (holder instanceof StringHolder) {
             return toComponent((StringHolder) holder);
         } else {
-            return toComponent((ComponentHolder) holder);
+            return COMPONENT_CACHE.get((ComponentHolder) holder, TextHolderUtil::toComponent);
         }
     }
     
@@ -68,9 +94,7 @@ public final class TextHolderUtil {
     @Contract(pure = true)
     private static Component toComponent(@NotNull ComponentHolder holder) {
         Codec<? extends Component> codec = ComponentSerialization.CODEC;
-        HolderLookup.Provider provider = HolderLookup.Provider.create(Stream.empty());
-        RegistryOps<? super JsonElement> serializationContext = provider.createSerializationContext(JsonOps.INSTANCE);
 
-        return codec.parse(serializationContext, holder.asJson()).getOrThrow(JsonParseException::new);
+        return codec.parse(SERIALIZATION_CONTEXT, holder.asJson()).getOrThrow(JsonParseException::new);
     }
 }
@@ -0,0 +1,46 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Intercepts the packets players send when they click in a container, before the server handles them and before any
+ * event is fired for them. Clicks on a slot are passed to a {@link ContainerClickHandler}; other clicks, like clicks
+ * outside the container, drags and double clicks, are always passed on to the server.
+ *
+ * @since 0.11.3
+ */
+public abstract class ClickInterceptor {
+
+    /**
+     * Starts intercepting the clicks of the specified player, passing them to the specified handler. Injecting a
+     * player that's already injected does nothing. This may be called from any thread.
+     *
+     * @param player the player to intercept the clicks of
+     * @param handler the handler to pass the clicks to
+     * @since 0.11.3
+     */
+    public abstract void inject(@NotNull Player player, @NotNull ContainerClickHandler handler);
+
+    /**
+     * Stops intercepting the clicks of the specified player. Clicks that are being held back are passed on to the
+     * server. Ejecting a player that isn't injected does nothing. This may be called from any thread.
+     *
+     * @param player the player to stop intercepting the clicks of
+     * @since 0.11.3
+     */
+    public abstract void eject(@NotNull Player player);
+
+    /**
+     * Gets the id of the container belonging to the specified view, which is the id clicks in this view are sent with.
+     * Returns -1 if the view doesn't belong to a container.
+     *
+     * @param view the view
+     * @return the container id or -1
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public abstract int getContainerId(@NotNull InventoryView view);
+}
@@ -0,0 +1,38 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decides what happens to container clicks intercepted by a {@link ClickInterceptor}.
+ *
+ * @since 0.11.3
+ */
+@FunctionalInterface
+public interface ContainerClickHandler {
+
+    /**
+     * Handles a click of a player on a slot in a container. This is called on the network thread of the player, in
+     * the order the player sent their clicks, so this should only decide whether to handle the click and hand the
+     * actual handling over to the thread owning the player.
+     * <p>
+     * If this returns null, the click is passed on to the server right away. Otherwise, the click and everything the
+     * player sends after it is held back until the returned future completes. If the future completes with true, the
+     * click is dropped; if it completes with false or exceptionally, the click is passed on to the server unchanged.
+     *
+     * @param player the clicking player
+     * @param containerId the id of the container clicked in
+     * @param rawSlot the raw slot that was clicked
+     * @param clickType the type of click
+     * @param hotbarButton the hotbar button pressed for {@link ClickType#NUMBER_KEY} clicks, or -1 otherwise
+     * @return a future completing with whether to drop the click, or null to pass the click on right away
+     * @since 0.11.3
+     */
+    @Nullable
+    CompletableFuture<Boolean> handle(@NotNull Player player, int containerId, int rawSlot,
+                                      @NotNull ClickType clickType, int hotbarButton);
+}
@@ -27,7 +27,9 @@ public abstract class MerchantInventory {
     public abstract Inventory createInventory(@NotNull TextHolder title);
 
     /**
-     * Sends the merchant offers to the player, combined with the merchants level and experience.
+     * Sends the merchant offers to the player, combined with the merchants level and experience. The trades are
+     * converted once and reused for subsequent calls, until {@link #clearMerchantOffers()} is called. The level and
+     * experience are not part of the converted trades, so they may differ between calls.
      *
      * @param player the player to send this to
      * @param trades the trades to send
@@ -41,4 +43,27 @@ public abstract class MerchantInventory {
             int level,
             int experience
     );
+
+    /**
+     * Discards the converted trades, so they are converted again the next time they are sent. This should be called
+     * whenever trades are added or removed.
+     *
+     * @since 0.11.3
+     */
+    public abstract void clearMerchantOffers();
+
+    /**
+     * Converts a single trade again, replacing the previously converted trade at the specified index. This should be
+     * called when a trade has changed, for example when its uses have changed, and is cheaper than converting all
+     * trades again. If the trades haven't been converted yet, this does nothing.
+     *
+     * @param index the index of the trade
+     * @param trade the changed trade with its price difference
+     * @throws IndexOutOfBoundsException if no trade exists at the specified index
+     * @since 0.11.3
+     */
+    public abstract void updateMerchantOffer(
+            int index,
+            @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade
+    );
 }
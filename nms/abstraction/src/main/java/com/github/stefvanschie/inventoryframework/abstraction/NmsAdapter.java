@@ -0,0 +1,135 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates the internal inventories for a single version. Every version module provides one implementation, named
+ * {@code NmsAdapterImpl} in the package of that module, which is loaded by name, so that only the adapter of the
+ * running version has to be loaded. The inventory classes of an adapter are only loaded once an inventory of that kind
+ * is created.
+ *
+ * @since 0.11.3
+ */
+public abstract class NmsAdapter {
+
+    /**
+     * Gets the version this adapter is for. This is the name of the matching constant of the version enum, e.g.
+     * {@code V1_21_6_8}.
+     *
+     * @return the version
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    public abstract String getVersion();
+
+    /**
+     * Creates a new anvil inventory.
+     *
+     * @return the anvil inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract AnvilInventory newAnvilInventory();
+
+    /**
+     * Creates a new beacon inventory.
+     *
+     * @return the beacon inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract BeaconInventory newBeaconInventory();
+
+    /**
+     * Creates a new cartography table inventory.
+     *
+     * @return the cartography table inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract CartographyTableInventory newCartographyTableInventory();
+
+    /**
+     * Creates a new enchanting table inventory.
+     *
+     * @return the enchanting table inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract EnchantingTableInventory newEnchantingTableInventory();
+
+    /**
+     * Creates a new grindstone inventory.
+     *
+     * @return the grindstone inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract GrindstoneInventory newGrindstoneInventory();
+
+    /**
+     * Creates a new merchant inventory.
+     *
+     * @return the merchant inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract MerchantInventory newMerchantInventory();
+
+    /**
+     * Creates a new modern smithing table inventory. Returns null if modern smithing tables don't exist in this
+     * version.
+     *
+     * @return the smithing table inventory or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public SmithingTableInventory newSmithingTableInventory() {
+        return null;
+    }
+
+    /**
+     * Creates a new legacy smithing table inventory. Returns null if legacy smithing tables don't exist in this
+     * version.
+     *
+     * @return the legacy smithing table inventory or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public SmithingTableInventory newLegacySmithingTableInventory() {
+        return null;
+    }
+
+    /**
+     * Creates a new click interceptor. Returns null if intercepting clicks isn't supported for this version.
+     *
+     * @return the click interceptor or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    public ClickInterceptor newClickInterceptor() {
+        return null;
+    }
+
+    /**
+     * Creates a new stonecutter inventory.
+     *
+     * @return the stonecutter inventory
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(value = "-> new", pure = true)
+    public abstract StonecutterInventory newStonecutterInventory();
+}
@@ -0,0 +1,100 @@
+package com.github.stefvanschie.inventoryframework.abstraction.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache which holds at most a fixed amount of entries. Once the cache is full, the least recently used
+ * entry is evicted. Values are computed outside of the cache's lock, so two threads may compute the same value
+ * concurrently; the values computed should therefore not depend on which computation ends up in the cache.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @since 0.11.3
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * The cached entries, in access order
+     */
+    @NotNull
+    private final Map<K, V> entries;
+
+    /**
+     * Creates a new cache which holds at most the specified amount of entries.
+     *
+     * @param capacity the maximum amount of entries
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @since 0.11.3
+     */
+    public BoundedCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.entries = new LinkedHashMap<K, V>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the value associated with the specified key. If no value is cached, the value is computed by the provided
+     * function and cached for later lookups.
+     *
+     * @param key the key to look up
+     * @param function the function computing the value for the key
+     * @return the cached or computed value
+     * @since 0.11.3
+     */
+    @NotNull
+    public V get(@NotNull K key, @NotNull Function<? super K, ? extends V> function) {
+        V value;
+
+        synchronized (this.entries) {
+            value = this.entries.get(key);
+        }
+
+        if (value != null) {
+            return value;
+        }
+
+        value = function.apply(key);
+
+        synchronized (this.entries) {
+            this.entries.put(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets the amount of entries currently cached.
+     *
+     * @return the amount of entries
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    public int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    /**
+     * Removes all entries from this cache.
+     *
+     * @since 0.11.3
+     */
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+}
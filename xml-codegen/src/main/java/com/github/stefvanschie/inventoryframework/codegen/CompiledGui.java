@@ -0,0 +1,34 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a class as the owner of an XML gui that should be compiled into Java source at build time. The class annotated
+ * takes the role of the instance passed to {@code Gui.load}: fields and methods referenced from the XML file are looked
+ * up on this class. The generated class is placed in the same package as the annotated class and exposes a single
+ * {@code create(Owner, Plugin)} method, which builds the gui directly without parsing XML or using reflection.
+ *
+ * @since 0.11.3
+ */
+@Documented
+@Repeatable(CompiledGuis.class)
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompiledGui {
+
+    /**
+     * The path of the XML file to compile, relative to the root of the resources (e.g. {@code menus/shop.xml}).
+     *
+     * @return the path of the XML file
+     * @since 0.11.3
+     */
+    String value();
+
+    /**
+     * The simple name of the generated class.
+     *
+     * @return the name of the generated class
+     * @since 0.11.3
+     */
+    String name();
+}
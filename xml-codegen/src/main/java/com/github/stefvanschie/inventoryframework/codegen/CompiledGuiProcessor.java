@@ -0,0 +1,320 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Annotation processor compiling the XML files referenced by {@link CompiledGui} into Java source. The XML files are
+ * looked up in the class output (where Maven copies resources to before compiling), the source path and the class
+ * path. Build tools that process resources after compiling, like Gradle, should point the
+ * {@value #XML_ROOT_OPTION} option to the resources directory instead.
+ *
+ * @since 0.11.3
+ */
+@SupportedAnnotationTypes({
+    "com.github.stefvanschie.inventoryframework.codegen.CompiledGui",
+    "com.github.stefvanschie.inventoryframework.codegen.CompiledGuis"
+})
+@SupportedOptions(CompiledGuiProcessor.XML_ROOT_OPTION)
+public class CompiledGuiProcessor extends AbstractProcessor {
+
+    /**
+     * The option specifying the directory XML files are resolved against
+     */
+    @NotNull
+    public static final String XML_ROOT_OPTION = "inventoryframework.xmlRoot";
+
+    /**
+     * The locations in which XML files are searched if no root directory is specified
+     */
+    @NotNull
+    private static final StandardLocation[] LOCATIONS = {
+        StandardLocation.CLASS_OUTPUT,
+        StandardLocation.SOURCE_PATH,
+        StandardLocation.CLASS_PATH
+    };
+
+    @NotNull
+    @Contract(pure = true)
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(@NotNull Set<? extends TypeElement> annotations, @NotNull RoundEnvironment roundEnv) {
+        Set<javax.lang.model.element.Element> owners = new LinkedHashSet<>();
+
+        owners.addAll(roundEnv.getElementsAnnotatedWith(CompiledGui.class));
+        owners.addAll(roundEnv.getElementsAnnotatedWith(CompiledGuis.class));
+
+        for (javax.lang.model.element.Element owner : owners) {
+            if (!(owner instanceof TypeElement)) {
+                continue;
+            }
+
+            for (CompiledGui compiledGui : owner.getAnnotationsByType(CompiledGui.class)) {
+                try {
+                    compile((TypeElement) owner, compiledGui);
+                } catch (GuiCompileException | IOException exception) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Unable to compile gui '" + compiledGui.value() + "': " + exception.getMessage(), owner);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compiles the XML file specified by the annotation and writes the generated source.
+     *
+     * @param owner the class owning the gui
+     * @param compiledGui the annotation specifying the XML file
+     * @throws IOException if the XML file cannot be read or the source cannot be written
+     * @throws GuiCompileException if the XML file cannot be compiled
+     * @since 0.11.3
+     */
+    private void compile(@NotNull TypeElement owner, @NotNull CompiledGui compiledGui) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        String className = compiledGui.name();
+
+        if (!SourceVersion.isIdentifier(className) || SourceVersion.isKeyword(className)) {
+            throw new GuiCompileException("'" + className + "' is not a valid class name");
+        }
+
+        Element element;
+
+        try (InputStream inputStream = openXml(compiledGui.value())) {
+            element = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream)
+                .getDocumentElement();
+        } catch (SAXException | ParserConfigurationException exception) {
+            throw new GuiCompileException("Malformed XML file", exception);
+        }
+
+        element.normalize();
+
+        GuiSourceGenerator generator = new GuiSourceGenerator(new ElementLookup(owner));
+        String source = generator.generate(packageName, className, owner.getQualifiedName().toString(),
+            compiledGui.value(), element);
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, owner);
+
+        try (Writer writer = file.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    /**
+     * Opens the XML file at the specified path.
+     *
+     * @param path the path of the XML file
+     * @return an input stream of the XML file
+     * @throws IOException if the XML file cannot be found or opened
+     * @since 0.11.3
+     */
+    @NotNull
+    private InputStream openXml(@NotNull String path) throws IOException {
+        String root = processingEnv.getOptions().get(XML_ROOT_OPTION);
+
+        if (root != null) {
+            Path file = Paths.get(root, path);
+
+            if (!Files.isRegularFile(file)) {
+                throw new IOException("File '" + file + "' does not exist");
+            }
+
+            return Files.newInputStream(file);
+        }
+
+        for (StandardLocation location : LOCATIONS) {
+            InputStream inputStream = openResource(location, path);
+
+            if (inputStream != null) {
+                return inputStream;
+            }
+        }
+
+        throw new IOException("File cannot be found in the class output, source path or class path; specify the " +
+            XML_ROOT_OPTION + " option to resolve it from a directory instead");
+    }
+
+    /**
+     * Opens the resource at the specified path in the provided location, or returns null if the resource does not exist
+     * there.
+     *
+     * @param location the location to look in
+     * @param path the path of the resource
+     * @return an input stream of the resource or null
+     * @since 0.11.3
+     */
+    @Nullable
+    private InputStream openResource(@NotNull StandardLocation location, @NotNull String path) {
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(location, "", path);
+
+            return resource.openInputStream();
+        } catch (IOException | IllegalArgumentException exception) {
+            //the location is not available for this compilation or doesn't contain the file
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the members of the owning class in the program being compiled.
+     *
+     * @since 0.11.3
+     */
+    private final class ElementLookup implements MethodLookup {
+
+        /**
+         * The owning class
+         */
+        @NotNull
+        private final TypeElement owner;
+
+        /**
+         * Creates a new lookup for the members of the provided class.
+         *
+         * @param owner the owning class
+         * @since 0.11.3
+         */
+        private ElementLookup(@NotNull TypeElement owner) {
+            this.owner = owner;
+        }
+
+        @NotNull
+        @Contract(pure = true)
+        @Override
+        public List<List<String>> getParameterTypes(@NotNull String name) {
+            List<List<String>> overloads = new ArrayList<>();
+
+            for (javax.lang.model.element.Element member : getPublicMembers(ElementKind.METHOD, name)) {
+                List<String> parameterTypes = new ArrayList<>();
+
+                for (VariableElement parameter : ((ExecutableElement) member).getParameters()) {
+                    parameterTypes.add(getTypes().erasure(parameter.asType()).toString());
+                }
+
+                overloads.add(parameterTypes);
+            }
+
+            return overloads;
+        }
+
+        @Nullable
+        @Contract(pure = true)
+        @Override
+        public String getFieldType(@NotNull String name) {
+            for (javax.lang.model.element.Element member : getPublicMembers(ElementKind.FIELD, name)) {
+                if (member.getModifiers().contains(Modifier.FINAL)) {
+                    return null;
+                }
+
+                return getTypes().erasure(member.asType()).toString();
+            }
+
+            return null;
+        }
+
+        @Contract(pure = true)
+        @Override
+        public boolean isAssignable(@NotNull String type, @NotNull String target) {
+            TypeMirror typeMirror = getType(type);
+            TypeMirror targetMirror = getType(target);
+
+            if (typeMirror == null || targetMirror == null) {
+                return false;
+            }
+
+            //javac considers primitive widening subtyping, reflection doesn't
+            if (typeMirror.getKind().isPrimitive() || targetMirror.getKind().isPrimitive()) {
+                return getTypes().isSameType(typeMirror, targetMirror);
+            }
+
+            return getTypes().isSubtype(typeMirror, targetMirror);
+        }
+
+        /**
+         * Gets the public members of the owner of the specified kind and with the specified name, including inherited
+         * ones.
+         *
+         * @param kind the kind of member
+         * @param name the name of the member
+         * @return the members
+         * @since 0.11.3
+         */
+        @NotNull
+        @Contract(pure = true)
+        private List<javax.lang.model.element.Element> getPublicMembers(@NotNull ElementKind kind,
+                                                                        @NotNull String name) {
+            List<javax.lang.model.element.Element> members = new ArrayList<>();
+
+            for (javax.lang.model.element.Element member : processingEnv.getElementUtils().getAllMembers(owner)) {
+                if (member.getKind() == kind && member.getModifiers().contains(Modifier.PUBLIC) &&
+                    member.getSimpleName().contentEquals(name)) {
+                    members.add(member);
+                }
+            }
+
+            return members;
+        }
+
+        /**
+         * Gets the erasure of the type with the specified name, or null if no such type exists.
+         *
+         * @param name the qualified name of the type, or the keyword of a primitive type
+         * @return the type or null
+         * @since 0.11.3
+         */
+        @Nullable
+        @Contract(pure = true)
+        private TypeMirror getType(@NotNull String name) {
+            for (TypeKind kind : TypeKind.values()) {
+                if (kind.isPrimitive() && kind.name().toLowerCase(Locale.ROOT).equals(name)) {
+                    return getTypes().getPrimitiveType(kind);
+                }
+            }
+
+            TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+
+            return element == null ? null : getTypes().erasure(element.asType());
+        }
+
+        /**
+         * Gets the utilities for operating on types.
+         *
+         * @return the type utilities
+         * @since 0.11.3
+         */
+        @NotNull
+        @Contract(pure = true)
+        private Types getTypes() {
+            return processingEnv.getTypeUtils();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import java.lang.annotation.*;
+
+/**
+ * Container for repeated {@link CompiledGui} annotations on the same class.
+ *
+ * @since 0.11.3
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompiledGuis {
+
+    /**
+     * The compiled guis declared on the annotated class.
+     *
+     * @return the compiled guis
+     * @since 0.11.3
+     */
+    CompiledGui[] value();
+}
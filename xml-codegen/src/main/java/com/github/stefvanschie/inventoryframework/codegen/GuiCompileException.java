@@ -0,0 +1,35 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An exception indicating that an XML gui could not be compiled into Java source, e.g. because the file is malformed or
+ * uses a feature the compiler does not support.
+ *
+ * @since 0.11.3
+ */
+public class GuiCompileException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with a given message
+     *
+     * @param message the message to show
+     * @since 0.11.3
+     */
+    public GuiCompileException(@NotNull String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs the exception with a given message and cause
+     *
+     * @param message the message to show
+     * @param cause the cause of this exception
+     * @since 0.11.3
+     */
+    public GuiCompileException(@NotNull String message, @NotNull Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,1184 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.*;
+
+/**
+ * Translates the XML format understood by {@code Gui.load} and {@code ChestGui.load} into Java source which constructs
+ * the same gui directly. Method and field references are bound statically, so the generated code neither parses XML
+ * nor uses reflection. References are resolved by the same rules as at runtime; references that can't be resolved,
+ * or whose overload at runtime depends on the order reflection returns methods in, are rejected. Only the subset of
+ * the XML format with a static meaning is supported: chest-like guis, static, outline, masonry and paginated panes and
+ * items. Anything else results in a {@link GuiCompileException}, in which case the file should be loaded at runtime
+ * instead.
+ *
+ * @since 0.11.3
+ */
+public class GuiSourceGenerator {
+
+    /**
+     * The gui types that can be compiled, mapped to the class that represents them
+     */
+    @NotNull
+    private static final Map<String, String> GUI_TYPES = new HashMap<>();
+
+    /**
+     * The event attributes of a gui, mapped to the type of event they handle
+     */
+    @NotNull
+    private static final Map<String, String> GUI_EVENTS = new LinkedHashMap<>();
+
+    /**
+     * The property types that can be compiled, mapped to the class of their values
+     */
+    @NotNull
+    private static final Map<String, String> PROPERTY_CLASSES = new HashMap<>();
+
+    /**
+     * The wrapper classes of property values, mapped to their primitive type
+     */
+    @NotNull
+    private static final Map<String, String> PRIMITIVES = new HashMap<>();
+
+    /**
+     * The package of the gui classes
+     */
+    @NotNull
+    private static final String GUI_PACKAGE = "com.github.stefvanschie.inventoryframework.gui.type.";
+
+    /**
+     * The package of the pane classes
+     */
+    @NotNull
+    private static final String PANE_PACKAGE = "com.github.stefvanschie.inventoryframework.pane.";
+
+    /**
+     * The base class of all guis
+     */
+    @NotNull
+    private static final String GUI = "com.github.stefvanschie.inventoryframework.gui.type.util.Gui";
+
+    /**
+     * The class of gui items
+     */
+    @NotNull
+    private static final String GUI_ITEM = "com.github.stefvanschie.inventoryframework.gui.GuiItem";
+
+    /**
+     * The event handled by click attributes of panes and items
+     */
+    @NotNull
+    private static final String CLICK_EVENT = "org.bukkit.event.inventory.InventoryClickEvent";
+
+    /**
+     * The priorities a pane may have
+     */
+    @NotNull
+    private static final Set<String> PRIORITIES = new HashSet<>(Arrays.asList(
+        "LOWEST", "LOW", "NORMAL", "HIGH", "HIGHEST", "MONITOR"
+    ));
+
+    /**
+     * The child elements of an item which modify the item's meta
+     */
+    @NotNull
+    private static final Set<String> ITEM_META_CHILDREN = new HashSet<>(Arrays.asList(
+        "lore", "enchantments", "displayname", "modeldata", "skull"
+    ));
+
+    /**
+     * The indentation used for statements in the generated method
+     */
+    @NotNull
+    private static final String INDENT = "        ";
+
+    /**
+     * The lookup used to bind method references
+     */
+    @NotNull
+    private final MethodLookup methodLookup;
+
+    /**
+     * The statements of the generated method
+     */
+    @NotNull
+    private final StringBuilder body = new StringBuilder();
+
+    /**
+     * A counter used to generate unique variable names
+     */
+    private int variableCounter;
+
+    /**
+     * Creates a new generator which binds method references with the provided lookup.
+     *
+     * @param methodLookup the lookup for the methods of the owning class
+     * @since 0.11.3
+     */
+    public GuiSourceGenerator(@NotNull MethodLookup methodLookup) {
+        this.methodLookup = methodLookup;
+    }
+
+    /**
+     * Generates the source of a class with the provided name, containing a factory method for the gui described by the
+     * provided element. The element should be the (normalized) document element of the XML file.
+     *
+     * @param packageName the package of the generated class, empty for the default package
+     * @param className the simple name of the generated class
+     * @param ownerClassName the canonical name of the class owning the gui
+     * @param source the name of the XML file, used for documentation
+     * @param element the root element of the gui
+     * @return the generated Java source
+     * @throws GuiCompileException if the element cannot be compiled
+     * @since 0.11.3
+     */
+    @NotNull
+    public String generate(@NotNull String packageName, @NotNull String className, @NotNull String ownerClassName,
+                           @NotNull String source, @NotNull Element element) {
+        this.body.setLength(0);
+        this.variableCounter = 0;
+
+        String guiClass = generateGui(element);
+
+        StringBuilder builder = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;\n")
+            .append("import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;\n")
+            .append("import com.github.stefvanschie.inventoryframework.gui.GuiItem;\n")
+            .append("import com.github.stefvanschie.inventoryframework.gui.type.*;\n")
+            .append("import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;\n")
+            .append("import com.github.stefvanschie.inventoryframework.pane.*;\n")
+            .append("import com.github.stefvanschie.inventoryframework.pane.util.Slot;\n")
+            .append("import com.github.stefvanschie.inventoryframework.util.SkullUtil;\n")
+            .append("import org.bukkit.Material;\n")
+            .append("import org.bukkit.NamespacedKey;\n")
+            .append("import org.bukkit.enchantments.Enchantment;\n")
+            .append("import org.bukkit.inventory.ItemStack;\n")
+            .append("import org.bukkit.inventory.meta.ItemMeta;\n")
+            .append("import org.bukkit.inventory.meta.SkullMeta;\n")
+            .append("import org.bukkit.plugin.Plugin;\n\n")
+            .append("import java.util.ArrayList;\n")
+            .append("import java.util.List;\n")
+            .append("import java.util.Objects;\n\n")
+            .append("/**\n")
+            .append(" * Generated from ").append(escapeJavadoc(source)).append(" by the IF XML compiler. Do not edit.\n")
+            .append(" */\n")
+            .append("public final class ").append(className).append(" {\n\n")
+            .append("    private ").append(className).append("() {}\n\n")
+            .append("    /**\n")
+            .append("     * Creates the gui described by ").append(escapeJavadoc(source)).append(".\n")
+            .append("     *\n")
+            .append("     * @param instance the instance on which to reference fields and methods\n")
+            .append("     * @param plugin the plugin that will be the owner of the created gui\n")
+            .append("     * @return the created gui\n")
+            .append("     */\n")
+            .append("    public static ").append(guiClass).append(" create(").append(ownerClassName)
+            .append(" instance, Plugin plugin) {\n")
+            .append(this.body)
+            .append(INDENT).append("return gui;\n")
+            .append("    }\n")
+            .append("}\n");
+
+        return builder.toString();
+    }
+
+    /**
+     * Generates the statements creating the gui and returns the name of the gui's class.
+     *
+     * @param element the root element of the gui
+     * @return the simple name of the gui's class
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generateGui(@NotNull Element element) {
+        String type = element.hasAttribute("type") ? element.getAttribute("type") : "chest";
+        String guiClass = GUI_TYPES.get(type);
+
+        if (guiClass == null) {
+            throw new GuiCompileException("Gui type '" + type + "' cannot be compiled, load it at runtime instead");
+        }
+
+        if (!element.hasAttribute("title")) {
+            throw new GuiCompileException("Gui tag doesn't have the mandatory title attribute set");
+        }
+
+        String title = literal(element.getAttribute("title"));
+
+        if (type.equals("chest")) {
+            if (!element.hasAttribute("rows")) {
+                throw new GuiCompileException("Gui tag doesn't have the mandatory rows attribute set");
+            }
+
+            int rows = parseInt(element, "rows");
+
+            if (rows < 1 || rows > 6) {
+                throw new GuiCompileException("Rows should be between 1 and 6");
+            }
+
+            statement(guiClass + " gui = new " + guiClass + "(" + rows + ", " + title + ", plugin);");
+        } else {
+            statement(guiClass + " gui = new " + guiClass + "(" + title + ", plugin);");
+        }
+
+        if (element.hasAttribute("field")) {
+            statement("instance." + field(element, GUI_PACKAGE + guiClass) + " = gui;");
+        }
+
+        for (Map.Entry<String, String> event : GUI_EVENTS.entrySet()) {
+            String attribute = event.getKey();
+
+            if (!element.hasAttribute(attribute)) {
+                continue;
+            }
+
+            String setter = "set" + Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1);
+
+            statement("gui." + setter + "(" + eventHandler(element.getAttribute(attribute), event.getValue()) + ");");
+        }
+
+        if (element.hasAttribute("populate")) {
+            //cast, so overloads for subclasses aren't chosen over the one XMLUtil.invokeMethod finds
+            statement("instance." + populator(element.getAttribute("populate"), GUI) + "((Gui) gui);");
+            return guiClass;
+        }
+
+        for (Element child : childElements(element)) {
+            Element componentElement = child.getTagName().equalsIgnoreCase("component") ? child : element;
+
+            for (Element paneElement : childElements(componentElement)) {
+                String pane = generatePane(paneElement);
+
+                statement("gui.getInventoryComponent().addPane(" + pane + ");");
+            }
+
+            break;
+        }
+
+        return guiClass;
+    }
+
+    /**
+     * Generates the statements creating the pane described by the provided element and returns the name of the
+     * variable holding it.
+     *
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generatePane(@NotNull Element element) {
+        String name = element.getNodeName();
+
+        switch (name) {
+            case "staticpane":
+                return generateStaticPane(element);
+            case "outlinepane":
+                return generateOutlinePane(element);
+            case "masonrypane":
+                return generateMasonryPane(element);
+            case "paginatedpane":
+                return generatePaginatedPane(element);
+            default:
+                throw new GuiCompileException("Pane '" + name + "' cannot be compiled, load it at runtime instead");
+        }
+    }
+
+    /**
+     * Generates a static pane.
+     *
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generateStaticPane(@NotNull Element element) {
+        String pane = newPane("StaticPane", element);
+
+        generatePaneAttributes("StaticPane", pane, element);
+        generateFlippable(pane, element);
+        generateRotatable(pane, element);
+
+        if (element.hasAttribute("populate")) {
+            return pane;
+        }
+
+        for (Element child : childElements(element)) {
+            String item = generateItem(child);
+
+            statement(pane + ".addItem(" + item + ", " + slot(child) + ");");
+        }
+
+        return pane;
+    }
+
+    /**
+     * Generates an outline pane.
+     *
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generateOutlinePane(@NotNull Element element) {
+        String pane = newPane("OutlinePane", element);
+
+        if (element.hasAttribute("gap")) {
+            statement(pane + ".setGap(" + parseInt(element, "gap") + ");");
+        }
+
+        if (element.hasAttribute("repeat")) {
+            statement(pane + ".setRepeat(" + Boolean.parseBoolean(element.getAttribute("repeat")) + ");");
+        }
+
+        if (element.hasAttribute("alignment")) {
+            String alignment = constant(element.getAttribute("alignment"), Arrays.asList("BEGIN", "CENTER"));
+
+            statement(pane + ".align(OutlinePane.Alignment." + alignment + ");");
+        }
+
+        generatePaneAttributes("OutlinePane", pane, element);
+        generateFlippable(pane, element);
+        generateOrientable(pane, element);
+        generateRotatable(pane, element);
+
+        if (element.hasAttribute("populate")) {
+            return pane;
+        }
+
+        for (Element child : childElements(element)) {
+            if (child.getNodeName().equals("empty")) {
+                statement(pane + ".addItem(new GuiItem(new ItemStack(Material.AIR), plugin));");
+            } else {
+                statement(pane + ".addItem(" + generateItem(child) + ");");
+            }
+        }
+
+        return pane;
+    }
+
+    /**
+     * Generates a masonry pane.
+     *
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generateMasonryPane(@NotNull Element element) {
+        String pane = newPane("MasonryPane", element);
+
+        generatePaneAttributes("MasonryPane", pane, element);
+        generateOrientable(pane, element);
+
+        if (element.hasAttribute("populate")) {
+            return pane;
+        }
+
+        for (Element child : childElements(element)) {
+            statement(pane + ".addPane(" + generatePane(child) + ");");
+        }
+
+        return pane;
+    }
+
+    /**
+     * Generates a paginated pane.
+     *
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generatePaginatedPane(@NotNull Element element) {
+        String pane = newPane("PaginatedPane", element);
+
+        generatePaneAttributes("PaginatedPane", pane, element);
+
+        if (element.hasAttribute("populate")) {
+            return pane;
+        }
+
+        int page = 0;
+
+        for (Element child : childElements(element)) {
+            if (!child.getNodeName().equals("page")) {
+                throw new GuiCompileException("Panes have to be inside page tag");
+            }
+
+            for (Element paneElement : childElements(child)) {
+                statement(pane + ".addPane(" + page + ", " + generatePane(paneElement) + ");");
+            }
+
+            page++;
+        }
+
+        return pane;
+    }
+
+    /**
+     * Generates the construction of a pane with the length and height specified by the element.
+     *
+     * @param paneClass the simple name of the pane's class
+     * @param element the element of the pane
+     * @return the name of the variable holding the pane
+     * @since 0.11.3
+     */
+    @NotNull
+    private String newPane(@NotNull String paneClass, @NotNull Element element) {
+        String pane = variable("pane");
+
+        statement(paneClass + " " + pane + " = new " + paneClass + "(" + parseInt(element, "length") + ", " +
+            parseInt(element, "height") + ");");
+
+        return pane;
+    }
+
+    /**
+     * Generates the attributes shared by all panes. This mirrors {@code Pane.load}.
+     *
+     * @param paneClass the simple name of the pane's class
+     * @param pane the name of the variable holding the pane
+     * @param element the element of the pane
+     * @since 0.11.3
+     */
+    private void generatePaneAttributes(@NotNull String paneClass, @NotNull String pane, @NotNull Element element) {
+        statement(pane + ".setSlot(" + slot(element) + ");");
+
+        if (element.hasAttribute("priority")) {
+            statement(pane + ".setPriority(Pane.Priority." + constant(element.getAttribute("priority"), PRIORITIES) +
+                ");");
+        }
+
+        if (element.hasAttribute("visible")) {
+            statement(pane + ".setVisible(" + Boolean.parseBoolean(element.getAttribute("visible")) + ");");
+        }
+
+        if (element.hasAttribute("field")) {
+            statement("instance." + field(element, PANE_PACKAGE + paneClass) + " = " + pane + ";");
+        }
+
+        if (element.hasAttribute("onClick")) {
+            statement(pane + ".setOnClick(" + eventHandler(element.getAttribute("onClick"), CLICK_EVENT) + ");");
+        }
+
+        if (element.hasAttribute("populate")) {
+            statement("instance." + panePopulator(element.getAttribute("populate"), PANE_PACKAGE + paneClass) + "(" +
+                pane + ");");
+        }
+    }
+
+    /**
+     * Generates the attributes of a flippable pane. This mirrors {@code Flippable.load}.
+     *
+     * @param pane the name of the variable holding the pane
+     * @param element the element of the pane
+     * @since 0.11.3
+     */
+    private void generateFlippable(@NotNull String pane, @NotNull Element element) {
+        if (element.hasAttribute("flipHorizontally")) {
+            statement(pane + ".flipHorizontally(" + Boolean.parseBoolean(element.getAttribute("flipHorizontally")) +
+                ");");
+        }
+
+        if (element.hasAttribute("flipVertically")) {
+            statement(pane + ".flipVertically(" + Boolean.parseBoolean(element.getAttribute("flipVertically")) +
+                ");");
+        }
+    }
+
+    /**
+     * Generates the attributes of an orientable pane. This mirrors {@code Orientable.load}.
+     *
+     * @param pane the name of the variable holding the pane
+     * @param element the element of the pane
+     * @since 0.11.3
+     */
+    private void generateOrientable(@NotNull String pane, @NotNull Element element) {
+        if (element.hasAttribute("orientation")) {
+            String orientation = constant(element.getAttribute("orientation"),
+                Arrays.asList("HORIZONTAL", "VERTICAL"));
+
+            statement(pane + ".setOrientation(Orientable.Orientation." + orientation + ");");
+        }
+    }
+
+    /**
+     * Generates the attributes of a rotatable pane. This mirrors {@code Rotatable.load}.
+     *
+     * @param pane the name of the variable holding the pane
+     * @param element the element of the pane
+     * @since 0.11.3
+     */
+    private void generateRotatable(@NotNull String pane, @NotNull Element element) {
+        if (element.hasAttribute("rotation")) {
+            statement(pane + ".setRotation(" + parseInt(element, "rotation") + ");");
+        }
+    }
+
+    /**
+     * Generates the statements creating the item described by the provided element and returns the name of the
+     * variable holding it. This mirrors {@code Pane.loadItem}.
+     *
+     * @param element the element of the item
+     * @return the name of the variable holding the item
+     * @since 0.11.3
+     */
+    @NotNull
+    private String generateItem(@NotNull Element element) {
+        String material = material(element.getAttribute("id"));
+        int amount = element.hasAttribute("amount") ? parseInt(element, "amount") : 1;
+        short damage;
+
+        try {
+            damage = element.hasAttribute("damage") ? Short.parseShort(element.getAttribute("damage")) : 0;
+        } catch (NumberFormatException exception) {
+            throw new GuiCompileException("Damage attribute is not a short", exception);
+        }
+
+        String itemStack = variable("itemStack");
+        String meta = variable("meta");
+        String properties = variable("properties");
+        List<String> propertyValues = new ArrayList<>();
+        List<String> propertyClasses = new ArrayList<>();
+
+        statement("ItemStack " + itemStack + " = new ItemStack(Material." + material + ", " + amount + ", (short) " +
+            damage + ");");
+        for (Element child : childElements(element)) {
+            if (ITEM_META_CHILDREN.contains(child.getNodeName())) {
+                statement("ItemMeta " + meta + ";");
+                break;
+            }
+        }
+
+        statement("List<Object> " + properties + " = new ArrayList<>();");
+
+        for (Element child : childElements(element)) {
+            String nodeName = child.getNodeName();
+
+            switch (nodeName) {
+                case "properties":
+                    for (Element property : childElements(child)) {
+                        if (!property.getNodeName().equals("property")) {
+                            continue;
+                        }
+
+                        String propertyType = property.hasAttribute("type") ? property.getAttribute("type") : "string";
+                        String value = property(propertyType, property.getTextContent());
+
+                        propertyValues.add(value);
+                        propertyClasses.add(PROPERTY_CLASSES.get(propertyType));
+                        statement(properties + ".add(" + value + ");");
+                    }
+                    break;
+                case "lore":
+                    for (Element line : childElements(child)) {
+                        if (!line.getNodeName().equals("line")) {
+                            continue;
+                        }
+
+                        statement(meta + " = Objects.requireNonNull(" + itemStack + ".getItemMeta());");
+                        statement("TextHolder.deserialize(" + literal(line.getTextContent()) + ").asItemLoreAtEnd(" +
+                            meta + ");");
+                        statement(itemStack + ".setItemMeta(" + meta + ");");
+                    }
+                    break;
+                case "enchantments":
+                    for (Element enchantment : childElements(child)) {
+                        if (!enchantment.getNodeName().equals("enchantment")) {
+                            continue;
+                        }
+
+                        String variable = variable("enchantment");
+                        String key = enchantment.getAttribute("id").toUpperCase(Locale.ROOT);
+
+                        statement(meta + " = Objects.requireNonNull(" + itemStack + ".getItemMeta());");
+                        statement("Enchantment " + variable + " = Enchantment.getByKey(NamespacedKey.minecraft(" +
+                            literal(key) + "));");
+                        statement("if (" + variable + " == null) {");
+                        statement("    throw new XMLLoadException(\"Enchantment cannot be found\");");
+                        statement("}");
+                        statement(meta + ".addEnchant(" + variable + ", " + parseInt(enchantment, "level") +
+                            ", true);");
+                        statement(itemStack + ".setItemMeta(" + meta + ");");
+                    }
+                    break;
+                case "displayname":
+                    statement(meta + " = Objects.requireNonNull(" + itemStack + ".getItemMeta());");
+                    statement("TextHolder.deserialize(" + literal(child.getTextContent()) + ").asItemDisplayName(" +
+                        meta + ");");
+                    statement(itemStack + ".setItemMeta(" + meta + ");");
+                    break;
+                case "modeldata":
+                    int modelData;
+
+                    try {
+                        modelData = Integer.parseInt(child.getTextContent());
+                    } catch (NumberFormatException exception) {
+                        throw new GuiCompileException("Model data is not an integer", exception);
+                    }
+
+                    statement(meta + " = Objects.requireNonNull(" + itemStack + ".getItemMeta());");
+                    statement(meta + ".setCustomModelData(" + modelData + ");");
+                    statement(itemStack + ".setItemMeta(" + meta + ");");
+                    break;
+                case "skull":
+                    statement(meta + " = " + itemStack + ".getItemMeta();");
+                    statement("if (" + meta + " instanceof SkullMeta) {");
+
+                    if (child.hasAttribute("owner")) {
+                        statement("    //noinspection deprecation");
+                        statement("    ((SkullMeta) " + meta + ").setOwner(" + literal(child.getAttribute("owner")) +
+                            ");");
+                    } else if (child.hasAttribute("id")) {
+                        statement("    SkullUtil.setSkull((SkullMeta) " + meta + ", " +
+                            literal(child.getAttribute("id")) + ");");
+                    }
+
+                    statement("    " + itemStack + ".setItemMeta(" + meta + ");");
+                    statement("}");
+                    break;
+            }
+        }
+
+        String action = "null";
+
+        if (element.hasAttribute("onClick")) {
+            action = clickHandler(element.getAttribute("onClick"), propertyValues, propertyClasses);
+        }
+
+        String item = variable("item");
+
+        statement("GuiItem " + item + " = new GuiItem(" + itemStack + ", " + action + ", plugin);");
+
+        if (element.hasAttribute("field")) {
+            statement("instance." + field(element, GUI_ITEM) + " = " + item + ";");
+        }
+
+        if (element.hasAttribute("populate")) {
+            statement("instance." + populator(element.getAttribute("populate"), GUI_ITEM) + "(" + item + ");");
+        }
+
+        statement(item + ".setProperties(" + properties + ");");
+
+        return item;
+    }
+
+    /**
+     * Checks that the field specified by the element can be assigned a value of the provided type and returns its name.
+     * Like {@code XMLUtil.loadFieldAttribute}, only public fields are considered.
+     *
+     * @param element the element specifying the field
+     * @param type the type of the value assigned to the field
+     * @return the name of the field
+     * @since 0.11.3
+     */
+    @NotNull
+    private String field(@NotNull Element element, @NotNull String type) {
+        String name = identifier(element.getAttribute("field"));
+        String fieldType = this.methodLookup.getFieldType(name);
+
+        if (fieldType == null) {
+            throw new GuiCompileException("No public, non-final field '" + name + "' exists");
+        }
+
+        if (!this.methodLookup.isAssignable(type, fieldType)) {
+            throw new GuiCompileException("Field '" + name + "' cannot hold a " + simpleName(type));
+        }
+
+        return name;
+    }
+
+    /**
+     * Checks that a method with a single parameter of exactly the provided type exists and returns its name. This
+     * mirrors {@code XMLUtil.invokeMethod}, which looks the method up by its parameter type.
+     *
+     * @param methodName the name of the method
+     * @param parameterType the type of the parameter
+     * @return the name of the method
+     * @since 0.11.3
+     */
+    @NotNull
+    private String populator(@NotNull String methodName, @NotNull String parameterType) {
+        String method = identifier(methodName);
+
+        if (!this.methodLookup.getParameterTypes(method).contains(Collections.singletonList(parameterType))) {
+            throw new GuiCompileException("No public method '" + method + "' with a single " +
+                simpleName(parameterType) + " parameter exists");
+        }
+
+        return method;
+    }
+
+    /**
+     * Checks that the populate method of a pane can be bound and returns its name. {@code Pane.load} calls the first
+     * public method with the name it finds, so the method may not be overloaded.
+     *
+     * @param methodName the name of the method
+     * @param paneType the type of the pane
+     * @return the name of the method
+     * @since 0.11.3
+     */
+    @NotNull
+    private String panePopulator(@NotNull String methodName, @NotNull String paneType) {
+        String method = identifier(methodName);
+        List<List<String>> overloads = this.methodLookup.getParameterTypes(method);
+
+        if (overloads.size() > 1) {
+            throw new GuiCompileException("Method '" + method + "' is overloaded, so the overload used at runtime " +
+                "is undefined");
+        }
+
+        if (overloads.isEmpty() || overloads.get(0).size() != 1 ||
+            !this.methodLookup.isAssignable(paneType, overloads.get(0).get(0))) {
+            throw new GuiCompileException("No public method '" + method + "' with a single " + simpleName(paneType) +
+                " parameter exists");
+        }
+
+        return method;
+    }
+
+    /**
+     * Creates a lambda invoking the specified method for an event. Like {@code XMLUtil.loadOnEventAttribute}, the
+     * method may either take no parameters or a single parameter of the event's type or a subtype of it. Since that
+     * takes whichever matching overload reflection returns first, more than one matching overload is an error.
+     *
+     * @param methodName the name of the method to invoke
+     * @param eventType the type of the event
+     * @return the lambda expression
+     * @since 0.11.3
+     */
+    @NotNull
+    private String eventHandler(@NotNull String methodName, @NotNull String eventType) {
+        String method = identifier(methodName);
+        List<List<String>> candidates = new ArrayList<>();
+
+        for (List<String> parameterTypes : this.methodLookup.getParameterTypes(method)) {
+            boolean matches = parameterTypes.isEmpty() ||
+                (parameterTypes.size() == 1 && this.methodLookup.isAssignable(parameterTypes.get(0), eventType));
+
+            if (matches && !candidates.contains(parameterTypes)) {
+                candidates.add(parameterTypes);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            throw new GuiCompileException("No public method '" + method + "' with zero parameters or a single " +
+                simpleName(eventType) + " parameter exists");
+        }
+
+        if (candidates.size() > 1) {
+            throw new GuiCompileException("Method '" + method + "' has several overloads handling " +
+                simpleName(eventType) + ", so the overload used at runtime is undefined");
+        }
+
+        List<String> parameterTypes = candidates.get(0);
+
+        if (parameterTypes.isEmpty()) {
+            return "event -> instance." + method + "()";
+        }
+
+        if (parameterTypes.get(0).equals(eventType)) {
+            return "event -> instance." + method + "(event)";
+        }
+
+        return "event -> instance." + method + "((" + parameterTypes.get(0) + ") event)";
+    }
+
+    /**
+     * Creates a lambda invoking the specified method for a click on an item. This mirrors {@code Pane.loadItem}: the
+     * method may take no parameters, the event as its only parameter, or the event followed by the item's properties.
+     * Since that only considers the first public method with the name it finds, the method may not be overloaded.
+     *
+     * @param methodName the name of the method to invoke
+     * @param properties the expressions of the item's properties
+     * @param propertyClasses the classes of the item's properties
+     * @return the lambda expression
+     * @since 0.11.3
+     */
+    @NotNull
+    private String clickHandler(@NotNull String methodName, @NotNull List<String> properties,
+                                @NotNull List<String> propertyClasses) {
+        String method = identifier(methodName);
+        List<List<String>> overloads = this.methodLookup.getParameterTypes(method);
+
+        if (overloads.isEmpty()) {
+            throw new GuiCompileException("No public method '" + method + "' exists");
+        }
+
+        if (overloads.size() > 1) {
+            throw new GuiCompileException("Method '" + method + "' is overloaded, so the overload used at runtime " +
+                "is undefined");
+        }
+
+        List<String> parameterTypes = overloads.get(0);
+
+        if (parameterTypes.isEmpty()) {
+            return "event -> instance." + method + "()";
+        }
+
+        if (this.methodLookup.isAssignable(CLICK_EVENT, parameterTypes.get(0))) {
+            if (parameterTypes.size() == 1) {
+                return "event -> instance." + method + "(event)";
+            }
+
+            if (parameterTypes.size() == properties.size() + 1 &&
+                acceptsProperties(parameterTypes.subList(1, parameterTypes.size()), propertyClasses)) {
+                StringBuilder arguments = new StringBuilder("event");
+
+                for (String property : properties) {
+                    arguments.append(", ").append(property);
+                }
+
+                return "event -> instance." + method + "(" + arguments + ")";
+            }
+        }
+
+        throw new GuiCompileException("Method '" + method + "' cannot be called with the click event" +
+            (properties.isEmpty() ? "" : " and the item's properties"));
+    }
+
+    /**
+     * Checks whether parameters of the provided types accept the item's properties, in the same way as
+     * {@code Pane.loadItem}: a parameter either has the primitive type of the property, or a type its class is
+     * assignable to.
+     *
+     * @param parameterTypes the types of the parameters
+     * @param propertyClasses the classes of the properties
+     * @return true if the parameters accept the properties, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    private boolean acceptsProperties(@NotNull List<String> parameterTypes, @NotNull List<String> propertyClasses) {
+        for (int index = 0; index < parameterTypes.size(); index++) {
+            String parameterType = parameterTypes.get(index);
+            String propertyClass = propertyClasses.get(index);
+
+            if (!parameterType.equals(PRIMITIVES.get(propertyClass)) &&
+                !this.methodLookup.isAssignable(propertyClass, parameterType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates the expression of a slot for the provided element. This mirrors {@code Slot.deserialize}.
+     *
+     * @param element the element specifying the slot
+     * @return the slot expression
+     * @since 0.11.3
+     */
+    @NotNull
+    private String slot(@NotNull Element element) {
+        boolean hasX = element.hasAttribute("x");
+        boolean hasY = element.hasAttribute("y");
+        boolean hasIndex = element.hasAttribute("index");
+
+        if (hasX && hasY && !hasIndex) {
+            return "Slot.fromXY(" + parseInt(element, "x") + ", " + parseInt(element, "y") + ")";
+        }
+
+        if (hasIndex && !hasX && !hasY) {
+            return "Slot.fromIndex(" + parseInt(element, "index") + ")";
+        }
+
+        throw new GuiCompileException("The combination of x, y and index attributes is invalid");
+    }
+
+    /**
+     * Creates a literal for a property of the specified type. Only the property types that are registered by default
+     * are supported, since custom property types are only known at runtime.
+     *
+     * @param type the type of the property
+     * @param value the raw value of the property
+     * @return the property literal
+     * @since 0.11.3
+     */
+    @NotNull
+    private String property(@NotNull String type, @NotNull String value) {
+        try {
+            switch (type) {
+                case "boolean":
+                    return String.valueOf(Boolean.parseBoolean(value));
+                case "byte":
+                    return "(byte) " + Byte.parseByte(value);
+                case "character":
+                    return "'" + escape(String.valueOf(value.charAt(0)), '\'') + "'";
+                case "double":
+                    double doubleValue = Double.parseDouble(value);
+
+                    if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                        throw new NumberFormatException();
+                    }
+
+                    return doubleValue + "D";
+                case "float":
+                    float floatValue = Float.parseFloat(value);
+
+                    if (Float.isNaN(floatValue) || Float.isInfinite(floatValue)) {
+                        throw new NumberFormatException();
+                    }
+
+                    return floatValue + "F";
+                case "integer":
+                    return String.valueOf(Integer.parseInt(value));
+                case "long":
+                    return Long.parseLong(value) + "L";
+                case "short":
+                    return "(short) " + Short.parseShort(value);
+                case "string":
+                    return literal(value);
+                default:
+                    throw new GuiCompileException("Property type '" + type + "' cannot be compiled");
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException exception) {
+            throw new GuiCompileException("Property value '" + value + "' is not a valid " + type, exception);
+        }
+    }
+
+    /**
+     * Converts a material id, as accepted by {@code Material.matchMaterial}, to the name of the enum constant.
+     *
+     * @param id the material id
+     * @return the name of the material constant
+     * @since 0.11.3
+     */
+    @NotNull
+    private static String material(@NotNull String id) {
+        String name = id.toUpperCase(Locale.ROOT);
+
+        if (name.startsWith("MINECRAFT:")) {
+            name = name.substring("MINECRAFT:".length());
+        }
+
+        name = name.replaceAll("\\s+", "_").replaceAll("\\W", "");
+
+        if (name.isEmpty()) {
+            throw new GuiCompileException("Can't find material for '" + id + "'");
+        }
+
+        return identifier(name);
+    }
+
+    /**
+     * Converts the value to one of the allowed enum constant names, ignoring case.
+     *
+     * @param value the value
+     * @param allowed the allowed constant names
+     * @return the constant name
+     * @since 0.11.3
+     */
+    @NotNull
+    private static String constant(@NotNull String value, @NotNull Collection<String> allowed) {
+        String name = value.toUpperCase(Locale.ROOT);
+
+        if (!allowed.contains(name)) {
+            throw new GuiCompileException("'" + value + "' is not one of " + allowed);
+        }
+
+        return name;
+    }
+
+    /**
+     * Parses the specified attribute of the element as an integer.
+     *
+     * @param element the element
+     * @param attribute the name of the attribute
+     * @return the parsed integer
+     * @since 0.11.3
+     */
+    private static int parseInt(@NotNull Element element, @NotNull String attribute) {
+        try {
+            return Integer.parseInt(element.getAttribute(attribute));
+        } catch (NumberFormatException exception) {
+            throw new GuiCompileException("Attribute '" + attribute + "' of '" + element.getNodeName() +
+                "' is not an integer", exception);
+        }
+    }
+
+    /**
+     * Checks that the provided name is a valid Java identifier and returns it.
+     *
+     * @param name the name
+     * @return the name
+     * @since 0.11.3
+     */
+    @NotNull
+    private static String identifier(@NotNull String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            throw new GuiCompileException("'" + name + "' is not a valid Java identifier");
+        }
+
+        for (int index = 1; index < name.length(); index++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(index))) {
+                throw new GuiCompileException("'" + name + "' is not a valid Java identifier");
+            }
+        }
+
+        return name;
+    }
+
+    /**
+     * Gets all child nodes of the provided element that are elements themselves.
+     *
+     * @param element the parent element
+     * @return the child elements
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static List<Element> childElements(@NotNull Element element) {
+        List<Element> elements = new ArrayList<>();
+        NodeList childNodes = element.getChildNodes();
+
+        for (int index = 0; index < childNodes.getLength(); index++) {
+            Node node = childNodes.item(index);
+
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                elements.add((Element) node);
+            }
+        }
+
+        return elements;
+    }
+
+    /**
+     * Creates a Java string literal with the provided contents.
+     *
+     * @param value the contents of the literal
+     * @return the string literal
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String literal(@NotNull String value) {
+        return '"' + escape(value, '"') + '"';
+    }
+
+    /**
+     * Escapes the value so it can be placed in a Java literal delimited by the provided quote.
+     *
+     * @param value the value to escape
+     * @param quote the quote delimiting the literal
+     * @return the escaped value
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String escape(@NotNull String value, char quote) {
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+
+            if (character == quote || character == '\\') {
+                builder.append('\\').append(character);
+            } else if (character == '\n') {
+                builder.append("\\n");
+            } else if (character == '\r') {
+                builder.append("\\r");
+            } else if (character == '\t') {
+                builder.append("\\t");
+            } else if (character < 0x20 || character > 0x7E) {
+                builder.append(String.format("\\u%04x", (int) character));
+            } else {
+                builder.append(character);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Escapes text for inclusion in a Javadoc comment.
+     *
+     * @param value the text
+     * @return the escaped text
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String escapeJavadoc(@NotNull String value) {
+        return value.replace("*/", "*&#47;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Gets the simple name of the provided type.
+     *
+     * @param type the qualified name of the type
+     * @return the simple name
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static String simpleName(@NotNull String type) {
+        return type.substring(type.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Creates a new, unique variable name with the provided prefix.
+     *
+     * @param prefix the prefix of the variable
+     * @return the variable name
+     * @since 0.11.3
+     */
+    @NotNull
+    private String variable(@NotNull String prefix) {
+        return prefix + this.variableCounter++;
+    }
+
+    /**
+     * Appends a statement to the generated method.
+     *
+     * @param statement the statement
+     * @since 0.11.3
+     */
+    private void statement(@NotNull String statement) {
+        this.body.append(INDENT).append(statement).append('\n');
+    }
+
+    static {
+        GUI_TYPES.put("barrel", "BarrelGui");
+        GUI_TYPES.put("chest", "ChestGui");
+        GUI_TYPES.put("ender-chest", "EnderChestGui");
+        GUI_TYPES.put("shulker-box", "ShulkerBoxGui");
+
+        GUI_EVENTS.put("onTopClick", CLICK_EVENT);
+        GUI_EVENTS.put("onBottomClick", CLICK_EVENT);
+        GUI_EVENTS.put("onGlobalClick", CLICK_EVENT);
+        GUI_EVENTS.put("onOutsideClick", CLICK_EVENT);
+        GUI_EVENTS.put("onTopDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onBottomDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onGlobalDrag", "org.bukkit.event.inventory.InventoryDragEvent");
+        GUI_EVENTS.put("onClose", "org.bukkit.event.inventory.InventoryCloseEvent");
+
+        PROPERTY_CLASSES.put("boolean", "java.lang.Boolean");
+        PROPERTY_CLASSES.put("byte", "java.lang.Byte");
+        PROPERTY_CLASSES.put("character", "java.lang.Character");
+        PROPERTY_CLASSES.put("double", "java.lang.Double");
+        PROPERTY_CLASSES.put("float", "java.lang.Float");
+        PROPERTY_CLASSES.put("integer", "java.lang.Integer");
+        PROPERTY_CLASSES.put("long", "java.lang.Long");
+        PROPERTY_CLASSES.put("short", "java.lang.Short");
+        PROPERTY_CLASSES.put("string", "java.lang.String");
+
+        PRIMITIVES.put("java.lang.Boolean", "boolean");
+        PRIMITIVES.put("java.lang.Byte", "byte");
+        PRIMITIVES.put("java.lang.Character", "char");
+        PRIMITIVES.put("java.lang.Double", "double");
+        PRIMITIVES.put("java.lang.Float", "float");
+        PRIMITIVES.put("java.lang.Integer", "int");
+        PRIMITIVES.put("java.lang.Long", "long");
+        PRIMITIVES.put("java.lang.Short", "short");
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Describes the public members of the class owning a compiled gui. This mirrors the reflective lookups done by
+ * {@code XMLUtil} and {@code Pane.loadItem} at runtime, so the generator can decide at build time how a method or field
+ * reference should be bound. Types are named by the qualified name of their erasure, or by their keyword for primitive
+ * types.
+ *
+ * @since 0.11.3
+ */
+public interface MethodLookup {
+
+    /**
+     * Gets the parameter types of all public methods with the specified name, including inherited ones, with one list
+     * per overload. If no such method exists, an empty list is returned.
+     *
+     * @param name the name of the method
+     * @return the parameter types of the overloads of the method
+     * @since 0.11.3
+     */
+    @NotNull
+    @Contract(pure = true)
+    List<List<String>> getParameterTypes(@NotNull String name);
+
+    /**
+     * Gets the type of the public field with the specified name, including inherited ones, like
+     * {@link Class#getField(String)} does. If no such field exists, or the field is final, null is returned.
+     *
+     * @param name the name of the field
+     * @return the type of the field or null
+     * @since 0.11.3
+     */
+    @Nullable
+    @Contract(pure = true)
+    String getFieldType(@NotNull String name);
+
+    /**
+     * Checks whether a value of the specified type can be assigned to the target type without any conversion, like
+     * {@link Class#isAssignableFrom(Class)} does. A primitive type is only assignable to itself.
+     *
+     * @param type the type of the value
+     * @param target the type to assign to
+     * @return true if the type is assignable to the target, false otherwise
+     * @since 0.11.3
+     */
+    @Contract(pure = true)
+    boolean isAssignable(@NotNull String type, @NotNull String target);
+}
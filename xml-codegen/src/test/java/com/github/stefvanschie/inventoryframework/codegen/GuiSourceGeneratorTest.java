@@ -0,0 +1,308 @@
+package com.github.stefvanschie.inventoryframework.codegen;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.type.ChestGui;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
+import com.github.stefvanschie.inventoryframework.pane.OutlinePane;
+import org.bukkit.Bukkit;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+
+import javax.tools.*;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class GuiSourceGeneratorTest {
+
+    @Test
+    void testGenerate() throws Exception {
+        String source = generateShop();
+
+        assertTrue(source.startsWith("package com.example;"));
+        assertTrue(source.contains("public static ChestGui create(" + Shop.class.getCanonicalName() +
+            " instance, Plugin plugin) {"));
+        assertTrue(source.contains("ChestGui gui = new ChestGui(3, \"Shop \\\"menu\\\"\", plugin);"));
+        assertTrue(source.contains("instance.gui = gui;"));
+        assertTrue(source.contains("gui.setOnClose(event -> instance.close());"));
+        assertTrue(source.contains(".setRepeat(true);"));
+        assertTrue(source.contains(".setPriority(Pane.Priority.LOW);"));
+        assertTrue(source.contains("new ItemStack(Material.BLACK_STAINED_GLASS_PANE, 1, (short) 0);"));
+        assertTrue(source.contains(".setSlot(Slot.fromIndex(10));"));
+        assertTrue(source.contains(".setOnClick(event -> instance.paneClick(event));"));
+        assertTrue(source.contains("new ItemStack(Material.DIAMOND, 2, (short) 0);"));
+        assertTrue(source.contains("TextHolder.deserialize(\"&bDiamond\").asItemDisplayName("));
+        assertTrue(source.contains("TextHolder.deserialize(\"Price: 120 coins\").asItemLoreAtEnd("));
+        assertTrue(source.contains("event -> instance.buy(event, 120), plugin);"));
+        assertTrue(source.contains("event -> instance.close(), plugin);"));
+        assertTrue(source.contains("instance.stone = item"));
+        assertTrue(source.contains(", Slot.fromXY(1, 0));"));
+        assertFalse(source.contains("java.lang.reflect"));
+    }
+
+    @Test
+    void testCompile(@TempDir Path output) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        assumeTrue(compiler != null, "No Java compiler is available");
+
+        String source = generateShop();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///com/example/ShopMenu.java"),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        StringJoiner classPath = new StringJoiner(File.pathSeparator);
+
+        classPath.add(System.getProperty("java.class.path"));
+
+        for (Class<?> type : new Class<?>[] {GuiSourceGeneratorTest.class, ChestGui.class, TextHolder.class,
+            Bukkit.class}) {
+            classPath.add(Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-proc:none", "-classpath", classPath.toString(), "-d",
+            output.toString());
+
+        boolean success = compiler.getTask(null, null, diagnostics, options, null, Collections.singletonList(file))
+            .call();
+
+        assertTrue(success, () -> diagnostics.getDiagnostics() + "\n" + source);
+    }
+
+    @Test
+    void testFields() throws Exception {
+        GuiSourceGenerator generator = new GuiSourceGenerator(new ReflectiveLookup(Fields.class));
+
+        assertTrue(generator.generate("", "Menu", "Fields", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" field=\"gui\"/>")).contains("instance.gui = gui;"));
+        assertTrue(generator.generate("", "Menu", "Fields", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" field=\"anyGui\"/>")).contains("instance.anyGui = gui;"));
+
+        for (String field : new String[] {"privateGui", "packageGui", "finalGui", "pane", "missing"}) {
+            assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Fields", "menu.xml",
+                parse("<chestgui title=\"a\" rows=\"1\" field=\"" + field + "\"/>")), field);
+        }
+    }
+
+    @Test
+    void testOverloads() throws Exception {
+        GuiSourceGenerator generator = new GuiSourceGenerator(new ReflectiveLookup(Overloads.class));
+
+        //XMLUtil skips methods whose parameter isn't the event
+        assertTrue(generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" onClose=\"log\"/>")).contains("event -> instance.log()"));
+        //which overload XMLUtil takes depends on the order reflection returns them in
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" onClose=\"close\"/>")));
+        //XMLUtil accepts a parameter of a subtype of the event, but not of a supertype
+        assertTrue(generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" onGlobalClick=\"craft\"/>"))
+            .contains("event -> instance.craft((" + CraftItemEvent.class.getName() + ") event)"));
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" onClose=\"any\"/>")));
+        //XMLUtil.invokeMethod looks the populate method up by the exact gui class
+        assertTrue(generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" populate=\"populate\"/>"))
+            .contains("instance.populate((Gui) gui);"));
+
+        String item = "<chestgui title=\"a\" rows=\"1\"><outlinepane x=\"0\" y=\"0\" length=\"1\" height=\"1\">" +
+            "<item id=\"stone\" onClick=\"%s\"><properties><property type=\"integer\">1</property></properties>" +
+            "</item></outlinepane></chestgui>";
+
+        //Pane.loadItem takes the first method with the name, matching or not
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse(String.format(item, "log"))));
+        //properties match primitive parameters only exactly, like reflection
+        assertTrue(generator.generate("", "Menu", "Overloads", "menu.xml", parse(String.format(item, "buy")))
+            .contains("event -> instance.buy(event, 1)"));
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Overloads", "menu.xml",
+            parse(String.format(item, "buyLong"))));
+        //the event parameter of an item may be a supertype of the click event
+        assertTrue(generator.generate("", "Menu", "Overloads", "menu.xml", parse(String.format(item, "any")))
+            .contains("event -> instance.any(event)"));
+    }
+
+    @Test
+    void testUnsupported() throws Exception {
+        GuiSourceGenerator generator = new GuiSourceGenerator(new ReflectiveLookup(Object.class));
+
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Owner", "menu.xml",
+            parse("<gui type=\"anvil\" title=\"a\"/>")));
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Owner", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\"><label length=\"1\" height=\"1\"/></chestgui>")));
+        assertThrows(GuiCompileException.class, () -> generator.generate("", "Menu", "Owner", "menu.xml",
+            parse("<chestgui title=\"a\" rows=\"1\" onClose=\"missing\"/>")));
+    }
+
+    private String generateShop() throws Exception {
+        GuiSourceGenerator generator = new GuiSourceGenerator(new ReflectiveLookup(Shop.class));
+
+        try (InputStream inputStream = getClass().getResourceAsStream("/test-gui.xml")) {
+            return generator.generate("com.example", "ShopMenu", Shop.class.getCanonicalName(), "test-gui.xml",
+                parse(inputStream));
+        }
+    }
+
+    private static Element parse(String xml) throws Exception {
+        return parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Element parse(InputStream inputStream) throws Exception {
+        Element element = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream)
+            .getDocumentElement();
+
+        element.normalize();
+
+        return element;
+    }
+
+    /**
+     * Looks members up with reflection, in the same way as they're looked up when loading a gui at runtime.
+     */
+    private static final class ReflectiveLookup implements MethodLookup {
+
+        private final Class<?> owner;
+
+        private ReflectiveLookup(Class<?> owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public List<List<String>> getParameterTypes(String name) {
+            List<List<String>> overloads = new ArrayList<>();
+
+            for (Method method : owner.getMethods()) {
+                if (!method.getName().equals(name)) {
+                    continue;
+                }
+
+                List<String> parameterTypes = new ArrayList<>();
+
+                for (Class<?> parameterType : method.getParameterTypes()) {
+                    parameterTypes.add(parameterType.getCanonicalName());
+                }
+
+                overloads.add(parameterTypes);
+            }
+
+            return overloads;
+        }
+
+        @Override
+        public String getFieldType(String name) {
+            try {
+                Field field = owner.getField(name);
+
+                return Modifier.isFinal(field.getModifiers()) ? null : field.getType().getCanonicalName();
+            } catch (NoSuchFieldException exception) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean isAssignable(String type, String target) {
+            try {
+                return load(target).isAssignableFrom(load(type));
+            } catch (ClassNotFoundException exception) {
+                return false;
+            }
+        }
+
+        private static Class<?> load(String name) throws ClassNotFoundException {
+            switch (name) {
+                case "boolean":
+                    return boolean.class;
+                case "byte":
+                    return byte.class;
+                case "char":
+                    return char.class;
+                case "double":
+                    return double.class;
+                case "float":
+                    return float.class;
+                case "int":
+                    return int.class;
+                case "long":
+                    return long.class;
+                case "short":
+                    return short.class;
+                default:
+                    return Class.forName(name);
+            }
+        }
+    }
+
+    public static class Shop {
+
+        public ChestGui gui;
+
+        public GuiItem stone;
+
+        public void close() {}
+
+        public void paneClick(InventoryClickEvent event) {}
+
+        public void buy(InventoryClickEvent event, int price) {}
+    }
+
+    public static class Fields {
+
+        public ChestGui gui;
+
+        public Gui anyGui;
+
+        private ChestGui privateGui;
+
+        ChestGui packageGui;
+
+        public final ChestGui finalGui = null;
+
+        public OutlinePane pane;
+    }
+
+    public static class Overloads {
+
+        public void log() {}
+
+        public void log(String message) {}
+
+        public void close() {}
+
+        public void close(InventoryCloseEvent event) {}
+
+        public void craft(CraftItemEvent event) {}
+
+        public void any(InventoryEvent event) {}
+
+        public void populate(Gui gui) {}
+
+        public void populate(ChestGui gui) {}
+
+        public void buy(InventoryClickEvent event, int amount) {}
+
+        public void buyLong(InventoryClickEvent event, long amount) {}
+    }
+}